@@ -5,6 +5,7 @@
 
 package io.opentelemetry.api.trace;
 
+import io.opentelemetry.api.internal.ImmutableSpanContext;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -26,8 +27,54 @@ import org.openjdk.jmh.annotations.Warmup;
 @Threads(1)
 public class SpanIdBenchmark {
 
+  private static final String TRACE_ID = "0102030405060708090a0b0c0d0e0f00";
+  private static final long TRACE_ID_HIGH = 0x0102030405060708L;
+  private static final long TRACE_ID_LOW = 0x090a0b0c0d0e0f00L;
+  private static final long SPAN_ID = 0x0807060504030201L;
+
   @Benchmark
   public byte[] getSpanIdBytes() {
     return SpanContext.getInvalid().getSpanIdBytes();
   }
+
+  @Benchmark
+  public SpanContext createWithHexSpanId() {
+    return ImmutableSpanContext.create(
+        TRACE_ID,
+        SpanId.fromLong(SPAN_ID),
+        TraceFlags.getSampled(),
+        TraceState.getDefault(),
+        /* remote= */ false,
+        /* skipIdValidation= */ true);
+  }
+
+  @Benchmark
+  public SpanContext createWithBinarySpanId() {
+    return ImmutableSpanContext.create(
+        TRACE_ID,
+        TRACE_ID_HIGH,
+        TRACE_ID_LOW,
+        SPAN_ID,
+        TraceFlags.getSampled(),
+        TraceState.getDefault(),
+        /* remote= */ false);
+  }
+
+  @Benchmark
+  public String createWithBinarySpanIdAndGetSpanId() {
+    return createWithBinarySpanId().getSpanId();
+  }
+
+  @Benchmark
+  public byte[] createWithBinaryIdsAndGetTraceIdBytes() {
+    return ImmutableSpanContext.create(
+            null,
+            TRACE_ID_HIGH,
+            TRACE_ID_LOW,
+            SPAN_ID,
+            TraceFlags.getSampled(),
+            TraceState.getDefault(),
+            /* remote= */ false)
+        .getTraceIdBytes();
+  }
 }
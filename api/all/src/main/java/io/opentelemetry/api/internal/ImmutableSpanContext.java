@@ -5,12 +5,12 @@
 
 package io.opentelemetry.api.internal;
 
-import com.google.auto.value.AutoValue;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -18,27 +18,59 @@ import javax.annotation.concurrent.Immutable;
  * any time.
  */
 @Immutable
-@AutoValue
-public abstract class ImmutableSpanContext implements SpanContext {
+public final class ImmutableSpanContext implements SpanContext {
 
   public static final SpanContext INVALID =
-      createInternal(
+      new ImmutableSpanContext(
           TraceId.getInvalid(),
+          0,
+          0,
+          /* binaryTraceId= */ false,
           SpanId.getInvalid(),
+          0,
           TraceFlags.getDefault(),
           TraceState.getDefault(),
           /* remote= */ false,
           /* valid= */ false);
 
-  private static AutoValue_ImmutableSpanContext createInternal(
-      String traceId,
-      String spanId,
+  // IDs are kept in the form they were created with. IDs created in binary form are only encoded
+  // to hex if requested, and IDs created in hex form are only decoded if requested.
+  @Nullable private final String traceIdHex;
+  private final long traceIdHigh;
+  private final long traceIdLow;
+  private final boolean binaryTraceId;
+  @Nullable private final String spanIdHex;
+  private final long spanIdLong;
+  private final TraceFlags traceFlags;
+  private final TraceState traceState;
+  private final boolean remote;
+  private final boolean valid;
+
+  // Lazily encoded hex of binary IDs. Racy caching is safe since strings are immutable.
+  @Nullable private String encodedTraceId;
+  @Nullable private String encodedSpanId;
+
+  private ImmutableSpanContext(
+      @Nullable String traceIdHex,
+      long traceIdHigh,
+      long traceIdLow,
+      boolean binaryTraceId,
+      @Nullable String spanIdHex,
+      long spanIdLong,
       TraceFlags traceFlags,
       TraceState traceState,
       boolean remote,
       boolean valid) {
-    return new AutoValue_ImmutableSpanContext(
-        traceId, spanId, traceFlags, traceState, remote, valid);
+    this.traceIdHex = traceIdHex;
+    this.traceIdHigh = traceIdHigh;
+    this.traceIdLow = traceIdLow;
+    this.binaryTraceId = binaryTraceId;
+    this.spanIdHex = spanIdHex;
+    this.spanIdLong = spanIdLong;
+    this.traceFlags = traceFlags;
+    this.traceState = traceState;
+    this.remote = remote;
+    this.valid = valid;
   }
 
   /**
@@ -64,18 +96,301 @@ public abstract class ImmutableSpanContext implements SpanContext {
       boolean remote,
       boolean skipIdValidation) {
     if (skipIdValidation || (SpanId.isValid(spanIdHex) && TraceId.isValid(traceIdHex))) {
-      return createInternal(
-          traceIdHex, spanIdHex, traceFlags, traceState, remote, /* valid= */ true);
+      return new ImmutableSpanContext(
+          traceIdHex,
+          0,
+          0,
+          /* binaryTraceId= */ false,
+          spanIdHex,
+          0,
+          traceFlags,
+          traceState,
+          remote,
+          /* valid= */ true);
     }
-    return createInternal(
+    return new ImmutableSpanContext(
         TraceId.getInvalid(),
+        0,
+        0,
+        /* binaryTraceId= */ false,
         SpanId.getInvalid(),
+        0,
         traceFlags,
         traceState,
         remote,
         /* valid= */ false);
   }
 
+  /**
+   * Creates a new valid {@code SpanContext} from identifiers in binary form. Hex forms of the
+   * identifiers are only computed if {@link #getTraceId()} or {@link #getSpanId()} is called.
+   *
+   * @param traceIdHex the hex form of the trace identifier if it has already been computed, or
+   *     {@code null}.
+   * @param traceIdHigh the high 64 bits of the trace identifier.
+   * @param traceIdLow the low 64 bits of the trace identifier.
+   * @param spanId the span identifier, which must not be {@code 0}.
+   * @param traceFlags the trace flags of the {@code SpanContext}.
+   * @param traceState the trace state for the {@code SpanContext}.
+   * @param remote the remote flag for the {@code SpanContext}.
+   * @return a new {@code SpanContext} with the given identifiers and options.
+   */
+  public static SpanContext create(
+      @Nullable String traceIdHex,
+      long traceIdHigh,
+      long traceIdLow,
+      long spanId,
+      TraceFlags traceFlags,
+      TraceState traceState,
+      boolean remote) {
+    return new ImmutableSpanContext(
+        traceIdHex,
+        traceIdHigh,
+        traceIdLow,
+        /* binaryTraceId= */ true,
+        null,
+        spanId,
+        traceFlags,
+        traceState,
+        remote,
+        /* valid= */ true);
+  }
+
+  /**
+   * Creates a new valid {@code SpanContext} in the same trace as {@code parentSpanContext}, with a
+   * span identifier in binary form. The trace identifier is shared with the parent in whichever
+   * forms the parent already has.
+   *
+   * @param parentSpanContext the valid {@code SpanContext} of the parent span.
+   * @param spanId the span identifier, which must not be {@code 0}.
+   * @param traceFlags the trace flags of the {@code SpanContext}.
+   * @param traceState the trace state for the {@code SpanContext}.
+   * @param remote the remote flag for the {@code SpanContext}.
+   * @return a new {@code SpanContext} with the given identifiers and options.
+   */
+  public static SpanContext createChild(
+      SpanContext parentSpanContext,
+      long spanId,
+      TraceFlags traceFlags,
+      TraceState traceState,
+      boolean remote) {
+    if (parentSpanContext instanceof ImmutableSpanContext) {
+      ImmutableSpanContext parent = (ImmutableSpanContext) parentSpanContext;
+      String traceIdHex = parent.traceIdHex != null ? parent.traceIdHex : parent.encodedTraceId;
+      return new ImmutableSpanContext(
+          traceIdHex,
+          parent.traceIdHigh,
+          parent.traceIdLow,
+          parent.binaryTraceId,
+          null,
+          spanId,
+          traceFlags,
+          traceState,
+          remote,
+          /* valid= */ true);
+    }
+    return new ImmutableSpanContext(
+        parentSpanContext.getTraceId(),
+        0,
+        0,
+        /* binaryTraceId= */ false,
+        null,
+        spanId,
+        traceFlags,
+        traceState,
+        remote,
+        /* valid= */ true);
+  }
+
+  @Override
+  public String getTraceId() {
+    String traceId = traceIdHex;
+    if (traceId != null) {
+      return traceId;
+    }
+    traceId = encodedTraceId;
+    if (traceId == null) {
+      traceId = TraceId.fromLongs(traceIdHigh, traceIdLow);
+      encodedTraceId = traceId;
+    }
+    return traceId;
+  }
+
+  /**
+   * Returns whether the trace identifier is held in binary form, so that {@link #getTraceIdHigh()}
+   * and {@link #getTraceIdLow()} do not parse it.
+   */
+  public boolean isTraceIdBinary() {
+    return binaryTraceId || traceIdHex == null;
+  }
+
+  /** Returns the high 64 bits of the trace identifier. */
+  public long getTraceIdHigh() {
+    if (binaryTraceId || traceIdHex == null) {
+      return traceIdHigh;
+    }
+    return OtelEncodingUtils.longFromBase16String(traceIdHex, 0);
+  }
+
+  /** Returns the low 64 bits of the trace identifier. */
+  public long getTraceIdLow() {
+    if (binaryTraceId || traceIdHex == null) {
+      return traceIdLow;
+    }
+    return OtelEncodingUtils.longFromBase16String(traceIdHex, TraceId.getLength() / 2);
+  }
+
+  @Override
+  public byte[] getTraceIdBytes() {
+    byte[] bytes = new byte[TraceId.getLength() / 2];
+    OtelEncodingUtils.longToBytes(getTraceIdHigh(), bytes, 0);
+    OtelEncodingUtils.longToBytes(getTraceIdLow(), bytes, 8);
+    return bytes;
+  }
+
   @Override
-  public abstract boolean isValid();
+  public String getSpanId() {
+    String spanId = spanIdHex;
+    if (spanId != null) {
+      return spanId;
+    }
+    spanId = encodedSpanId;
+    if (spanId == null) {
+      spanId = SpanId.fromLong(spanIdLong);
+      encodedSpanId = spanId;
+    }
+    return spanId;
+  }
+
+  /**
+   * Returns whether the span identifier is held in binary form, so that {@link #getSpanIdLong()}
+   * does not parse it.
+   */
+  public boolean isSpanIdBinary() {
+    return spanIdHex == null;
+  }
+
+  /** Returns the span identifier as a {@code long}. */
+  public long getSpanIdLong() {
+    if (spanIdHex == null) {
+      return spanIdLong;
+    }
+    return OtelEncodingUtils.longFromBase16String(spanIdHex, 0);
+  }
+
+  @Override
+  public byte[] getSpanIdBytes() {
+    byte[] bytes = new byte[SpanId.getLength() / 2];
+    OtelEncodingUtils.longToBytes(getSpanIdLong(), bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * Writes the hex form of the span identifier to {@code dest}, without creating a {@link String}
+   * for span identifiers in binary form.
+   */
+  public void copySpanIdChars(char[] dest, int destOffset) {
+    String spanId = spanIdHex != null ? spanIdHex : encodedSpanId;
+    if (spanId != null) {
+      spanId.getChars(0, spanId.length(), dest, destOffset);
+    } else {
+      OtelEncodingUtils.longToBase16String(spanIdLong, dest, destOffset);
+    }
+  }
+
+  @Override
+  public TraceFlags getTraceFlags() {
+    return traceFlags;
+  }
+
+  @Override
+  public TraceState getTraceState() {
+    return traceState;
+  }
+
+  @Override
+  public boolean isRemote() {
+    return remote;
+  }
+
+  @Override
+  public boolean isValid() {
+    return valid;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ImmutableSpanContext)) {
+      return false;
+    }
+    ImmutableSpanContext that = (ImmutableSpanContext) o;
+    return traceIdEquals(that)
+        && spanIdEquals(that)
+        && traceFlags.equals(that.traceFlags)
+        && traceState.equals(that.traceState)
+        && remote == that.remote
+        && valid == that.valid;
+  }
+
+  @Override
+  public int hashCode() {
+    int h = 1;
+    h *= 1000003;
+    // Hashes the binary form, so that equal contexts hash the same whichever form they hold.
+    h ^= hashLong(getTraceIdHigh());
+    h *= 1000003;
+    h ^= hashLong(getTraceIdLow());
+    h *= 1000003;
+    h ^= hashLong(getSpanIdLong());
+    h *= 1000003;
+    h ^= traceFlags.hashCode();
+    h *= 1000003;
+    h ^= traceState.hashCode();
+    h *= 1000003;
+    h ^= remote ? 1231 : 1237;
+    h *= 1000003;
+    h ^= valid ? 1231 : 1237;
+    return h;
+  }
+
+  // Compares the binary forms if both are binary, not to encode them to hex.
+  private boolean traceIdEquals(ImmutableSpanContext that) {
+    if (isTraceIdBinary() && that.isTraceIdBinary()) {
+      return traceIdHigh == that.traceIdHigh && traceIdLow == that.traceIdLow;
+    }
+    return getTraceId().equals(that.getTraceId());
+  }
+
+  private boolean spanIdEquals(ImmutableSpanContext that) {
+    if (isSpanIdBinary() && that.isSpanIdBinary()) {
+      return spanIdLong == that.spanIdLong;
+    }
+    return getSpanId().equals(that.getSpanId());
+  }
+
+  /** Vendored {@link Long#hashCode(long)} to support Android. */
+  private static int hashLong(long value) {
+    return (int) (value ^ (value >>> 32));
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableSpanContext{"
+        + "traceId="
+        + getTraceId()
+        + ", spanId="
+        + getSpanId()
+        + ", traceFlags="
+        + traceFlags
+        + ", traceState="
+        + traceState
+        + ", remote="
+        + remote
+        + ", valid="
+        + valid
+        + "}";
+  }
 }
@@ -86,6 +86,20 @@ public final class OtelEncodingUtils {
     byteToBase16((byte) (value & 0xFFL), dest, destOffset + 7 * BYTE_BASE16);
   }
 
+  /**
+   * Writes the big-endian bytes of the specified {@code value} to the {@code dest}.
+   *
+   * @param value the value to be converted.
+   * @param dest the destination byte array.
+   * @param destOffset the starting offset in the destination byte array.
+   */
+  public static void longToBytes(long value, byte[] dest, int destOffset) {
+    for (int i = destOffset + 7; i >= destOffset; i--) {
+      dest[i] = (byte) value;
+      value >>>= 8;
+    }
+  }
+
   /** Returns the {@code byte[]} decoded from the given hex {@link CharSequence}. */
   public static byte[] bytesFromBase16(CharSequence value, int length) {
     byte[] result = new byte[length / 2];
@@ -8,6 +8,7 @@ package io.opentelemetry.api.trace.propagation;
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.decodeTraceState;
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
 
+import io.opentelemetry.api.internal.ImmutableSpanContext;
 import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.internal.TemporaryBuffers;
 import io.opentelemetry.api.trace.Span;
@@ -113,8 +114,12 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
 
     chars[SPAN_ID_OFFSET - 1] = TRACEPARENT_DELIMITER;
 
-    String spanId = spanContext.getSpanId();
-    spanId.getChars(0, spanId.length(), chars, SPAN_ID_OFFSET);
+    if (spanContext instanceof ImmutableSpanContext) {
+      ((ImmutableSpanContext) spanContext).copySpanIdChars(chars, SPAN_ID_OFFSET);
+    } else {
+      String spanId = spanContext.getSpanId();
+      spanId.getChars(0, spanId.length(), chars, SPAN_ID_OFFSET);
+    }
 
     chars[TRACE_OPTION_OFFSET - 1] = TRACEPARENT_DELIMITER;
     String traceFlagsHex = spanContext.getTraceFlags().asHex();
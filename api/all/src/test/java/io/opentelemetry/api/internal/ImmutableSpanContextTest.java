@@ -91,4 +91,110 @@ public class ImmutableSpanContextTest {
 
     assertThat(spanContext.isValid()).isTrue();
   }
+
+  @Test
+  public void binaryIds() {
+    SpanContext spanContext =
+        ImmutableSpanContext.create(
+            null, 0, 0x61, 0x61, TraceFlags.getDefault(), TraceState.getDefault(), false);
+
+    assertThat(spanContext.isValid()).isTrue();
+    assertThat(spanContext.getTraceId()).isEqualTo(TRACE_ID);
+    assertThat(spanContext.getSpanId()).isEqualTo(SPAN_ID);
+    assertThat(spanContext.getTraceIdBytes())
+        .isEqualTo(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0x61});
+    assertThat(spanContext.getSpanIdBytes()).isEqualTo(new byte[] {0, 0, 0, 0, 0, 0, 0, 0x61});
+    assertThat(((ImmutableSpanContext) spanContext).isTraceIdBinary()).isTrue();
+    assertThat(((ImmutableSpanContext) spanContext).isSpanIdBinary()).isTrue();
+  }
+
+  @Test
+  public void hexIds_decodedToBinary() {
+    ImmutableSpanContext spanContext =
+        (ImmutableSpanContext)
+            ImmutableSpanContext.create(
+                "0102030405060708090a0b0c0d0e0f10",
+                "1112131415161718",
+                TraceFlags.getDefault(),
+                TraceState.getDefault(),
+                false,
+                false);
+
+    assertThat(spanContext.getTraceIdHigh()).isEqualTo(0x0102030405060708L);
+    assertThat(spanContext.getTraceIdLow()).isEqualTo(0x090a0b0c0d0e0f10L);
+    assertThat(spanContext.getSpanIdLong()).isEqualTo(0x1112131415161718L);
+    assertThat(spanContext.isTraceIdBinary()).isFalse();
+    assertThat(spanContext.isSpanIdBinary()).isFalse();
+  }
+
+  @Test
+  public void createChild_sharesTraceId() {
+    SpanContext parent =
+        ImmutableSpanContext.create(
+            null, 0, 0x61, 0x62, TraceFlags.getSampled(), TraceState.getDefault(), false);
+    SpanContext child =
+        ImmutableSpanContext.createChild(
+            parent, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false);
+
+    assertThat(child.getTraceId()).isEqualTo(TRACE_ID);
+    assertThat(child.getSpanId()).isEqualTo(SPAN_ID);
+
+    SpanContext remoteParent =
+        SpanContext.createFromRemoteParent(
+            TRACE_ID, "0000000000000062", TraceFlags.getSampled(), TraceState.getDefault());
+    SpanContext remoteChild =
+        ImmutableSpanContext.createChild(
+            remoteParent, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false);
+
+    assertThat(remoteChild.getTraceId()).isSameAs(remoteParent.getTraceId());
+    assertThat(remoteChild).isEqualTo(child);
+  }
+
+  @Test
+  public void binaryIds_equalHexIds() {
+    SpanContext binary =
+        ImmutableSpanContext.create(
+            null, 0, 0x61, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false);
+    SpanContext hex =
+        ImmutableSpanContext.create(
+            TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault(), false, false);
+
+    assertThat(binary).isEqualTo(hex);
+    assertThat(hex).isEqualTo(binary);
+    assertThat(binary.hashCode()).isEqualTo(hex.hashCode());
+    assertThat(binary.toString()).isEqualTo(hex.toString());
+    assertThat(binary)
+        .isNotEqualTo(
+            ImmutableSpanContext.create(
+                null, 0, 0x61, 0x62, TraceFlags.getSampled(), TraceState.getDefault(), false));
+  }
+
+  @Test
+  public void binaryIds_equality() {
+    SpanContext spanContext =
+        ImmutableSpanContext.create(
+            null, 1, 0x61, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false);
+
+    assertThat(spanContext)
+        .isEqualTo(
+            ImmutableSpanContext.create(
+                null, 1, 0x61, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false));
+    assertThat(spanContext.hashCode())
+        .isEqualTo(
+            ImmutableSpanContext.create(
+                    null, 1, 0x61, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false)
+                .hashCode());
+    assertThat(spanContext)
+        .isNotEqualTo(
+            ImmutableSpanContext.create(
+                null, 2, 0x61, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false));
+    assertThat(spanContext)
+        .isNotEqualTo(
+            ImmutableSpanContext.create(
+                null, 1, 0x62, 0x61, TraceFlags.getSampled(), TraceState.getDefault(), false));
+    assertThat(spanContext)
+        .isNotEqualTo(
+            ImmutableSpanContext.create(
+                null, 1, 0x61, 0x62, TraceFlags.getSampled(), TraceState.getDefault(), false));
+  }
 }
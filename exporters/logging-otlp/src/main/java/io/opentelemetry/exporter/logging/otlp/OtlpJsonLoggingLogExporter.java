@@ -5,15 +5,13 @@
 
 package io.opentelemetry.exporter.logging.otlp;
 
-import static io.opentelemetry.exporter.logging.otlp.JsonUtil.JSON_FACTORY;
-
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import io.opentelemetry.exporter.internal.otlp.logs.ResourceLogsMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.logs.data.LogData;
 import io.opentelemetry.sdk.logs.export.LogExporter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -37,14 +35,14 @@ public final class OtlpJsonLoggingLogExporter implements LogExporter {
   public CompletableResultCode export(Collection<LogData> logs) {
     ResourceLogsMarshaler[] allResourceLogs = ResourceLogsMarshaler.create(logs);
     for (ResourceLogsMarshaler resourceLogs : allResourceLogs) {
-      SegmentedStringWriter sw = new SegmentedStringWriter(JSON_FACTORY._getBufferRecycler());
-      try (JsonGenerator gen = JsonUtil.create(sw)) {
-        resourceLogs.writeJsonTo(gen);
+      ByteArrayOutputStream json = new ByteArrayOutputStream();
+      try {
+        resourceLogs.writeJsonTo(json);
       } catch (IOException e) {
         // Shouldn't happen in practice, just skip it.
         continue;
       }
-      logger.log(Level.INFO, sw.getAndClear());
+      logger.log(Level.INFO, new String(json.toByteArray(), StandardCharsets.UTF_8));
     }
     return CompletableResultCode.ofSuccess();
   }
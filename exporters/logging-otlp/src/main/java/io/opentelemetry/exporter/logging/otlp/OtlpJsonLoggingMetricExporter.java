@@ -5,17 +5,15 @@
 
 package io.opentelemetry.exporter.logging.otlp;
 
-import static io.opentelemetry.exporter.logging.otlp.JsonUtil.JSON_FACTORY;
-
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import io.opentelemetry.exporter.internal.otlp.metrics.ResourceMetricsMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -70,14 +68,14 @@ public final class OtlpJsonLoggingMetricExporter implements MetricExporter {
   public CompletableResultCode export(Collection<MetricData> metrics) {
     ResourceMetricsMarshaler[] allResourceMetrics = ResourceMetricsMarshaler.create(metrics);
     for (ResourceMetricsMarshaler resourceMetrics : allResourceMetrics) {
-      SegmentedStringWriter sw = new SegmentedStringWriter(JSON_FACTORY._getBufferRecycler());
-      try (JsonGenerator gen = JsonUtil.create(sw)) {
-        resourceMetrics.writeJsonTo(gen);
+      ByteArrayOutputStream json = new ByteArrayOutputStream();
+      try {
+        resourceMetrics.writeJsonTo(json);
       } catch (IOException e) {
         // Shouldn't happen in practice, just skip it.
         continue;
       }
-      logger.log(Level.INFO, sw.getAndClear());
+      logger.log(Level.INFO, new String(json.toByteArray(), StandardCharsets.UTF_8));
     }
     return CompletableResultCode.ofSuccess();
   }
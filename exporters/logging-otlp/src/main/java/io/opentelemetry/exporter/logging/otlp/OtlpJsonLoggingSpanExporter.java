@@ -5,13 +5,13 @@
 
 package io.opentelemetry.exporter.logging.otlp;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import io.opentelemetry.exporter.internal.otlp.traces.ResourceSpansMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -36,15 +36,14 @@ public final class OtlpJsonLoggingSpanExporter implements SpanExporter {
   public CompletableResultCode export(Collection<SpanData> spans) {
     ResourceSpansMarshaler[] allResourceSpans = ResourceSpansMarshaler.create(spans);
     for (ResourceSpansMarshaler resourceSpans : allResourceSpans) {
-      SegmentedStringWriter sw =
-          new SegmentedStringWriter(JsonUtil.JSON_FACTORY._getBufferRecycler());
-      try (JsonGenerator gen = JsonUtil.create(sw)) {
-        resourceSpans.writeJsonTo(gen);
+      ByteArrayOutputStream json = new ByteArrayOutputStream();
+      try {
+        resourceSpans.writeJsonTo(json);
       } catch (IOException e) {
         // Shouldn't happen in practice, just skip it.
         continue;
       }
-      logger.log(Level.INFO, sw.getAndClear());
+      logger.log(Level.INFO, new String(json.toByteArray(), StandardCharsets.UTF_8));
     }
     return CompletableResultCode.ofSuccess();
   }
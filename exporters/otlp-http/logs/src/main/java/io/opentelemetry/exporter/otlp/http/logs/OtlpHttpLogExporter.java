@@ -41,6 +41,16 @@ public final class OtlpHttpLogExporter implements LogExporter {
     return new OtlpHttpLogExporterBuilder();
   }
 
+  /**
+   * Returns the number of bytes {@code log} adds to the requests of this exporter, to limit the
+   * size of batches with {@link
+   * io.opentelemetry.sdk.logs.export.BatchLogProcessorBuilder#setMaxExportBatchSizeBytes}, for
+   * example {@code setMaxExportBatchSizeBytes(1024 * 1024, OtlpHttpLogExporter::getLogSize)}.
+   */
+  public static long getLogSize(LogData log) {
+    return LogsRequestMarshaler.getLogSize(log);
+  }
+
   /**
    * Submits all the given logs in a single batch to the OpenTelemetry collector.
    *
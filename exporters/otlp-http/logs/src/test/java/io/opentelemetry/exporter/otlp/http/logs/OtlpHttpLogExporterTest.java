@@ -133,6 +133,8 @@ class OtlpHttpLogExporterTest {
         .doesNotThrowAnyException();
     assertThatCode(() -> OtlpHttpLogExporter.builder().setCompression("none"))
         .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpLogExporter.builder().setGzipCompressionLevel(1))
+        .doesNotThrowAnyException();
 
     assertThatCode(
             () -> OtlpHttpLogExporter.builder().addHeader("foo", "bar").addHeader("baz", "qux"))
@@ -151,6 +153,15 @@ class OtlpHttpLogExporterTest {
                         "foobar".getBytes(StandardCharsets.UTF_8),
                         "foobar".getBytes(StandardCharsets.UTF_8)))
         .doesNotThrowAnyException();
+
+    assertThatCode(() -> OtlpHttpLogExporter.builder().setMaxConcurrentRequests(1))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpLogExporter.builder().setConnectionPool(0, Duration.ofSeconds(10)))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpLogExporter.builder().setPingInterval(Duration.ZERO))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpLogExporter.builder().setPingInterval(Duration.ofSeconds(30)))
+        .doesNotThrowAnyException();
   }
 
   @Test
@@ -192,6 +203,28 @@ class OtlpHttpLogExporterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage(
             "Unsupported compression method. Supported compression methods include: gzip, none.");
+    assertThatThrownBy(() -> OtlpHttpLogExporter.builder().setGzipCompressionLevel(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("level must be between 1 and 9");
+    assertThatThrownBy(() -> OtlpHttpLogExporter.builder().setGzipCompressionLevel(10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("level must be between 1 and 9");
+
+    assertThatThrownBy(() -> OtlpHttpLogExporter.builder().setMaxConcurrentRequests(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentRequests must be positive");
+    assertThatThrownBy(() -> OtlpHttpLogExporter.builder().setConnectionPool(-1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxIdleConnections must be non-negative");
+    assertThatThrownBy(() -> OtlpHttpLogExporter.builder().setConnectionPool(1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("keepAlive must be positive");
+    assertThatThrownBy(() -> OtlpHttpLogExporter.builder().setConnectionPool(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("keepAlive");
+    assertThatThrownBy(() -> OtlpHttpLogExporter.builder().setPingInterval(Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("pingInterval must be non-negative");
   }
 
   @Test
@@ -250,6 +283,18 @@ class OtlpHttpLogExporterTest {
     assertThat(parseRequestBody(gzipDecompress(request.content().array()))).isEqualTo(payload);
   }
 
+  @Test
+  void testExportGzipCompressionLevel() {
+    server.enqueue(successResponse());
+    OtlpHttpLogExporter exporter = builder.setGzipCompressionLevel(1).build();
+
+    ExportLogsServiceRequest payload = exportAndAssertResult(exporter, /* expectedResult= */ true);
+    AggregatedHttpRequest request = server.takeRequest().request();
+    assertRequestCommon(request);
+    assertThat(request.headers().get("Content-Encoding")).isEqualTo("gzip");
+    assertThat(parseRequestBody(gzipDecompress(request.content().array()))).isEqualTo(payload);
+  }
+
   private static void assertRequestCommon(AggregatedHttpRequest request) {
     assertThat(request.method()).isEqualTo(HttpMethod.POST);
     assertThat(request.path()).isEqualTo("/v1/logs");
@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.otlp.http.metrics;
 import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
 import io.opentelemetry.exporter.internal.okhttp.OkHttpExporterBuilder;
 import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
 import io.opentelemetry.sdk.metrics.InstrumentType;
@@ -68,13 +69,21 @@ public final class OtlpHttpMetricExporterBuilder {
    */
   public OtlpHttpMetricExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
     delegate.setCompression(compressionMethod);
     return this;
   }
 
+  /**
+   * Compresses payloads with gzip at the compression {@code level}, from 1, the fastest, to 9, the
+   * best compression. Lower levels use less CPU but send larger payloads. Replaces the method set
+   * with {@link #setCompression(String)}.
+   */
+  public OtlpHttpMetricExporterBuilder setGzipCompressionLevel(int level) {
+    checkArgument(level >= 1 && level <= 9, "level must be between 1 and 9");
+    delegate.setCompressor(GzipCompressor.create(level));
+    return this;
+  }
+
   /** Add header to requests. */
   public OtlpHttpMetricExporterBuilder addHeader(String key, String value) {
     delegate.addHeader(key, value);
@@ -99,6 +108,42 @@ public final class OtlpHttpMetricExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of export requests sent concurrently to the collector. Further requests
+   * wait for one to complete. Requests are multiplexed over HTTP/2 connections where possible. If
+   * unset, defaults to 64.
+   */
+  public OtlpHttpMetricExporterBuilder setMaxConcurrentRequests(int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+    delegate.setMaxConcurrentRequests(maxConcurrentRequests);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of idle connections to the collector to keep open, and the time to keep
+   * them open while idle. If unset, defaults to 5 connections kept for 5 minutes.
+   */
+  public OtlpHttpMetricExporterBuilder setConnectionPool(
+      int maxIdleConnections, Duration keepAlive) {
+    requireNonNull(keepAlive, "keepAlive");
+    checkArgument(maxIdleConnections >= 0, "maxIdleConnections must be non-negative");
+    checkArgument(!keepAlive.isNegative() && !keepAlive.isZero(), "keepAlive must be positive");
+    delegate.setConnectionPool(maxIdleConnections, keepAlive);
+    return this;
+  }
+
+  /**
+   * Sets the interval at which to send HTTP/2 pings to the collector, to keep connections alive
+   * through proxies and load balancers and detect broken connections. If unset, or set to zero,
+   * pings are not sent.
+   */
+  public OtlpHttpMetricExporterBuilder setPingInterval(Duration pingInterval) {
+    requireNonNull(pingInterval, "pingInterval");
+    checkArgument(!pingInterval.isNegative(), "pingInterval must be non-negative");
+    delegate.setPingInterval(pingInterval);
+    return this;
+  }
+
   /**
    * Set the {@link AggregationTemporalitySelector} used for {@link
    * MetricExporter#getAggregationTemporality(InstrumentType)}.
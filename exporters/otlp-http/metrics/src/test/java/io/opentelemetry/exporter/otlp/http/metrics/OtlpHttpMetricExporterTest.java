@@ -131,6 +131,8 @@ class OtlpHttpMetricExporterTest {
         .doesNotThrowAnyException();
     assertThatCode(() -> OtlpHttpMetricExporter.builder().setCompression("none"))
         .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpMetricExporter.builder().setGzipCompressionLevel(1))
+        .doesNotThrowAnyException();
 
     assertThatCode(
             () -> OtlpHttpMetricExporter.builder().addHeader("foo", "bar").addHeader("baz", "qux"))
@@ -167,6 +169,16 @@ class OtlpHttpMetricExporterTest {
                 .build()
                 .getAggregationTemporality(InstrumentType.COUNTER))
         .isEqualTo(AggregationTemporality.CUMULATIVE);
+
+    assertThatCode(() -> OtlpHttpMetricExporter.builder().setMaxConcurrentRequests(1))
+        .doesNotThrowAnyException();
+    assertThatCode(
+            () -> OtlpHttpMetricExporter.builder().setConnectionPool(0, Duration.ofSeconds(10)))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpMetricExporter.builder().setPingInterval(Duration.ZERO))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpMetricExporter.builder().setPingInterval(Duration.ofSeconds(30)))
+        .doesNotThrowAnyException();
   }
 
   @Test
@@ -202,6 +214,29 @@ class OtlpHttpMetricExporterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage(
             "Unsupported compression method. Supported compression methods include: gzip, none.");
+    assertThatThrownBy(() -> OtlpHttpMetricExporter.builder().setGzipCompressionLevel(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("level must be between 1 and 9");
+    assertThatThrownBy(() -> OtlpHttpMetricExporter.builder().setGzipCompressionLevel(10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("level must be between 1 and 9");
+
+    assertThatThrownBy(() -> OtlpHttpMetricExporter.builder().setMaxConcurrentRequests(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentRequests must be positive");
+    assertThatThrownBy(() -> OtlpHttpMetricExporter.builder().setConnectionPool(-1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxIdleConnections must be non-negative");
+    assertThatThrownBy(() -> OtlpHttpMetricExporter.builder().setConnectionPool(1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("keepAlive must be positive");
+    assertThatThrownBy(() -> OtlpHttpMetricExporter.builder().setConnectionPool(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("keepAlive");
+    assertThatThrownBy(
+            () -> OtlpHttpMetricExporter.builder().setPingInterval(Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("pingInterval must be non-negative");
 
     assertThatThrownBy(
             () -> OtlpHttpMetricExporter.builder().setAggregationTemporalitySelector(null))
@@ -243,6 +278,19 @@ class OtlpHttpMetricExporterTest {
     assertThat(parseRequestBody(gzipDecompress(request.content().array()))).isEqualTo(payload);
   }
 
+  @Test
+  void testExportGzipCompressionLevel() {
+    server.enqueue(successResponse());
+    OtlpHttpMetricExporter exporter = builder.setGzipCompressionLevel(1).build();
+
+    ExportMetricsServiceRequest payload =
+        exportAndAssertResult(exporter, /* expectedResult= */ true);
+    AggregatedHttpRequest request = server.takeRequest().request();
+    assertRequestCommon(request);
+    assertThat(request.headers().get("Content-Encoding")).isEqualTo("gzip");
+    assertThat(parseRequestBody(gzipDecompress(request.content().array()))).isEqualTo(payload);
+  }
+
   @Test
   void testExportAsJson() {
     server.enqueue(successResponse());
@@ -5,22 +5,47 @@
 
 package io.opentelemetry.exporter.otlp.http.trace;
 
+import io.opentelemetry.exporter.internal.RequestSplitter;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingExporter;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.okhttp.OkHttpExporter;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.StreamingTraceRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /** Exports spans using OTLP via HTTP, using OpenTelemetry's protobuf model. */
 @ThreadSafe
 public final class OtlpHttpSpanExporter implements SpanExporter {
 
-  private final OkHttpExporter<TraceRequestMarshaler> delegate;
+  private final OkHttpExporter<Marshaler> delegate;
+  private final boolean reuseMarshalers;
+  private final boolean streamRequests;
+  @Nullable private final RequestSplitter requestSplitter;
+  @Nullable private final DiskBufferingExporter diskBufferingExporter;
+  // Marshalers of completed exports, reused by the next exports. Exports normally don't overlap, so
+  // this rarely holds more than one marshaler.
+  private final Queue<LowAllocationTraceRequestMarshaler> marshalerPool =
+      new ConcurrentLinkedQueue<>();
 
-  OtlpHttpSpanExporter(OkHttpExporter<TraceRequestMarshaler> delegate) {
+  OtlpHttpSpanExporter(
+      OkHttpExporter<Marshaler> delegate,
+      boolean reuseMarshalers,
+      boolean streamRequests,
+      @Nullable RequestSplitter requestSplitter,
+      @Nullable DiskBufferingExporter diskBufferingExporter) {
     this.delegate = delegate;
+    this.reuseMarshalers = reuseMarshalers;
+    this.streamRequests = streamRequests;
+    this.requestSplitter = requestSplitter;
+    this.diskBufferingExporter = diskBufferingExporter;
   }
 
   /**
@@ -41,6 +66,16 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
     return new OtlpHttpSpanExporterBuilder();
   }
 
+  /**
+   * Returns the number of bytes {@code span} adds to the requests of this exporter, to limit the
+   * size of batches with {@link
+   * io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder#setMaxExportBatchSizeBytes}, for
+   * example {@code setMaxExportBatchSizeBytes(1024 * 1024, OtlpHttpSpanExporter::getSpanSize)}.
+   */
+  public static long getSpanSize(SpanData span) {
+    return TraceRequestMarshaler.getSpanSize(span);
+  }
+
   /**
    * Submits all the given spans in a single batch to the OpenTelemetry collector.
    *
@@ -49,8 +84,57 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
    */
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
+    if (requestSplitter != null) {
+      return requestSplitter.export(spans, this::exportRequest);
+    }
+    return exportRequest(spans);
+  }
+
+  private CompletableResultCode exportRequest(Collection<SpanData> spans) {
+    if (reuseMarshalers) {
+      return exportReusingMarshaler(spans);
+    }
+    // Streaming requests avoids marshaling them before they are sent, but their size must be known
+    // to limit it.
+    if (streamRequests && (requestSplitter == null || !requestSplitter.limitsRequestSize())) {
+      StreamingTraceRequestMarshaler exportRequest = StreamingTraceRequestMarshaler.create(spans);
+      return send(exportRequest, spans.size());
+    }
+
     TraceRequestMarshaler exportRequest = TraceRequestMarshaler.create(spans);
-    return delegate.export(exportRequest, spans.size());
+    if (requestSplitter != null && requestSplitter.isTooLarge(exportRequest, spans.size())) {
+      return requestSplitter.exportSplit(
+          spans, exportRequest.getBinarySerializedSize(), this::exportRequest);
+    }
+    return send(exportRequest, spans.size());
+  }
+
+  private CompletableResultCode exportReusingMarshaler(Collection<SpanData> spans) {
+    LowAllocationTraceRequestMarshaler pooled = marshalerPool.poll();
+    LowAllocationTraceRequestMarshaler exportRequest =
+        pooled != null ? pooled : new LowAllocationTraceRequestMarshaler();
+    exportRequest.initialize(spans);
+    if (requestSplitter != null && requestSplitter.isTooLarge(exportRequest, spans.size())) {
+      int requestSize = exportRequest.getBinarySerializedSize();
+      exportRequest.reset();
+      marshalerPool.add(exportRequest);
+      return requestSplitter.exportSplit(spans, requestSize, this::exportRequest);
+    }
+    // The request body is written asynchronously, and again on retries, so the marshaler can only
+    // be reused once the export has completed.
+    return send(exportRequest, spans.size())
+        .whenComplete(
+            () -> {
+              exportRequest.reset();
+              marshalerPool.add(exportRequest);
+            });
+  }
+
+  private CompletableResultCode send(Marshaler exportRequest, int numItems) {
+    if (diskBufferingExporter != null) {
+      return diskBufferingExporter.export(exportRequest, numItems);
+    }
+    return delegate.export(exportRequest, numItems);
   }
 
   /**
@@ -66,6 +150,12 @@ public final class OtlpHttpSpanExporter implements SpanExporter {
   /** Shutdown the exporter. */
   @Override
   public CompletableResultCode shutdown() {
+    if (requestSplitter != null) {
+      requestSplitter.shutdown();
+    }
+    if (diskBufferingExporter != null) {
+      diskBufferingExporter.shutdown();
+    }
     return delegate.shutdown();
   }
 }
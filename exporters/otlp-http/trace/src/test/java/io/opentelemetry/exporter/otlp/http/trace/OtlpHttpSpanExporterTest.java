@@ -35,6 +35,9 @@ import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
@@ -127,6 +130,8 @@ class OtlpHttpSpanExporterTest {
         .doesNotThrowAnyException();
     assertThatCode(() -> OtlpHttpSpanExporter.builder().setCompression("none"))
         .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpSpanExporter.builder().setGzipCompressionLevel(1))
+        .doesNotThrowAnyException();
 
     assertThatCode(
             () -> OtlpHttpSpanExporter.builder().addHeader("foo", "bar").addHeader("baz", "qux"))
@@ -145,6 +150,18 @@ class OtlpHttpSpanExporterTest {
                         "foobar".getBytes(StandardCharsets.UTF_8),
                         "foobar".getBytes(StandardCharsets.UTF_8)))
         .doesNotThrowAnyException();
+
+    assertThatCode(() -> OtlpHttpSpanExporter.builder().setMaxConcurrentRequests(1))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpSpanExporter.builder().setMaxRequestSize(1))
+        .doesNotThrowAnyException();
+    assertThatCode(
+            () -> OtlpHttpSpanExporter.builder().setConnectionPool(0, Duration.ofSeconds(10)))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpSpanExporter.builder().setPingInterval(Duration.ZERO))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> OtlpHttpSpanExporter.builder().setPingInterval(Duration.ofSeconds(30)))
+        .doesNotThrowAnyException();
   }
 
   @Test
@@ -180,6 +197,31 @@ class OtlpHttpSpanExporterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage(
             "Unsupported compression method. Supported compression methods include: gzip, none.");
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setGzipCompressionLevel(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("level must be between 1 and 9");
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setGzipCompressionLevel(10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("level must be between 1 and 9");
+
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setMaxConcurrentRequests(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentRequests must be positive");
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setMaxRequestSize(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxRequestSizeBytes must be positive");
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setConnectionPool(-1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxIdleConnections must be non-negative");
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setConnectionPool(1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("keepAlive must be positive");
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setConnectionPool(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("keepAlive");
+    assertThatThrownBy(() -> OtlpHttpSpanExporter.builder().setPingInterval(Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("pingInterval must be non-negative");
   }
 
   @Test
@@ -206,6 +248,34 @@ class OtlpHttpSpanExporterTest {
     assertThat(recorded.context().sessionProtocol().isMultiplex()).isFalse();
   }
 
+  @Test
+  void testExportReusingMarshalers() {
+    server.enqueue(successResponse());
+    server.enqueue(successResponse());
+    OtlpHttpSpanExporter exporter = builder.setReuseMarshalers(true).build();
+
+    ExportTraceServiceRequest payload = exportAndAssertResult(exporter, /* expectedResult= */ true);
+    AggregatedHttpRequest request = server.takeRequest().request();
+    assertRequestCommon(request);
+    assertThat(parseRequestBody(request.content().array())).isEqualTo(payload);
+
+    payload = exportAndAssertResult(exporter, /* expectedResult= */ true);
+    request = server.takeRequest().request();
+    assertRequestCommon(request);
+    assertThat(parseRequestBody(request.content().array())).isEqualTo(payload);
+  }
+
+  @Test
+  void testExportStreamingRequests() {
+    server.enqueue(successResponse());
+    OtlpHttpSpanExporter exporter = builder.setStreamRequests(true).build();
+
+    ExportTraceServiceRequest payload = exportAndAssertResult(exporter, /* expectedResult= */ true);
+    AggregatedHttpRequest request = server.takeRequest().request();
+    assertRequestCommon(request);
+    assertThat(parseRequestBody(request.content().array())).isEqualTo(payload);
+  }
+
   @Test
   void testExportTls() {
     server.enqueue(successResponse());
@@ -238,6 +308,18 @@ class OtlpHttpSpanExporterTest {
     assertThat(parseRequestBody(gzipDecompress(request.content().array()))).isEqualTo(payload);
   }
 
+  @Test
+  void testExportGzipCompressionLevel() {
+    server.enqueue(successResponse());
+    OtlpHttpSpanExporter exporter = builder.setGzipCompressionLevel(1).build();
+
+    ExportTraceServiceRequest payload = exportAndAssertResult(exporter, /* expectedResult= */ true);
+    AggregatedHttpRequest request = server.takeRequest().request();
+    assertRequestCommon(request);
+    assertThat(request.headers().get("Content-Encoding")).isEqualTo("gzip");
+    assertThat(parseRequestBody(gzipDecompress(request.content().array()))).isEqualTo(payload);
+  }
+
   private static void assertRequestCommon(AggregatedHttpRequest request) {
     assertThat(request.method()).isEqualTo(HttpMethod.POST);
     assertThat(request.path()).isEqualTo("/v1/traces");
@@ -264,6 +346,34 @@ class OtlpHttpSpanExporterTest {
     }
   }
 
+  @Test
+  void testInFlightRequestsMetric() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    server.enqueue(HttpResponse.delayed(successResponse(), Duration.ofSeconds(1)));
+    OtlpHttpSpanExporter exporter =
+        builder.setMeterProvider(meterProvider).setMaxConcurrentRequests(1).build();
+
+    CompletableResultCode result = exporter.export(Collections.singletonList(generateFakeSpan()));
+    assertInFlightRequests(metricReader, 1);
+
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertInFlightRequests(metricReader, 0);
+  }
+
+  private static void assertInFlightRequests(InMemoryMetricReader metricReader, long expected) {
+    assertThat(metricReader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                OpenTelemetryAssertions.assertThat(metric)
+                    .hasName("otlp.exporter.requests.inflight")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isNotMonotonic()
+                                .hasPointsSatisfying(point -> point.hasValue(expected))));
+  }
+
   @Test
   @SuppressLogger(OkHttpExporter.class)
   void testServerError() {
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares writing a string field by encoding it to a temporary UTF-8 array with encoding it
+ * directly into the buffer of the {@link CodedOutputStream}.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringSerializationBenchmark {
+
+  private static final OutputStream NULL_OUTPUT_STREAM =
+      new OutputStream() {
+        @Override
+        public void write(int b) {}
+
+        @Override
+        public void write(byte[] b, int off, int len) {}
+      };
+
+  @Param({"ascii", "latin", "cjk"})
+  String charset;
+
+  @Param({"16", "512", "16384"})
+  int length;
+
+  private String value;
+  private CodedOutputStream output;
+
+  @Setup
+  public void setup() {
+    String chars;
+    switch (charset) {
+      case "latin":
+        chars = "aéioü";
+        break;
+      case "cjk":
+        chars = "a中文字符";
+        break;
+      default:
+        chars = "abcde";
+        break;
+    }
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(chars.charAt(i % chars.length()));
+    }
+    value = sb.toString();
+    output = CodedOutputStream.newInstance(NULL_OUTPUT_STREAM);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void getBytes() throws IOException {
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    CodedOutputStream.computeByteArraySizeNoTag(utf8);
+    output.writeByteArrayNoTag(utf8);
+    output.flush();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void direct() throws IOException {
+    int utf8Length = CodedOutputStream.encodedUtf8Length(value);
+    CodedOutputStream.computeLengthDelimitedFieldSize(utf8Length);
+    output.writeStringNoTag(value, utf8Length);
+    output.flush();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares encoding strings to UTF-8 for every span with {@link MarshalerUtil#toBytesCached}, for
+ * a number of distinct strings below and above the capacity of the cache.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Utf8CacheBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  int cardinality;
+
+  private String[] values;
+  private int index;
+
+  @Setup
+  public void setup() {
+    values = new String[cardinality];
+    for (int i = 0; i < cardinality; i++) {
+      values[i] = "GET /api/v1/customers/{customerId}/orders/" + i;
+    }
+  }
+
+  private String nextValue() {
+    String value = values[index];
+    index = (index + 1) % values.length;
+    return value;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public byte[] getBytes() {
+    return nextValue().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public byte[] toBytesCached() {
+    return MarshalerUtil.toBytesCached(nextValue());
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the compression methods of export requests on trace requests. Compression methods of
+ * {@link io.opentelemetry.exporter.internal.compression.CompressorProvider}s on the classpath can
+ * be compared by passing their encoding as the {@code compression} parameter, for example {@code
+ * -p compression=zstd}.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressorBenchmark {
+
+  @Param({"none", "gzip-1", "gzip-6", "gzip-9"})
+  String compression;
+
+  @Nullable private Compressor compressor;
+  private TraceRequestMarshaler marshaler;
+  private int size;
+
+  @Setup
+  public void setup(RequestMarshalState state) {
+    if (compression.startsWith("gzip-")) {
+      compressor = GzipCompressor.create(Integer.parseInt(compression.substring(5)));
+    } else {
+      compressor = CompressorUtil.resolveCompressor(compression);
+    }
+    marshaler = TraceRequestMarshaler.create(state.spanDataList);
+    size = marshaler.getBinarySerializedSize();
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream compress() throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(size);
+    OutputStream os = compressor == null ? bos : compressor.compress(bos);
+    marshaler.writeBinaryTo(os);
+    os.close();
+    return bos;
+  }
+}
@@ -5,7 +5,11 @@
 
 package io.opentelemetry.exporter.internal.otlp;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +29,8 @@ import org.openjdk.jmh.annotations.Warmup;
 @Fork(1)
 public class RequestMarshalBenchmarks {
 
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
   @Benchmark
   @Threads(1)
   public ByteArrayOutputStream createCustomMarshal(RequestMarshalState state) {
@@ -32,6 +38,35 @@ public class RequestMarshalBenchmarks {
     return new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
   }
 
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream createCustomMarshalFromBatch(RequestMarshalState state) {
+    TraceRequestMarshaler requestMarshaler = TraceRequestMarshaler.create(state.spanDataBatch);
+    return new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long sizeSpans(RequestMarshalState state) {
+    long size = 0;
+    for (SpanData span : state.spanDataList) {
+      size += TraceRequestMarshaler.getSpanSize(span);
+    }
+    return size;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream createCustomMarshalLowAllocation(RequestMarshalState state) {
+    LowAllocationTraceRequestMarshaler requestMarshaler = state.lowAllocationTraceRequestMarshaler;
+    requestMarshaler.initialize(state.spanDataList);
+    try {
+      return new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
+    } finally {
+      requestMarshaler.reset();
+    }
+  }
+
   @Benchmark
   @Threads(1)
   public ByteArrayOutputStream marshalCustom(RequestMarshalState state) throws IOException {
@@ -42,6 +77,22 @@ public class RequestMarshalBenchmarks {
     return customOutput;
   }
 
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream marshalCustomLowAllocation(RequestMarshalState state)
+      throws IOException {
+    LowAllocationTraceRequestMarshaler requestMarshaler = state.lowAllocationTraceRequestMarshaler;
+    requestMarshaler.initialize(state.spanDataList);
+    try {
+      ByteArrayOutputStream customOutput =
+          new ByteArrayOutputStream(requestMarshaler.getBinarySerializedSize());
+      requestMarshaler.writeBinaryTo(customOutput);
+      return customOutput;
+    } finally {
+      requestMarshaler.reset();
+    }
+  }
+
   @Benchmark
   @Threads(1)
   public ByteArrayOutputStream marshalJson(RequestMarshalState state) throws IOException {
@@ -50,4 +101,15 @@ public class RequestMarshalBenchmarks {
     requestMarshaler.writeJsonTo(customOutput);
     return customOutput;
   }
+
+  @Benchmark
+  @Threads(1)
+  public ByteArrayOutputStream marshalJsonJackson(RequestMarshalState state) throws IOException {
+    TraceRequestMarshaler requestMarshaler = TraceRequestMarshaler.create(state.spanDataList);
+    ByteArrayOutputStream customOutput = new ByteArrayOutputStream();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(customOutput)) {
+      requestMarshaler.writeJsonTo(generator);
+    }
+    return customOutput;
+  }
 }
@@ -11,6 +11,7 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
@@ -18,6 +19,7 @@ import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.SpanDataBatch;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -33,31 +35,73 @@ public class RequestMarshalState {
   private static final AttributeKey<String> KEY_STRING = AttributeKey.stringKey("key_string");
   private static final AttributeKey<Long> KEY_INT = AttributeKey.longKey("key_int");
   private static final AttributeKey<Double> KEY_DOUBLE = AttributeKey.doubleKey("key_double");
-  private static final AttributeKey<List<String>> KEY_STRING_ARRAY =
-      AttributeKey.stringArrayKey("key_string_array");
-  private static final AttributeKey<List<Long>> KEY_LONG_ARRAY =
-      AttributeKey.longArrayKey("key_long_array");
-  private static final AttributeKey<List<Double>> KEY_DOUBLE_ARRAY =
-      AttributeKey.doubleArrayKey("key_double_array");
-  private static final AttributeKey<List<Boolean>> KEY_BOOLEAN_ARRAY =
-      AttributeKey.booleanArrayKey("key_boolean_array");
   private static final AttributeKey<String> LINK_ATTR_KEY = AttributeKey.stringKey("link_attr_key");
 
-  private static final Resource RESOURCE =
+  // A resource like the ones of services running in Kubernetes on a cloud provider, with the
+  // attributes of the SDK, process, host, container, cloud and Kubernetes detectors.
+  static final Resource RESOURCE =
       Resource.create(
           Attributes.builder()
-              .put(KEY_BOOL, true)
-              .put(KEY_STRING, "string")
-              .put(KEY_INT, 100L)
-              .put(KEY_DOUBLE, 100.3)
-              .put(KEY_STRING_ARRAY, Arrays.asList("string", "string"))
-              .put(KEY_LONG_ARRAY, Arrays.asList(12L, 23L))
-              .put(KEY_DOUBLE_ARRAY, Arrays.asList(12.3, 23.1))
-              .put(KEY_BOOLEAN_ARRAY, Arrays.asList(true, false))
-              .build());
+              .put("service.name", "checkout")
+              .put("service.namespace", "shop")
+              .put("service.version", "1.42.0")
+              .put("service.instance.id", "627cc493-f310-47de-96bd-71410b7dec09")
+              .put("deployment.environment", "production")
+              .put("telemetry.sdk.name", "opentelemetry")
+              .put("telemetry.sdk.language", "java")
+              .put("telemetry.sdk.version", "1.20.0")
+              .put("telemetry.auto.version", "1.20.0")
+              .put("process.pid", 1L)
+              .put("process.executable.path", "/usr/lib/jvm/java-17-openjdk/bin/java")
+              .put(
+                  "process.command_line",
+                  "/usr/lib/jvm/java-17-openjdk/bin/java"
+                      + " -javaagent:/otel/opentelemetry-javaagent.jar"
+                      + " -Xmx2g -XX:+UseG1GC -jar /app/checkout.jar")
+              .put("process.runtime.name", "OpenJDK Runtime Environment")
+              .put("process.runtime.version", "17.0.5+8")
+              .put(
+                  "process.runtime.description",
+                  "Eclipse Adoptium OpenJDK 64-Bit Server VM 17.0.5+8")
+              .put("os.type", "linux")
+              .put("os.description", "Linux 5.15.0-1026-aws")
+              .put("host.name", "checkout-7d9c8f6b5-x2x7q")
+              .put("host.arch", "amd64")
+              .put("host.id", "i-0a1b2c3d4e5f67890")
+              .put("host.type", "m5.2xlarge")
+              .put("host.image.id", "ami-0abcdef1234567890")
+              .put(
+                  "container.id",
+                  "a3bf90e006b2e4c0b4c2c5e2d4f4a4d3e1c0b9a8f7e6d5c4b3a2918273645546")
+              .put("container.name", "checkout")
+              .put("container.image.name", "registry.example.com/shop/checkout")
+              .put("container.image.tag", "1.42.0")
+              .put("container.runtime", "containerd")
+              .put("cloud.provider", "aws")
+              .put("cloud.platform", "aws_eks")
+              .put("cloud.region", "eu-west-1")
+              .put("cloud.availability_zone", "eu-west-1b")
+              .put("cloud.account.id", "123456789012")
+              .put("k8s.cluster.name", "production-eu-west-1")
+              .put("k8s.namespace.name", "shop")
+              .put("k8s.node.name", "ip-10-0-12-34.eu-west-1.compute.internal")
+              .put("k8s.node.uid", "1b4c7a39-5d64-4e2e-9a0f-6a7f3c1d2e8b")
+              .put("k8s.pod.name", "checkout-7d9c8f6b5-x2x7q")
+              .put("k8s.pod.uid", "8f1a9e27-3c4d-4b5a-8e6f-7a8b9c0d1e2f")
+              .put("k8s.pod.ip", "10.0.12.57")
+              .put("k8s.container.name", "checkout")
+              .put("k8s.container.restart_count", 0L)
+              .put("k8s.deployment.name", "checkout")
+              .put("k8s.replicaset.name", "checkout-7d9c8f6b5")
+              .put("k8s.replicaset.uid", "2c3d4e5f-6a7b-4c8d-9e0f-1a2b3c4d5e6f")
+              .build(),
+          "https://opentelemetry.io/schemas/1.12.0");
 
   private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
-      InstrumentationScopeInfo.create("name");
+      InstrumentationScopeInfo.create(
+          "io.opentelemetry.spring-webmvc-6.0",
+          "1.20.0",
+          "https://opentelemetry.io/schemas/1.12.0");
   private static final String TRACE_ID = "7b2e170db4df2d593ddb4ddf2ddf2d59";
   private static final String SPAN_ID = "170d3ddb4d23e81f";
   private static final SpanContext SPAN_CONTEXT =
@@ -67,12 +111,18 @@ public class RequestMarshalState {
   int numSpans;
 
   List<SpanData> spanDataList;
+  SpanDataBatch spanDataBatch;
+  final LowAllocationTraceRequestMarshaler lowAllocationTraceRequestMarshaler =
+      new LowAllocationTraceRequestMarshaler();
 
   @Setup
   public void setup() {
     spanDataList = new ArrayList<>(numSpans);
+    spanDataBatch = new SpanDataBatch(numSpans);
     for (int i = 0; i < numSpans; i++) {
-      spanDataList.add(createSpanData());
+      SpanData spanData = createSpanData();
+      spanDataList.add(spanData);
+      spanDataBatch.addSpan(spanData);
     }
   }
 
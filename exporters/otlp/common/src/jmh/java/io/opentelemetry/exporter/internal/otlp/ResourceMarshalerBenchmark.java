@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the work saved on every export by caching the serialized {@link Resource} of the
+ * telemetry, with the resource of {@link RequestMarshalState}. {@code uncached} marshals a copy of
+ * the resource, which isn't in the cache, as was done on every export without it.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ResourceMarshalerBenchmark {
+
+  @Benchmark
+  @Threads(1)
+  public int cached() {
+    ResourceMarshaler marshaler = ResourceMarshaler.create(RequestMarshalState.RESOURCE);
+    return marshaler.getBinarySerializedSize() + marshaler.getSchemaUrlUtf8().length;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int uncached() {
+    Resource resource =
+        Resource.create(
+            RequestMarshalState.RESOURCE.getAttributes(),
+            RequestMarshalState.RESOURCE.getSchemaUrl());
+    ResourceMarshaler marshaler = ResourceMarshaler.create(resource);
+    return marshaler.getBinarySerializedSize() + marshaler.getSchemaUrlUtf8().length;
+  }
+}
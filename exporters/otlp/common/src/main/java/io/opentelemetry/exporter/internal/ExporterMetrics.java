@@ -11,6 +11,7 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 
@@ -27,6 +28,7 @@ public class ExporterMetrics {
 
   private final LongCounter seen;
   private final LongCounter exported;
+  private final LongUpDownCounter inFlight;
 
   private final Attributes seenAttrs;
   private final Attributes successAttrs;
@@ -39,6 +41,7 @@ public class ExporterMetrics {
     seenAttrs = Attributes.builder().put(ATTRIBUTE_KEY_TYPE, type).build();
     seen = meter.counterBuilder(exporterName + ".exporter.seen").build();
     exported = meter.counterBuilder(exporterName + ".exporter.exported").build();
+    inFlight = meter.upDownCounterBuilder(exporterName + ".exporter.requests.inflight").build();
     successAttrs = seenAttrs.toBuilder().put(ATTRIBUTE_KEY_SUCCESS, true).build();
     failedAttrs = seenAttrs.toBuilder().put(ATTRIBUTE_KEY_SUCCESS, false).build();
   }
@@ -58,6 +61,19 @@ public class ExporterMetrics {
     exported.add(value, failedAttrs);
   }
 
+  /**
+   * Record the start of an export request, which is in flight until {@link #endRequest()} is
+   * called when it completes.
+   */
+  public void startRequest() {
+    inFlight.add(1, seenAttrs);
+  }
+
+  /** Record the completion, successful or not, of an export request. */
+  public void endRequest() {
+    inFlight.add(-1, seenAttrs);
+  }
+
   /** Create an instance for recording gRPC exporter metrics. */
   public static ExporterMetrics createGrpc(
       String exporterName, String type, MeterProvider meterProvider) {
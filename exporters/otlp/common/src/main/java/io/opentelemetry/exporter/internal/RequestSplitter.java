@@ -0,0 +1,180 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import io.opentelemetry.api.internal.Utils;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Splits batches of telemetry larger than a maximum number of items into several export requests,
+ * which are marshaled in parallel on a small pool of threads and sent concurrently. Exporters
+ * multiplex concurrent requests over HTTP/2 connections, so marshaling, not sending, usually
+ * dominates the export time of large batches, and splitting them keeps it flat as batches grow.
+ *
+ * <p>Batches with at most the maximum number of items are exported as a single request on the
+ * calling thread.
+ *
+ * <p>Requests can also be limited in size, for collectors which reject messages larger than a
+ * maximum size. Exporters check the size of each marshaled request with {@link #isTooLarge} and
+ * export those that are too large with {@link #exportSplit} instead of sending them.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@ThreadSafe
+public final class RequestSplitter {
+
+  private static final Logger logger = Logger.getLogger(RequestSplitter.class.getName());
+
+  private static final int MAX_PARALLELISM = 4;
+
+  private final int maxItemsPerRequest;
+  private final long maxBytesPerRequest;
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * Returns a new {@link RequestSplitter} exporting at most {@code maxItemsPerRequest} items per
+   * request.
+   */
+  public static RequestSplitter create(String type, int maxItemsPerRequest) {
+    return create(type, maxItemsPerRequest, Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns a new {@link RequestSplitter} exporting at most {@code maxItemsPerRequest} items and
+   * {@code maxBytesPerRequest} bytes per request.
+   */
+  public static RequestSplitter create(
+      String type, int maxItemsPerRequest, long maxBytesPerRequest) {
+    Utils.checkArgument(maxItemsPerRequest > 0, "maxItemsPerRequest must be positive");
+    Utils.checkArgument(maxBytesPerRequest > 0, "maxBytesPerRequest must be positive");
+    return new RequestSplitter(
+        type,
+        maxItemsPerRequest,
+        maxBytesPerRequest,
+        Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+  }
+
+  private RequestSplitter(
+      String type, int maxItemsPerRequest, long maxBytesPerRequest, int parallelism) {
+    this.maxItemsPerRequest = maxItemsPerRequest;
+    this.maxBytesPerRequest = maxBytesPerRequest;
+    executor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new DaemonThreadFactory("otlp-" + type + "-marshaler"));
+    // Exports are periodic, don't keep threads around in between.
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Exports the {@code items} with {@code exportFunction}, in several requests if there are more
+   * than the maximum number of items per request. The returned result succeeds if all the requests
+   * succeed.
+   */
+  public <T> CompletableResultCode export(
+      Collection<T> items, Function<Collection<T>, CompletableResultCode> exportFunction) {
+    if (items.size() <= maxItemsPerRequest) {
+      return exportFunction.apply(items);
+    }
+    return exportInRequests(items, maxItemsPerRequest, exportFunction);
+  }
+
+  /** Returns whether the size of requests is limited. */
+  public boolean limitsRequestSize() {
+    return maxBytesPerRequest != Long.MAX_VALUE;
+  }
+
+  /**
+   * Returns whether the marshaled {@code request} of {@code numItems} items is larger than the
+   * maximum request size, and must be exported with {@link #exportSplit} instead. Requests of a
+   * single item can't be split, and are never too large.
+   */
+  public boolean isTooLarge(Marshaler request, int numItems) {
+    return numItems > 1 && request.getBinarySerializedSize() > maxBytesPerRequest;
+  }
+
+  /**
+   * Exports the {@code items} of a request of {@code requestSize} bytes, which is too large, in
+   * several requests with {@code exportFunction}, as many as it takes for requests of items of
+   * similar sizes to fit the maximum request size. The {@code exportFunction} should check the size
+   * of each request again, since items seldom have similar sizes. The returned result succeeds if
+   * all the requests succeed.
+   */
+  public <T> CompletableResultCode exportSplit(
+      Collection<T> items,
+      int requestSize,
+      Function<Collection<T>, CompletableResultCode> exportFunction) {
+    long numRequests = Math.max(2, (requestSize + maxBytesPerRequest - 1) / maxBytesPerRequest);
+    int itemsPerRequest = (int) ((items.size() + numRequests - 1) / numRequests);
+    return exportInRequests(items, itemsPerRequest, exportFunction);
+  }
+
+  private <T> CompletableResultCode exportInRequests(
+      Collection<T> items,
+      int itemsPerRequest,
+      Function<Collection<T>, CompletableResultCode> exportFunction) {
+    List<T> itemList = new ArrayList<>(items);
+    List<CompletableResultCode> results = new ArrayList<>();
+    for (int start = 0; start < itemList.size(); start += itemsPerRequest) {
+      List<T> requestItems =
+          itemList.subList(start, Math.min(itemList.size(), start + itemsPerRequest));
+      CompletableResultCode result = new CompletableResultCode();
+      results.add(result);
+      try {
+        executor.execute(() -> exportRequest(requestItems, exportFunction, result));
+      } catch (RejectedExecutionException e) {
+        // Shut down.
+        result.fail();
+      }
+    }
+    return CompletableResultCode.ofAll(results);
+  }
+
+  private static <T> void exportRequest(
+      List<T> requestItems,
+      Function<Collection<T>, CompletableResultCode> exportFunction,
+      CompletableResultCode result) {
+    CompletableResultCode exportResult;
+    try {
+      exportResult = exportFunction.apply(requestItems);
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Failed to export request.", e);
+      result.fail();
+      return;
+    }
+    exportResult.whenComplete(
+        () -> {
+          if (exportResult.isSuccess()) {
+            result.succeed();
+          } else {
+            result.fail();
+          }
+        });
+  }
+
+  /** Stops the threads marshaling requests. Requests which are already queued are still sent. */
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A compression method of export requests, like gzip.
+ *
+ * <p>Compression methods other than the built-in ones can be made available to {@code
+ * setCompression(String)} of the OTLP exporter builders with a {@link CompressorProvider}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@ThreadSafe
+public interface Compressor {
+
+  /**
+   * Returns the name of the compression method, which is sent as the {@code Content-Encoding} of
+   * HTTP requests and the {@code grpc-encoding} of gRPC requests.
+   */
+  String getEncoding();
+
+  /**
+   * Wraps the {@code outputStream} with a stream which compresses the data written to it. Closing
+   * the returned stream finishes the compressed data and closes the {@code outputStream}.
+   */
+  OutputStream compress(OutputStream outputStream) throws IOException;
+}
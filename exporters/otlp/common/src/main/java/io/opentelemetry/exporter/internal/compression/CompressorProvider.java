@@ -0,0 +1,24 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+/**
+ * A service provider interface (SPI) for a {@link Compressor}. Providers are loaded with {@link
+ * java.util.ServiceLoader}, and their compressors can then be selected by their {@linkplain
+ * Compressor#getEncoding() encoding} with {@code setCompression(String)} of the OTLP exporter
+ * builders. This allows using compression methods which need additional libraries, like zstd or
+ * snappy, or tuning a built-in method, since a provider takes precedence over the built-in
+ * compressor with the same encoding. Compressors other than the built-in gzip compressor can only
+ * be used with the grpc-java exporter when it creates its own channel.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface CompressorProvider {
+
+  /** Returns the {@link Compressor}. */
+  Compressor getInstance();
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import javax.annotation.Nullable;
+
+/**
+ * Utilities for resolving the {@link Compressor} of the compression method configured on the OTLP
+ * exporters.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CompressorUtil {
+
+  private static final Map<String, Compressor> COMPRESSORS = loadCompressors();
+
+  /**
+   * Returns the {@link Compressor} of the {@code compressionMethod}, or {@code null} for {@code
+   * "none"}.
+   *
+   * @throws IllegalArgumentException if the compression method is not supported.
+   */
+  @Nullable
+  public static Compressor resolveCompressor(String compressionMethod) {
+    if (compressionMethod.equals("none")) {
+      return null;
+    }
+    Compressor compressor = COMPRESSORS.get(compressionMethod);
+    checkArgument(
+        compressor != null,
+        "Unsupported compression method. Supported compression methods include: "
+            + String.join(", ", COMPRESSORS.keySet())
+            + ", none.");
+    return compressor;
+  }
+
+  private static Map<String, Compressor> loadCompressors() {
+    Map<String, Compressor> compressors = new LinkedHashMap<>();
+    compressors.put("gzip", GzipCompressor.getInstance());
+    for (CompressorProvider provider :
+        ServiceLoader.load(CompressorProvider.class, CompressorUtil.class.getClassLoader())) {
+      Compressor compressor = provider.getInstance();
+      compressors.put(compressor.getEncoding(), compressor);
+    }
+    return Collections.unmodifiableMap(compressors);
+  }
+
+  private CompressorUtil() {}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import io.opentelemetry.api.internal.Utils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip {@link Compressor}, at a configurable compression level.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class GzipCompressor implements Compressor {
+
+  private static final GzipCompressor INSTANCE = new GzipCompressor(Deflater.DEFAULT_COMPRESSION);
+
+  private final int level;
+
+  /** Returns a {@link GzipCompressor} with the default compression level. */
+  public static GzipCompressor getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a {@link GzipCompressor} with the compression {@code level}, from {@link
+   * Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}. Lower levels use less CPU to
+   * compress requests but compress them less.
+   */
+  public static GzipCompressor create(int level) {
+    Utils.checkArgument(
+        level == Deflater.DEFAULT_COMPRESSION
+            || (level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION),
+        "Invalid gzip compression level " + level);
+    return new GzipCompressor(level);
+  }
+
+  private GzipCompressor(int level) {
+    this.level = level;
+  }
+
+  @Override
+  public String getEncoding() {
+    return "gzip";
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    if (level == Deflater.DEFAULT_COMPRESSION) {
+      return new GZIPOutputStream(outputStream);
+    }
+    return new LeveledGzipOutputStream(outputStream, level);
+  }
+
+  @Override
+  public String toString() {
+    return "GzipCompressor{level=" + level + "}";
+  }
+
+  private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+    LeveledGzipOutputStream(OutputStream outputStream, int level) throws IOException {
+      super(outputStream);
+      def.setLevel(level);
+    }
+  }
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A queue of serialized export requests, persisted to memory-mapped segment files in a directory so
+ * that they survive restarts of the application.
+ *
+ * <p>Requests are appended to the current segment file, and a new segment is started when it is
+ * full. Each record has a checksum and its length is written last, so that a record which was being
+ * written when the application crashed is ignored when the directory is read back. Removing a
+ * request only marks its record as done, a segment file is deleted once all of its records are
+ * done.
+ *
+ * <p>When adding a request would exceed the maximum size, the oldest segments are dropped. Requests
+ * older than the maximum age are dropped instead of being returned.
+ *
+ * <p>Records are written to the memory mapping of the segments, so they survive a crash of the
+ * application as soon as they are added, but are only guaranteed to survive a crash of the
+ * operating system once they are forced to the storage device with {@link #force()}, which is done
+ * periodically rather than on every request to keep it off the export path.
+ *
+ * <p>The directory is locked until the buffer is {@linkplain #close() closed}, creating another
+ * buffer in it fails until then, even in other processes.
+ */
+@ThreadSafe
+final class DiskBuffer {
+
+  private static final Logger internalLogger = Logger.getLogger(DiskBuffer.class.getName());
+
+  private static final String SEGMENT_SUFFIX = ".seg";
+  private static final String LOCK_FILE_NAME = "lock";
+  private static final int SEGMENT_MAGIC = 0x4f544c50; // "OTLP"
+  private static final int SEGMENT_VERSION = 1;
+  private static final int SEGMENT_HEADER_SIZE = 8;
+
+  // Payload length, state, number of items, timestamp and checksum.
+  static final int RECORD_HEADER_SIZE = 4 + 1 + 4 + 8 + 4;
+  private static final int STATE_OFFSET = 4;
+  private static final int NUM_ITEMS_OFFSET = 5;
+  private static final int TIMESTAMP_OFFSET = 9;
+  private static final int CHECKSUM_OFFSET = 17;
+  private static final byte STATE_PENDING = 0;
+  private static final byte STATE_DONE = 1;
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+
+  private final File directory;
+  private final long maxSizeBytes;
+  private final long maxAgeNanos;
+  private final int segmentSize;
+  private final Clock clock;
+  private final FileChannel lockChannel;
+
+  // Both ordered from oldest to newest.
+  private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+  private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+  @Nullable private Segment activeSegment;
+  private long nextSegmentId;
+  private long sizeBytes;
+
+  DiskBuffer(File directory, long maxSizeBytes, long maxAgeNanos, int segmentSize, Clock clock) {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IllegalArgumentException("Unable to create directory " + directory);
+    }
+    this.lockChannel = lock(directory);
+    this.directory = directory;
+    this.maxSizeBytes = maxSizeBytes;
+    this.maxAgeNanos = maxAgeNanos;
+    this.segmentSize = segmentSize;
+    this.clock = clock;
+    recover();
+  }
+
+  /**
+   * Appends the serialized request, returning {@code false} if it could not be written or is larger
+   * than the maximum size of the buffer.
+   */
+  synchronized boolean add(byte[] payload, int numItems) {
+    if (payload.length == 0) {
+      // Nothing to send, and a zero length marks the end of a segment.
+      return true;
+    }
+    int recordSize = RECORD_HEADER_SIZE + payload.length;
+    if (SEGMENT_HEADER_SIZE + recordSize > maxSizeBytes) {
+      logger.log(
+          Level.WARNING,
+          "Dropping " + numItems + " items, the request is larger than the disk buffer.");
+      return false;
+    }
+    Segment segment = activeSegment;
+    if (segment == null || segment.buffer.capacity() - segment.writePosition < recordSize) {
+      segment = newSegment(Math.max(segmentSize, SEGMENT_HEADER_SIZE + recordSize));
+      if (segment == null) {
+        return false;
+      }
+    }
+
+    int offset = segment.writePosition;
+    long timestampNanos = clock.now();
+    MappedByteBuffer buffer = segment.buffer;
+    buffer.put(offset + STATE_OFFSET, STATE_PENDING);
+    buffer.putInt(offset + NUM_ITEMS_OFFSET, numItems);
+    buffer.putLong(offset + TIMESTAMP_OFFSET, timestampNanos);
+    buffer.putInt(offset + CHECKSUM_OFFSET, checksum(payload));
+    ByteBuffer payloadBuffer = buffer.duplicate();
+    payloadBuffer.position(offset + RECORD_HEADER_SIZE);
+    payloadBuffer.put(payload);
+    // Written last, the record is only read back once it is complete.
+    buffer.putInt(offset, payload.length);
+
+    segment.unforced = true;
+    segment.writePosition = offset + recordSize;
+    segment.pendingCount++;
+    entries.add(new Entry(segment, offset, payload.length, numItems, timestampNanos));
+    return true;
+  }
+
+  /** Writes the requests added since the last call to the storage device. */
+  void force() {
+    List<MappedByteBuffer> unforced = new ArrayList<>();
+    synchronized (this) {
+      for (Segment segment : segments) {
+        if (segment.unforced) {
+          segment.unforced = false;
+          unforced.add(segment.buffer);
+        }
+      }
+    }
+    // Outside of the lock, not to block adding requests. Mappings stay valid once their segment is
+    // deleted.
+    for (MappedByteBuffer buffer : unforced) {
+      buffer.force();
+    }
+  }
+
+  /** Writes the requests to the storage device and unlocks the directory. */
+  void close() {
+    force();
+    try {
+      // Also releases the lock.
+      lockChannel.close();
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to unlock disk buffer directory " + directory, e);
+    }
+  }
+
+  /**
+   * Returns the oldest request which is not done, or {@code null} if there is none. Requests older
+   * than the maximum age are dropped.
+   */
+  @Nullable
+  synchronized Entry peek() {
+    long minTimestampNanos = clock.now() - maxAgeNanos;
+    int expiredItems = 0;
+    Entry entry;
+    while ((entry = entries.peek()) != null && entry.timestampNanos < minTimestampNanos) {
+      expiredItems += entry.numItems;
+      remove(entry);
+    }
+    if (expiredItems > 0) {
+      logger.log(
+          Level.WARNING,
+          "Dropping " + expiredItems + " items from the disk buffer, their maximum age passed.");
+    }
+    return entry;
+  }
+
+  /** Marks the request as done, it is not returned by {@link #peek()} anymore. */
+  synchronized void remove(Entry entry) {
+    if (entries.peek() != entry) {
+      // Already dropped to make room for newer requests.
+      return;
+    }
+    entries.poll();
+    entry.segment.buffer.put(entry.offset + STATE_OFFSET, STATE_DONE);
+    entry.segment.pendingCount--;
+    if (entry.segment != activeSegment && entry.segment.pendingCount == 0) {
+      segments.remove(entry.segment);
+      deleteSegment(entry.segment);
+    }
+  }
+
+  /** Returns the serialized request. */
+  static byte[] read(Entry entry) {
+    byte[] payload = new byte[entry.length];
+    ByteBuffer buffer = entry.segment.buffer.duplicate();
+    buffer.position(entry.offset + RECORD_HEADER_SIZE);
+    buffer.get(payload);
+    return payload;
+  }
+
+  // Visible for testing
+  synchronized int size() {
+    return entries.size();
+  }
+
+  // Visible for testing
+  synchronized long sizeBytes() {
+    return sizeBytes;
+  }
+
+  // Closing the returned channel releases the lock.
+  private static FileChannel lock(File directory) {
+    FileChannel channel;
+    try {
+      channel = new RandomAccessFile(new File(directory, LOCK_FILE_NAME), "rw").getChannel();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Unable to create lock file in " + directory, e);
+    }
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (IOException e) {
+      closeQuietly(channel);
+      throw new IllegalArgumentException("Unable to lock directory " + directory, e);
+    } catch (OverlappingFileLockException e) {
+      // Locked by another buffer in this process.
+      lock = null;
+    }
+    if (lock == null) {
+      closeQuietly(channel);
+      throw new IllegalArgumentException(
+          "Directory " + directory + " is already used by another disk buffer");
+    }
+    return channel;
+  }
+
+  private static void closeQuietly(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // Ignore, the directory isn't used.
+    }
+  }
+
+  @Nullable
+  private Segment newSegment(int capacity) {
+    while (sizeBytes + capacity > maxSizeBytes && !segments.isEmpty()) {
+      dropOldestSegment();
+    }
+
+    File file = new File(directory, nextSegmentId++ + SEGMENT_SUFFIX);
+    MappedByteBuffer buffer;
+    // The mapping stays valid once the channel is closed.
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        FileChannel channel = randomAccessFile.getChannel()) {
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to create disk buffer segment " + file, e);
+      return null;
+    }
+    buffer.putInt(0, SEGMENT_MAGIC);
+    buffer.putInt(4, SEGMENT_VERSION);
+
+    Segment segment = new Segment(file, buffer);
+    segment.writePosition = SEGMENT_HEADER_SIZE;
+    Segment previous = activeSegment;
+    activeSegment = segment;
+    if (previous != null && previous.pendingCount == 0) {
+      segments.remove(previous);
+      deleteSegment(previous);
+    }
+    segments.add(segment);
+    sizeBytes += capacity;
+    return segment;
+  }
+
+  private void dropOldestSegment() {
+    Segment oldest = segments.remove();
+    int droppedItems = 0;
+    Entry entry;
+    while ((entry = entries.peek()) != null && entry.segment == oldest) {
+      droppedItems += entry.numItems;
+      entries.poll();
+    }
+    if (oldest == activeSegment) {
+      activeSegment = null;
+    }
+    deleteSegment(oldest);
+    if (droppedItems > 0) {
+      logger.log(
+          Level.WARNING,
+          "Dropping " + droppedItems + " items from the disk buffer, its maximum size is reached.");
+    }
+  }
+
+  private void deleteSegment(Segment segment) {
+    sizeBytes -= segment.buffer.capacity();
+    if (!segment.file.delete()) {
+      // Deleted on the next start, once all of its records are done.
+      logger.log(Level.FINE, "Unable to delete disk buffer segment " + segment.file);
+    }
+  }
+
+  private void recover() {
+    File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+    if (files == null) {
+      return;
+    }
+    SortedMap<Long, File> segmentFiles = new TreeMap<>();
+    for (File file : files) {
+      String name = file.getName();
+      try {
+        segmentFiles.put(
+            Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), file);
+      } catch (NumberFormatException e) {
+        // Not a segment.
+      }
+    }
+    for (Map.Entry<Long, File> segmentFile : segmentFiles.entrySet()) {
+      nextSegmentId = segmentFile.getKey() + 1;
+      recoverSegment(segmentFile.getValue());
+    }
+    if (!entries.isEmpty()) {
+      internalLogger.log(
+          Level.FINE, "Recovered " + entries.size() + " requests from the disk buffer.");
+    }
+  }
+
+  private void recoverSegment(File file) {
+    long length = file.length();
+    if (length < SEGMENT_HEADER_SIZE || length > Integer.MAX_VALUE) {
+      deleteFile(file);
+      return;
+    }
+    MappedByteBuffer buffer;
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        FileChannel channel = randomAccessFile.getChannel()) {
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+    } catch (IOException e) {
+      logger.log(Level.WARNING, "Unable to read disk buffer segment " + file, e);
+      return;
+    }
+    if (buffer.getInt(0) != SEGMENT_MAGIC || buffer.getInt(4) != SEGMENT_VERSION) {
+      logger.log(Level.WARNING, "Ignoring invalid disk buffer segment " + file);
+      return;
+    }
+
+    Segment segment = new Segment(file, buffer);
+    int capacity = buffer.capacity();
+    int position = SEGMENT_HEADER_SIZE;
+    while (position <= capacity - RECORD_HEADER_SIZE) {
+      int payloadLength = buffer.getInt(position);
+      if (payloadLength <= 0 || payloadLength > capacity - position - RECORD_HEADER_SIZE) {
+        break;
+      }
+      Entry entry =
+          new Entry(
+              segment,
+              position,
+              payloadLength,
+              buffer.getInt(position + NUM_ITEMS_OFFSET),
+              buffer.getLong(position + TIMESTAMP_OFFSET));
+      if (checksum(read(entry)) != buffer.getInt(position + CHECKSUM_OFFSET)) {
+        // Torn write, nothing after it was written completely.
+        break;
+      }
+      if (buffer.get(position + STATE_OFFSET) == STATE_PENDING) {
+        entries.add(entry);
+        segment.pendingCount++;
+      }
+      position += RECORD_HEADER_SIZE + payloadLength;
+    }
+
+    if (segment.pendingCount == 0) {
+      deleteFile(file);
+      return;
+    }
+    // Recovered segments are not appended to, new requests start a new segment.
+    segments.add(segment);
+    sizeBytes += capacity;
+  }
+
+  private void deleteFile(File file) {
+    if (!file.delete()) {
+      logger.log(Level.FINE, "Unable to delete disk buffer segment " + file);
+    }
+  }
+
+  private static int checksum(byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload, 0, payload.length);
+    return (int) crc.getValue();
+  }
+
+  private static final class Segment {
+    private final File file;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private int pendingCount;
+    // Whether records were added since the segment was last forced to the storage device.
+    private boolean unforced;
+
+    private Segment(File file, MappedByteBuffer buffer) {
+      this.file = file;
+      this.buffer = buffer;
+    }
+  }
+
+  /** A request in the buffer. */
+  static final class Entry {
+    private final Segment segment;
+    private final int offset;
+    private final int length;
+    private final int numItems;
+    private final long timestampNanos;
+
+    private Entry(Segment segment, int offset, int length, int numItems, long timestampNanos) {
+      this.segment = segment;
+      this.offset = offset;
+      this.length = length;
+      this.numItems = numItems;
+      this.timestampNanos = timestampNanos;
+    }
+
+    int getNumItems() {
+      return numItems;
+    }
+  }
+}
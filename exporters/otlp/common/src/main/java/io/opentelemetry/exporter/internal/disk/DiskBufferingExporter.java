@@ -0,0 +1,258 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import io.opentelemetry.api.internal.Utils;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Wraps the export of requests, buffering the requests which fail to export on disk and sending
+ * them again once the endpoint is available.
+ *
+ * <p>A request which fails for a reason which is likely transient, like the endpoint being
+ * unavailable, is serialized once, in protobuf binary format, and the serialized bytes are sent as
+ * they are when it is replayed. Requests which are rejected, for example because they are invalid
+ * or too large, are not buffered. Buffered requests are replayed on a background thread, one at a
+ * time and at most 10 per second, stopping at the first transient failure, so that an endpoint
+ * which just recovered isn't flooded. Buffered requests which are rejected are dropped. The export
+ * of a request succeeds once it is sent or buffered.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@ThreadSafe
+public final class DiskBufferingExporter {
+
+  private static final Logger internalLogger =
+      Logger.getLogger(DiskBufferingExporter.class.getName());
+
+  private static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+  private static final long REPLAY_INTERVAL_SECONDS = 1;
+  private static final int MAX_REPLAY_REQUESTS_PER_INTERVAL = 10;
+  private static final long REPLAY_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+
+  private final String type;
+  private final DiskBuffer buffer;
+  private final Sender delegate;
+  @Nullable private final ScheduledExecutorService replayExecutor;
+  private final long replayTimeoutNanos;
+  // A replayed request which was still being sent when the replay timed out, only accessed by the
+  // replay thread.
+  @Nullable private Replay inFlightReplay;
+
+  /**
+   * Returns a new {@link DiskBufferingExporter} exporting requests with {@code delegate} and
+   * buffering at most {@code maxSizeBytes} of requests in {@code directory}, for at most {@code
+   * maxAge}. Requests buffered by a previous instance in {@code directory} are sent again.
+   *
+   * @throws IllegalArgumentException if {@code directory} can't be created or is used by another
+   *     exporter
+   */
+  public static DiskBufferingExporter create(
+      String type,
+      File directory,
+      long maxSizeBytes,
+      Duration maxAge,
+      Sender delegate) {
+    Utils.checkArgument(maxSizeBytes > 0, "maxSizeBytes must be positive");
+    Utils.checkArgument(!maxAge.isNegative() && !maxAge.isZero(), "maxAge must be positive");
+    DiskBuffer buffer =
+        new DiskBuffer(
+            directory,
+            maxSizeBytes,
+            maxAge.toNanos(),
+            (int) Math.min(DEFAULT_SEGMENT_SIZE, maxSizeBytes),
+            Clock.getDefault());
+    ScheduledExecutorService replayExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("otlp-" + type + "-disk-buffer"));
+    DiskBufferingExporter exporter =
+        new DiskBufferingExporter(type, buffer, delegate, replayExecutor, REPLAY_TIMEOUT_NANOS);
+    replayExecutor.scheduleWithFixedDelay(
+        exporter::replay, REPLAY_INTERVAL_SECONDS, REPLAY_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    return exporter;
+  }
+
+  // Visible for testing
+  DiskBufferingExporter(
+      String type,
+      DiskBuffer buffer,
+      Sender delegate,
+      @Nullable ScheduledExecutorService replayExecutor,
+      long replayTimeoutNanos) {
+    this.type = type;
+    this.buffer = buffer;
+    this.delegate = delegate;
+    this.replayExecutor = replayExecutor;
+    this.replayTimeoutNanos = replayTimeoutNanos;
+  }
+
+  /**
+   * Exports the {@code exportRequest} which is a request {@link Marshaler} for {@code numItems}
+   * items, buffering it on disk if it fails for a transient reason.
+   */
+  public CompletableResultCode export(Marshaler exportRequest, int numItems) {
+    CompletableResultCode result = new CompletableResultCode();
+    AtomicBoolean retryable = new AtomicBoolean();
+    CompletableResultCode exportResult =
+        delegate.send(exportRequest, numItems, () -> retryable.set(true));
+    exportResult.whenComplete(
+        () -> {
+          if (exportResult.isSuccess() || (retryable.get() && store(exportRequest, numItems))) {
+            result.succeed();
+          } else {
+            result.fail();
+          }
+        });
+    return result;
+  }
+
+  /**
+   * Stops replaying buffered requests, they are sent again by the next exporter instance. Buffered
+   * requests are written to the storage device and the directory is unlocked.
+   */
+  public void shutdown() {
+    if (replayExecutor != null) {
+      replayExecutor.shutdown();
+    }
+    buffer.close();
+  }
+
+  private boolean store(Marshaler exportRequest, int numItems) {
+    ByteArrayOutputStream output =
+        new ByteArrayOutputStream(exportRequest.getBinarySerializedSize());
+    try {
+      exportRequest.writeBinaryTo(output);
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.WARNING, "Unable to serialize " + type + "s to buffer them on disk.", e);
+      return false;
+    }
+    return buffer.add(output.toByteArray(), numItems);
+  }
+
+  // Visible for testing
+  void replay() {
+    try {
+      // Requests buffered since the last run are synced here rather than on every export.
+      buffer.force();
+      Replay inFlight = inFlightReplay;
+      if (inFlight != null) {
+        if (!inFlight.result.isDone()) {
+          // Sending it again could duplicate it, wait for it to complete.
+          return;
+        }
+        inFlightReplay = null;
+        if (!complete(inFlight)) {
+          return;
+        }
+      }
+      for (int i = 0; i < MAX_REPLAY_REQUESTS_PER_INTERVAL; i++) {
+        DiskBuffer.Entry entry = buffer.peek();
+        if (entry == null) {
+          return;
+        }
+        AtomicBoolean retryable = new AtomicBoolean();
+        CompletableResultCode result =
+            delegate.send(
+                new SerializedMarshaler(DiskBuffer.read(entry)),
+                entry.getNumItems(),
+                () -> retryable.set(true));
+        Replay replay = new Replay(entry, result, retryable);
+        if (!result.join(replayTimeoutNanos, TimeUnit.NANOSECONDS).isDone()) {
+          inFlightReplay = replay;
+          return;
+        }
+        if (!complete(replay)) {
+          return;
+        }
+      }
+    } catch (RuntimeException e) {
+      // Don't stop the scheduled replays.
+      logger.log(Level.WARNING, "Unable to send " + type + "s buffered on disk.", e);
+    }
+  }
+
+  // Removes the request of a completed replay from the buffer unless it failed for a transient
+  // reason, returning whether the next requests can be replayed.
+  private boolean complete(Replay replay) {
+    CompletableResultCode result = replay.result;
+    if (!result.isSuccess() && replay.retryable.get()) {
+      // Still unavailable, try again on the next run.
+      return false;
+    }
+    if (!result.isSuccess()) {
+      // Sending it again won't help, don't hold up the requests buffered after it.
+      logger.log(
+          Level.WARNING,
+          "Dropping "
+              + replay.entry.getNumItems()
+              + " "
+              + type
+              + "s buffered on disk, the endpoint rejected them.");
+    }
+    buffer.remove(replay.entry);
+    return true;
+  }
+
+  /** Sends the export requests of a {@link DiskBufferingExporter}. */
+  @FunctionalInterface
+  public interface Sender {
+    /**
+     * Sends the {@code exportRequest} for {@code numItems} items, calling {@code
+     * onRetryableFailure} before failing the returned result if it failed for a transient reason.
+     */
+    CompletableResultCode send(Marshaler exportRequest, int numItems, Runnable onRetryableFailure);
+  }
+
+  private static final class Replay {
+    private final DiskBuffer.Entry entry;
+    private final CompletableResultCode result;
+    private final AtomicBoolean retryable;
+
+    private Replay(DiskBuffer.Entry entry, CompletableResultCode result, AtomicBoolean retryable) {
+      this.entry = entry;
+      this.result = result;
+      this.retryable = retryable;
+    }
+  }
+
+  private static final class SerializedMarshaler extends MarshalerWithSize {
+    private static final byte[] NO_JSON = new byte[0];
+
+    private final byte[] serialized;
+
+    private SerializedMarshaler(byte[] serialized) {
+      super(serialized.length);
+      this.serialized = serialized;
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      // Only the protobuf binary format is buffered.
+      output.writeSerializedMessage(serialized, NO_JSON);
+    }
+  }
+}
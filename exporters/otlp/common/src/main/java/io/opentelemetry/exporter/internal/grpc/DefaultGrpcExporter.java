@@ -13,6 +13,7 @@ import io.grpc.Status;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.retry.RetryUtil;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import java.util.concurrent.TimeUnit;
@@ -60,9 +61,16 @@ public final class DefaultGrpcExporter<T extends Marshaler> implements GrpcExpor
 
   @Override
   public CompletableResultCode export(T exportRequest, int numItems) {
+    return export(exportRequest, numItems, () -> {});
+  }
+
+  @Override
+  public CompletableResultCode export(T exportRequest, int numItems, Runnable onRetryableFailure) {
     exporterMetrics.addSeen(numItems);
 
+    exporterMetrics.startRequest();
     CompletableResultCode result = new CompletableResultCode();
+    result.whenComplete(exporterMetrics::endRequest);
 
     MarshalerServiceStub<T, ?, ?> stub = this.stub;
     if (timeoutNanos > 0) {
@@ -111,6 +119,10 @@ public final class DefaultGrpcExporter<T extends Marshaler> implements GrpcExpor
             if (logger.isLoggable(Level.FINEST)) {
               logger.log(Level.FINEST, "Failed to export " + type + "s. Details follow: " + t);
             }
+            if (RetryUtil.retryableGrpcStatusCodes()
+                .contains(String.valueOf(status.getCode().value()))) {
+              onRetryableFailure.run();
+            }
             result.fail();
           }
         },
@@ -9,14 +9,20 @@ import static io.grpc.Metadata.ASCII_STRING_MARSHALLER;
 import static io.opentelemetry.exporter.internal.grpc.ManagedChannelUtil.toServiceConfig;
 
 import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.retry.RetryPolicy;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -41,13 +47,15 @@ public final class DefaultGrpcExporterBuilder<T extends Marshaler>
   @Nullable private ManagedChannel channel;
   private long timeoutNanos;
   private URI endpoint;
-  private boolean compressionEnabled = false;
+  @Nullable private Compressor compressor;
   @Nullable private Metadata metadata;
   @Nullable private byte[] trustedCertificatesPem;
   @Nullable private byte[] privateKeyPem;
   @Nullable private byte[] certificatePem;
   @Nullable RetryPolicy retryPolicy;
   private MeterProvider meterProvider = MeterProvider.noop();
+  @Nullable private Duration idleTimeout;
+  private Duration keepAliveTime = Duration.ZERO;
 
   /** Creates a new {@link DefaultGrpcExporterBuilder}. */
   // Visible for testing
@@ -91,7 +99,13 @@ public final class DefaultGrpcExporterBuilder<T extends Marshaler>
 
   @Override
   public DefaultGrpcExporterBuilder<T> setCompression(String compressionMethod) {
-    this.compressionEnabled = true;
+    this.compressor = CompressorUtil.resolveCompressor(compressionMethod);
+    return this;
+  }
+
+  @Override
+  public DefaultGrpcExporterBuilder<T> setCompressor(Compressor compressor) {
+    this.compressor = compressor;
     return this;
   }
 
@@ -129,8 +143,40 @@ public final class DefaultGrpcExporterBuilder<T extends Marshaler>
     return this;
   }
 
+  @Override
+  public GrpcExporterBuilder<T> setMaxConcurrentRequests(int maxConcurrentRequests) {
+    // gRPC multiplexes all calls over the HTTP/2 connection of the channel without a limit of its
+    // own, concurrency is only limited by the maximum concurrent streams of the server.
+    return this;
+  }
+
+  @Override
+  public GrpcExporterBuilder<T> setConnectionPool(int maxIdleConnections, Duration keepAlive) {
+    // The channel uses a single connection, only the time to keep it when idle applies.
+    this.idleTimeout = keepAlive;
+    return this;
+  }
+
+  @Override
+  public GrpcExporterBuilder<T> setPingInterval(Duration pingInterval) {
+    this.keepAliveTime = pingInterval;
+    return this;
+  }
+
   @Override
   public GrpcExporter<T> build() {
+    Compressor compressor = this.compressor;
+    String compression = Codec.Identity.NONE.getMessageEncoding();
+    // gRPC has its own codec for the built-in gzip compressor. Other compressors, including gzip
+    // at another level or from a provider, need a compressor registry on the channel.
+    Compressor customCompressor = null;
+    if (compressor != null) {
+      compression = compressor.getEncoding();
+      if (compressor != GzipCompressor.getInstance()) {
+        customCompressor = compressor;
+      }
+    }
+
     ManagedChannel channel = this.channel;
     if (channel == null) {
       ManagedChannelBuilder<?> managedChannelBuilder =
@@ -158,17 +204,54 @@ public final class DefaultGrpcExporterBuilder<T extends Marshaler>
         }
       }
 
+      if (idleTimeout != null) {
+        managedChannelBuilder.idleTimeout(idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+      }
+      if (!keepAliveTime.isZero()) {
+        managedChannelBuilder.keepAliveTime(keepAliveTime.toNanos(), TimeUnit.NANOSECONDS);
+      }
+
       if (retryPolicy != null) {
         managedChannelBuilder.defaultServiceConfig(toServiceConfig(grpcServiceName, retryPolicy));
       }
 
+      if (customCompressor != null) {
+        // The registry is private to this channel so that other channels in the application are
+        // not affected.
+        CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+        compressorRegistry.register(new GrpcCompressor(customCompressor));
+        managedChannelBuilder.compressorRegistry(compressorRegistry);
+      }
+
       channel = managedChannelBuilder.build();
+    } else if (customCompressor != null) {
+      throw new IllegalStateException(
+          "Compression method "
+              + compression
+              + " is not supported with a channel that is not created by the exporter.");
     }
 
-    Codec codec = compressionEnabled ? new Codec.Gzip() : Codec.Identity.NONE;
-    MarshalerServiceStub<T, ?, ?> stub =
-        stubFactory.apply(channel).withCompression(codec.getMessageEncoding());
+    MarshalerServiceStub<T, ?, ?> stub = stubFactory.apply(channel).withCompression(compression);
     return new DefaultGrpcExporter<>(
         exporterName, type, channel, stub, meterProvider, timeoutNanos);
   }
+
+  private static final class GrpcCompressor implements io.grpc.Compressor {
+
+    private final Compressor compressor;
+
+    private GrpcCompressor(Compressor compressor) {
+      this.compressor = compressor;
+    }
+
+    @Override
+    public String getMessageEncoding() {
+      return compressor.getEncoding();
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+      return compressor.compress(os);
+    }
+  }
 }
@@ -45,6 +45,14 @@ public interface GrpcExporter<T extends Marshaler> {
    */
   CompletableResultCode export(T exportRequest, int numItems);
 
+  /**
+   * Exports the {@code exportRequest} like {@link #export(Marshaler, int)}, and calls {@code
+   * onRetryableFailure} before failing the returned result if the export failed for a reason which
+   * is likely transient, like the endpoint being unreachable or unavailable, so the request may be
+   * sent again later.
+   */
+  CompletableResultCode export(T exportRequest, int numItems, Runnable onRetryableFailure);
+
   /** Shuts the exporter down. */
   CompletableResultCode shutdown();
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.exporter.internal.grpc;
 
 import io.grpc.ManagedChannel;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.retry.RetryPolicy;
 import java.time.Duration;
@@ -29,6 +30,8 @@ public interface GrpcExporterBuilder<T extends Marshaler> {
 
   GrpcExporterBuilder<T> setCompression(String compressionMethod);
 
+  GrpcExporterBuilder<T> setCompressor(Compressor compressor);
+
   GrpcExporterBuilder<T> setTrustedCertificates(byte[] trustedCertificatesPem);
 
   GrpcExporterBuilder<T> setClientTls(byte[] privateKeyPem, byte[] certificatePem);
@@ -39,5 +42,11 @@ public interface GrpcExporterBuilder<T extends Marshaler> {
 
   GrpcExporterBuilder<T> setMeterProvider(MeterProvider meterProvider);
 
+  GrpcExporterBuilder<T> setMaxConcurrentRequests(int maxConcurrentRequests);
+
+  GrpcExporterBuilder<T> setConnectionPool(int maxIdleConnections, Duration keepAlive);
+
+  GrpcExporterBuilder<T> setPingInterval(Duration pingInterval);
+
   GrpcExporter<T> build();
 }
@@ -25,7 +25,9 @@ package io.opentelemetry.exporter.internal.grpc;
 
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.retry.AsyncRetrier;
 import io.opentelemetry.exporter.internal.retry.RetryUtil;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
@@ -67,7 +69,8 @@ public final class OkHttpGrpcExporter<T extends Marshaler> implements GrpcExport
   private final OkHttpClient client;
   private final String endpoint;
   private final Headers headers;
-  private final boolean compressionEnabled;
+  @Nullable private final Compressor compressor;
+  @Nullable private final AsyncRetrier retrier;
 
   /** Creates a new {@link OkHttpGrpcExporter}. */
   OkHttpGrpcExporter(
@@ -77,98 +80,120 @@ public final class OkHttpGrpcExporter<T extends Marshaler> implements GrpcExport
       MeterProvider meterProvider,
       String endpoint,
       Headers headers,
-      boolean compressionEnabled) {
+      @Nullable Compressor compressor,
+      @Nullable AsyncRetrier retrier) {
     this.type = type;
     this.exporterMetrics = ExporterMetrics.createGrpcOkHttp(exporterName, type, meterProvider);
     this.client = client;
     this.endpoint = endpoint;
     this.headers = headers;
-    this.compressionEnabled = compressionEnabled;
+    this.compressor = compressor;
+    this.retrier = retrier;
   }
 
   @Override
   public CompletableResultCode export(T exportRequest, int numItems) {
+    return export(exportRequest, numItems, () -> {});
+  }
+
+  @Override
+  public CompletableResultCode export(T exportRequest, int numItems, Runnable onRetryableFailure) {
     exporterMetrics.addSeen(numItems);
 
     Request.Builder requestBuilder = new Request.Builder().url(endpoint).headers(headers);
 
-    RequestBody requestBody = new GrpcRequestBody(exportRequest, compressionEnabled);
+    RequestBody requestBody = new GrpcRequestBody(exportRequest, compressor);
     requestBuilder.post(requestBody);
 
+    exporterMetrics.startRequest();
     CompletableResultCode result = new CompletableResultCode();
+    result.whenComplete(exporterMetrics::endRequest);
 
-    client
-        .newCall(requestBuilder.build())
-        .enqueue(
-            new Callback() {
-              @Override
-              public void onFailure(Call call, IOException e) {
-                exporterMetrics.addFailed(numItems);
-                logger.log(
-                    Level.SEVERE,
-                    "Failed to export "
-                        + type
-                        + "s. The request could not be executed. Full error message: "
-                        + e.getMessage());
-                result.fail();
-              }
+    Callback callback =
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            exporterMetrics.addFailed(numItems);
+            logger.log(
+                Level.SEVERE,
+                "Failed to export "
+                    + type
+                    + "s. The request could not be executed. Full error message: "
+                    + e.getMessage());
+            // The endpoint could not be reached.
+            onRetryableFailure.run();
+            result.fail();
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            // Response body is empty but must be consumed to access trailers.
+            try {
+              response.body().bytes();
+            } catch (IOException e) {
+              logger.log(
+                  Level.WARNING,
+                  "Failed to export " + type + "s, could not consume server response.",
+                  e);
+              exporterMetrics.addFailed(numItems);
+              onRetryableFailure.run();
+              result.fail();
+              return;
+            }
 
-              @Override
-              public void onResponse(Call call, Response response) {
-                // Response body is empty but must be consumed to access trailers.
-                try {
-                  response.body().bytes();
-                } catch (IOException e) {
-                  logger.log(
-                      Level.WARNING,
-                      "Failed to export " + type + "s, could not consume server response.",
-                      e);
-                  exporterMetrics.addFailed(numItems);
-                  result.fail();
-                  return;
-                }
-
-                String status = grpcStatus(response);
-                if ("0".equals(status)) {
-                  exporterMetrics.addSuccess(numItems);
-                  result.succeed();
-                  return;
-                }
-
-                exporterMetrics.addFailed(numItems);
-
-                String codeMessage =
-                    status != null
-                        ? "gRPC status code " + status
-                        : "HTTP status code " + response.code();
-                String errorMessage = grpcMessage(response);
-
-                if (GrpcStatusUtil.GRPC_STATUS_UNIMPLEMENTED.equals(status)) {
-                  if (loggedUnimplemented.compareAndSet(false, true)) {
-                    GrpcExporterUtil.logUnimplemented(internalLogger, type, errorMessage);
-                  }
-                } else if (GrpcStatusUtil.GRPC_STATUS_UNAVAILABLE.equals(status)) {
-                  logger.log(
-                      Level.SEVERE,
-                      "Failed to export "
-                          + type
-                          + "s. Server is UNAVAILABLE. "
-                          + "Make sure your collector is running and reachable from this network. "
-                          + "Full error message:"
-                          + errorMessage);
-                } else {
-                  logger.log(
-                      Level.WARNING,
-                      "Failed to export "
-                          + type
-                          + "s. Server responded with "
-                          + codeMessage
-                          + ". Error message: "
-                          + errorMessage);
-                }
-                result.fail();
+            String status = grpcStatus(response);
+            if ("0".equals(status)) {
+              exporterMetrics.addSuccess(numItems);
+              result.succeed();
+              return;
+            }
+
+            exporterMetrics.addFailed(numItems);
+
+            String codeMessage =
+                status != null
+                    ? "gRPC status code " + status
+                    : "HTTP status code " + response.code();
+            String errorMessage = grpcMessage(response);
+
+            if (GrpcStatusUtil.GRPC_STATUS_UNIMPLEMENTED.equals(status)) {
+              if (loggedUnimplemented.compareAndSet(false, true)) {
+                GrpcExporterUtil.logUnimplemented(internalLogger, type, errorMessage);
               }
-            });
+            } else if (GrpcStatusUtil.GRPC_STATUS_UNAVAILABLE.equals(status)) {
+              logger.log(
+                  Level.SEVERE,
+                  "Failed to export "
+                      + type
+                      + "s. Server is UNAVAILABLE. "
+                      + "Make sure your collector is running and reachable from this network. "
+                      + "Full error message:"
+                      + errorMessage);
+            } else {
+              logger.log(
+                  Level.WARNING,
+                  "Failed to export "
+                      + type
+                      + "s. Server responded with "
+                      + codeMessage
+                      + ". Error message: "
+                      + errorMessage);
+            }
+            if (status != null
+                ? RetryUtil.retryableGrpcStatusCodes().contains(status)
+                : RetryUtil.retryableHttpResponseCodes().contains(response.code())) {
+              onRetryableFailure.run();
+            }
+            result.fail();
+          }
+        };
+
+    Request request = requestBuilder.build();
+    if (retrier != null) {
+      retrier.enqueue(client, request, callback);
+    } else {
+      client.newCall(request).enqueue(callback);
+    }
 
     return result;
   }
@@ -9,9 +9,11 @@ import io.grpc.ManagedChannel;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.TlsUtil;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.okhttp.OkHttpUtil;
-import io.opentelemetry.exporter.internal.retry.RetryInterceptor;
+import io.opentelemetry.exporter.internal.retry.AsyncRetrier;
 import io.opentelemetry.exporter.internal.retry.RetryPolicy;
 import java.net.URI;
 import java.time.Duration;
@@ -22,6 +24,7 @@ import javax.annotation.Nullable;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.X509KeyManager;
 import javax.net.ssl.X509TrustManager;
+import okhttp3.ConnectionPool;
 import okhttp3.Headers;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
@@ -41,13 +44,17 @@ public final class OkHttpGrpcExporterBuilder<T extends Marshaler>
 
   private long timeoutNanos;
   private URI endpoint;
-  private boolean compressionEnabled = false;
+  @Nullable private Compressor compressor;
   private final Headers.Builder headers = new Headers.Builder();
   @Nullable private byte[] trustedCertificatesPem;
   @Nullable private byte[] privateKeyPem;
   @Nullable private byte[] certificatePem;
   @Nullable private RetryPolicy retryPolicy;
   private MeterProvider meterProvider = MeterProvider.noop();
+  private int maxConcurrentRequests = OkHttpUtil.DEFAULT_MAX_CONCURRENT_REQUESTS;
+  private int maxIdleConnections = OkHttpUtil.DEFAULT_MAX_IDLE_CONNECTIONS;
+  private Duration keepAlive = OkHttpUtil.DEFAULT_KEEP_ALIVE;
+  private Duration pingInterval = Duration.ZERO;
 
   /** Creates a new {@link OkHttpGrpcExporterBuilder}. */
   // Visible for testing
@@ -88,7 +95,13 @@ public final class OkHttpGrpcExporterBuilder<T extends Marshaler>
 
   @Override
   public OkHttpGrpcExporterBuilder<T> setCompression(String compressionMethod) {
-    this.compressionEnabled = true;
+    this.compressor = CompressorUtil.resolveCompressor(compressionMethod);
+    return this;
+  }
+
+  @Override
+  public OkHttpGrpcExporterBuilder<T> setCompressor(Compressor compressor) {
+    this.compressor = compressor;
     return this;
   }
 
@@ -123,10 +136,33 @@ public final class OkHttpGrpcExporterBuilder<T extends Marshaler>
     return this;
   }
 
+  @Override
+  public GrpcExporterBuilder<T> setMaxConcurrentRequests(int maxConcurrentRequests) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    return this;
+  }
+
+  @Override
+  public GrpcExporterBuilder<T> setConnectionPool(int maxIdleConnections, Duration keepAlive) {
+    this.maxIdleConnections = maxIdleConnections;
+    this.keepAlive = keepAlive;
+    return this;
+  }
+
+  @Override
+  public GrpcExporterBuilder<T> setPingInterval(Duration pingInterval) {
+    this.pingInterval = pingInterval;
+    return this;
+  }
+
   @Override
   public GrpcExporter<T> build() {
     OkHttpClient.Builder clientBuilder =
-        new OkHttpClient.Builder().dispatcher(OkHttpUtil.newDispatcher());
+        new OkHttpClient.Builder()
+            .dispatcher(OkHttpUtil.newDispatcher(maxConcurrentRequests))
+            .connectionPool(
+                new ConnectionPool(maxIdleConnections, keepAlive.toNanos(), TimeUnit.NANOSECONDS))
+            .pingInterval(pingInterval);
 
     clientBuilder.callTimeout(Duration.ofNanos(timeoutNanos));
 
@@ -153,14 +189,14 @@ public final class OkHttpGrpcExporterBuilder<T extends Marshaler>
     }
 
     headers.add("te", "trailers");
-    if (compressionEnabled) {
-      headers.add("grpc-encoding", "gzip");
+    if (compressor != null) {
+      headers.add("grpc-encoding", compressor.getEncoding());
     }
 
-    if (retryPolicy != null) {
-      clientBuilder.addInterceptor(
-          new RetryInterceptor(retryPolicy, OkHttpGrpcExporter::isRetryable));
-    }
+    AsyncRetrier retrier =
+        retryPolicy != null
+            ? new AsyncRetrier(retryPolicy, timeoutNanos, OkHttpGrpcExporter::isRetryable)
+            : null;
 
     return new OkHttpGrpcExporter<>(
         exporterName,
@@ -169,6 +205,7 @@ public final class OkHttpGrpcExporterBuilder<T extends Marshaler>
         meterProvider,
         endpoint,
         headers.build(),
-        compressionEnabled);
+        compressor,
+        retrier);
   }
 }
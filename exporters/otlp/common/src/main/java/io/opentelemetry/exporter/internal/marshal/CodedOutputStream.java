@@ -58,7 +58,7 @@ import java.io.OutputStream;
 // - No support for ByteString or ByteBuffer
 // - No support for message set extensions
 // - No support for Unsafe
-// - No support for Java String, only UTF-8 bytes
+// - Java String is written without the Unsafe and array based fast paths
 // - No support for writing fields with tag, we alway write tags separately
 // - Allow resetting and use a ThreadLocal instance
 //
@@ -154,6 +154,13 @@ public abstract class CodedOutputStream {
     writeFixed64NoTag(value);
   }
 
+  /**
+   * Write a 64-bit value as eight big-endian bytes. Unlike {@code fixed64}, this matches the byte
+   * order of trace and span IDs.
+   */
+  // Abstract to avoid overhead of additional virtual method calls.
+  abstract void writeRawBigEndian64(long value) throws IOException;
+
   /** Write a {@code float} field to the stream. */
   final void writeFloatNoTag(final float value) throws IOException {
     writeFixed32NoTag(Float.floatToRawIntBits(value));
@@ -182,6 +189,14 @@ public abstract class CodedOutputStream {
     writeByteArrayNoTag(value, 0, value.length);
   }
 
+  /**
+   * Write a {@code string} field to the stream, encoding it to UTF-8 directly into the buffer.
+   * {@code utf8Length} must be the {@linkplain #encodedUtf8Length(String) encoded length} of the
+   * string.
+   */
+  // Abstract to avoid overhead of additional virtual method calls.
+  abstract void writeStringNoTag(String value, int utf8Length) throws IOException;
+
   // =================================================================
 
   abstract void write(byte value) throws IOException;
@@ -325,10 +340,52 @@ public abstract class CodedOutputStream {
     return computeLengthDelimitedFieldSize(value.length);
   }
 
-  static int computeLengthDelimitedFieldSize(int fieldLength) {
+  /**
+   * Compute the number of bytes that would be needed to encode a length delimited field, like a
+   * {@code string}, whose encoded length is {@code fieldLength}.
+   */
+  public static int computeLengthDelimitedFieldSize(int fieldLength) {
     return computeUInt32SizeNoTag(fieldLength) + fieldLength;
   }
 
+  /**
+   * Returns the number of bytes of the UTF-8 encoding of the string, computed in a single scan of
+   * the string without encoding it. Like {@link String#getBytes(java.nio.charset.Charset)},
+   * unpaired surrogates are encoded as {@code '?'}.
+   */
+  public static int encodedUtf8Length(String value) {
+    int length = value.length();
+    int i = 0;
+    // Fast path for the common case of ASCII strings, which have one byte per char.
+    while (i < length && value.charAt(i) < 0x80) {
+      i++;
+    }
+    int utf8Length = length;
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        continue;
+      }
+      if (c < 0x800) {
+        utf8Length += 1;
+      } else if (!Character.isSurrogate(c)) {
+        utf8Length += 2;
+      } else if (isSurrogatePair(value, i, length)) {
+        // Four bytes for the two chars.
+        utf8Length += 2;
+        i++;
+      }
+      // Else an unpaired surrogate, replaced by a single byte.
+    }
+    return utf8Length;
+  }
+
+  private static boolean isSurrogatePair(String value, int index, int length) {
+    return Character.isHighSurrogate(value.charAt(index))
+        && index + 1 < length
+        && Character.isLowSurrogate(value.charAt(index + 1));
+  }
+
   /**
    * Encode a ZigZag-encoded 32-bit value. ZigZag encodes signed integers into values that can be
    * efficiently encoded with varint. (Otherwise, negative values must be sign-extended to 64 bits
@@ -442,6 +499,51 @@ public abstract class CodedOutputStream {
       totalBytesWritten += FIXED32_SIZE;
     }
 
+    /**
+     * Encodes the char at {@code index} of the string, or the surrogate pair starting at it, to
+     * UTF-8 and returns the number of chars encoded. This method does not perform bounds checking
+     * on the array, at least 4 bytes must be available.
+     */
+    final int bufferUtf8(String value, int index, int length) {
+      char c = value.charAt(index);
+      if (c < 0x80) {
+        buffer[position++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | (c >>> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (!Character.isSurrogate(c)) {
+        buffer[position++] = (byte) (0xE0 | (c >>> 12));
+        buffer[position++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (isSurrogatePair(value, index, length)) {
+        int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+        buffer[position++] = (byte) (0xF0 | (codePoint >>> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        return 2;
+      } else {
+        buffer[position++] = (byte) '?';
+      }
+      return 1;
+    }
+
+    /**
+     * This method does not perform bounds checking on the array. Checking array bounds is the
+     * responsibility of the caller.
+     */
+    final void bufferRawBigEndian64(long value) {
+      buffer[position++] = (byte) ((int) (value >> 56) & 0xFF);
+      buffer[position++] = (byte) ((int) (value >> 48) & 0xFF);
+      buffer[position++] = (byte) ((int) (value >> 40) & 0xFF);
+      buffer[position++] = (byte) ((int) (value >> 32) & 0xFF);
+      buffer[position++] = (byte) ((value >> 24) & 0xFF);
+      buffer[position++] = (byte) ((value >> 16) & 0xFF);
+      buffer[position++] = (byte) ((value >> 8) & 0xFF);
+      buffer[position++] = (byte) (value & 0xFF);
+      totalBytesWritten += FIXED64_SIZE;
+    }
+
     /**
      * This method does not perform bounds checking on the array. Checking array bounds is the
      * responsibility of the caller.
@@ -483,6 +585,39 @@ public abstract class CodedOutputStream {
       write(value, offset, length);
     }
 
+    @Override
+    void writeStringNoTag(String value, int utf8Length) throws IOException {
+      writeUInt32NoTag(utf8Length);
+      if (utf8Length <= limit && limit - position < utf8Length) {
+        // Flush once up front rather than in the middle of the string.
+        doFlush();
+      }
+      int length = value.length();
+      int i = 0;
+      // Fast path for ASCII, copy chars to the buffer until the first non-ASCII char.
+      while (i < length) {
+        if (position == limit) {
+          doFlush();
+        }
+        int end = Math.min(length, i + limit - position);
+        for (; i < end; i++) {
+          char c = value.charAt(i);
+          if (c >= 0x80) {
+            break;
+          }
+          buffer[position++] = (byte) c;
+        }
+        if (i < end) {
+          break;
+        }
+      }
+      while (i < length) {
+        flushIfNotAvailable(4);
+        i += bufferUtf8(value, i, length);
+      }
+      totalBytesWritten += utf8Length;
+    }
+
     @Override
     void write(byte value) throws IOException {
       if (position == limit) {
@@ -526,6 +661,12 @@ public abstract class CodedOutputStream {
       bufferFixed64NoTag(value);
     }
 
+    @Override
+    void writeRawBigEndian64(final long value) throws IOException {
+      flushIfNotAvailable(FIXED64_SIZE);
+      bufferRawBigEndian64(value);
+    }
+
     @Override
     void flush() throws IOException {
       if (position > 0) {
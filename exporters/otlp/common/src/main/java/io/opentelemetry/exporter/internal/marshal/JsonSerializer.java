@@ -5,181 +5,239 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.internal.ImmutableSpanContext;
+import io.opentelemetry.api.trace.SpanContext;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+/** A {@link Serializer} into proto JSON format, written with a {@link JsonWriter}. */
 final class JsonSerializer extends Serializer {
 
-  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private final JsonWriter writer;
 
-  private final JsonGenerator generator;
-
-  JsonSerializer(OutputStream output) throws IOException {
-    this(JSON_FACTORY.createGenerator(output));
+  JsonSerializer(OutputStream output) {
+    this.writer = new JsonWriter(output);
   }
 
-  JsonSerializer(JsonGenerator generator) {
-    this.generator = generator;
+  @Override
+  protected void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException {
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeString(traceId);
   }
 
   @Override
-  protected void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException {
-    generator.writeStringField(field.getJsonName(), traceId);
+  protected void writeTraceId(ProtoFieldInfo field, SpanContext spanContext) throws IOException {
+    if (!(spanContext instanceof ImmutableSpanContext)
+        || !((ImmutableSpanContext) spanContext).isTraceIdBinary()) {
+      writeTraceId(field, spanContext.getTraceId());
+      return;
+    }
+    // Write the hex digits of the binary ID directly, without going through its String form.
+    ImmutableSpanContext immutableSpanContext = (ImmutableSpanContext) spanContext;
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeBase16String(
+        immutableSpanContext.getTraceIdHigh(), immutableSpanContext.getTraceIdLow());
   }
 
   @Override
   protected void writeSpanId(ProtoFieldInfo field, String spanId) throws IOException {
-    generator.writeStringField(field.getJsonName(), spanId);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeString(spanId);
+  }
+
+  @Override
+  protected void writeSpanId(ProtoFieldInfo field, SpanContext spanContext) throws IOException {
+    if (!(spanContext instanceof ImmutableSpanContext)
+        || !((ImmutableSpanContext) spanContext).isSpanIdBinary()) {
+      writeSpanId(field, spanContext.getSpanId());
+      return;
+    }
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeBase16String(((ImmutableSpanContext) spanContext).getSpanIdLong());
   }
 
   @Override
   public void writeBool(ProtoFieldInfo field, boolean value) throws IOException {
-    generator.writeBooleanField(field.getJsonName(), value);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeBoolean(value);
   }
 
   @Override
   protected void writeEnum(ProtoFieldInfo field, ProtoEnumInfo enumValue) throws IOException {
-    generator.writeStringField(field.getJsonName(), enumValue.getJsonName());
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeEncodedValue(enumValue.getJsonValueUtf8());
   }
 
   @Override
   protected void writeUint32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeNumber(value);
   }
 
   @Override
   protected void writeSInt32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeNumber(value);
   }
 
   @Override
   protected void writeint32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeNumber(value);
   }
 
   @Override
   public void writeInt64(ProtoFieldInfo field, long value) throws IOException {
-    generator.writeStringField(field.getJsonName(), Long.toString(value));
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeQuotedNumber(value);
   }
 
   @Override
   protected void writeFixed64(ProtoFieldInfo field, long value) throws IOException {
-    generator.writeStringField(field.getJsonName(), Long.toString(value));
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeQuotedNumber(value);
   }
 
   @Override
   protected void writeFixed64Value(long value) throws IOException {
-    generator.writeString(Long.toString(value));
+    writer.writeQuotedNumber(value);
   }
 
   @Override
   protected void writeUInt64Value(long value) throws IOException {
-    generator.writeString(Long.toString(value));
+    writer.writeQuotedNumber(value);
   }
 
   @Override
   protected void writeFixed32(ProtoFieldInfo field, int value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeNumber(value);
   }
 
   @Override
   public void writeDouble(ProtoFieldInfo field, double value) throws IOException {
-    generator.writeNumberField(field.getJsonName(), value);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeNumber(value);
   }
 
   @Override
   protected void writeDoubleValue(double value) throws IOException {
-    generator.writeNumber(value);
+    writer.writeNumber(value);
   }
 
   @Override
   public void writeString(ProtoFieldInfo field, byte[] utf8Bytes) throws IOException {
-    generator.writeFieldName(field.getJsonName());
-    // Marshalers encoded String into UTF-8 bytes to optimize for binary serialization where
-    // we are able to avoid the encoding process happening twice, one for size computation and one
-    // for actual writing. JsonGenerator actually has a writeUTF8String that would be able to accept
-    // this, but it only works when writing to an OutputStream, but not to a String like we do for
-    // writing to logs. It's wasteful to take a String, convert it to bytes, and convert back to
-    // the same String but we can see if this can be improved in the future.
-    generator.writeString(new String(utf8Bytes, StandardCharsets.UTF_8));
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeString(utf8Bytes);
+  }
+
+  @Override
+  public void writeString(ProtoFieldInfo field, String string, int utf8Length) throws IOException {
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeString(string);
   }
 
   @Override
   protected void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
-    generator.writeBinaryField(field.getJsonName(), value);
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeBinary(value);
   }
 
   @Override
   protected void writeStartMessage(ProtoFieldInfo field, int protoMessageSize) throws IOException {
-    generator.writeObjectFieldStart(field.getJsonName());
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeStartObject();
   }
 
   @Override
   protected void writeEndMessage() throws IOException {
-    generator.writeEndObject();
+    writer.writeEndObject();
   }
 
   @Override
   protected void writeStartRepeatedPrimitive(
       ProtoFieldInfo field, int protoSizePerElement, int numElements) throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeStartArray();
   }
 
   @Override
   protected void writeEndRepeatedPrimitive() throws IOException {
-    generator.writeEndArray();
+    writer.writeEndArray();
   }
 
   @Override
   protected void writeStartRepeatedVarint(ProtoFieldInfo field, int payloadSize)
       throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeStartArray();
   }
 
   @Override
   protected void writeEndRepeatedVarint() throws IOException {
-    generator.writeEndArray();
+    writer.writeEndArray();
   }
 
   @Override
   public void serializeRepeatedMessage(ProtoFieldInfo field, Marshaler[] repeatedMessage)
       throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeStartArray();
     for (Marshaler marshaler : repeatedMessage) {
       writeMessageValue(marshaler);
     }
-    generator.writeEndArray();
+    writer.writeEndArray();
   }
 
   @Override
   public void serializeRepeatedMessage(
       ProtoFieldInfo field, List<? extends Marshaler> repeatedMessage) throws IOException {
-    generator.writeArrayFieldStart(field.getJsonName());
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeStartArray();
     for (Marshaler marshaler : repeatedMessage) {
       writeMessageValue(marshaler);
     }
-    generator.writeEndArray();
+    writer.writeEndArray();
+  }
+
+  @Override
+  protected void writeStartRepeated(ProtoFieldInfo field) throws IOException {
+    writer.writeFieldName(field.getJsonFieldNameUtf8());
+    writer.writeStartArray();
+  }
+
+  @Override
+  protected void writeEndRepeated() throws IOException {
+    writer.writeEndArray();
+  }
+
+  @Override
+  protected void writeStartRepeatedElement(ProtoFieldInfo field, int protoMessageSize)
+      throws IOException {
+    writer.writeStartObject();
+  }
+
+  @Override
+  protected void writeEndRepeatedElement() throws IOException {
+    writer.writeEndObject();
   }
 
   // Not a field.
   void writeMessageValue(Marshaler message) throws IOException {
-    generator.writeStartObject();
+    writer.writeStartObject();
     message.writeTo(this);
-    generator.writeEndObject();
+    writer.writeEndObject();
   }
 
   @Override
-  public void writeSerializedMessage(byte[] protoSerialized, String jsonSerialized)
+  public void writeSerializedMessage(byte[] protoSerialized, byte[] jsonSerialized)
       throws IOException {
-    generator.writeRaw(jsonSerialized);
+    writer.writeRawFields(jsonSerialized);
   }
 
   @Override
   public void close() throws IOException {
-    generator.close();
+    writer.close();
   }
 }
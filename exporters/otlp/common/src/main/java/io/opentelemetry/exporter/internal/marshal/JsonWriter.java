@@ -0,0 +1,402 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A streaming writer of JSON for {@link JsonSerializer}, which encodes directly into a buffer
+ * flushed to an {@link OutputStream}. Field names and enum values are written from their encoding
+ * precomputed by {@link ProtoFieldInfo} and {@link ProtoEnumInfo}, and strings and numbers are
+ * encoded into the buffer without intermediate objects.
+ *
+ * <p>The writer only keeps track of whether a comma is needed before the next field or array
+ * element, it is up to the caller to write well-formed JSON.
+ */
+final class JsonWriter implements Closeable {
+
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  // Enough for the longest number, Long.MIN_VALUE.
+  private static final int ENCODE_BUFFER_SIZE = 32;
+
+  // The longest encoding of a char, the escape sequence of a control character like \u001F.
+  private static final int MAX_CHAR_SIZE = 6;
+
+  private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+  // Trace and span IDs are lowercase, like their String form.
+  private static final byte[] BASE16_DIGITS =
+      "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] BASE64_DIGITS =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+          .getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+  // Like protobuf and Jackson, non-finite doubles are written as strings.
+  private static final byte[] NAN = "\"NaN\"".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] INFINITY = "\"Infinity\"".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NEGATIVE_INFINITY =
+      "\"-Infinity\"".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] LONG_MIN_VALUE =
+      Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+  // For each ASCII character, 0 if it is written as is, otherwise the character of its short escape
+  // sequence, or 'u' for a unicode escape sequence.
+  private static final byte[] ESCAPES = new byte[128];
+
+  static {
+    for (int i = 0; i < 0x20; i++) {
+      ESCAPES[i] = 'u';
+    }
+    ESCAPES['"'] = '"';
+    ESCAPES['\\'] = '\\';
+    ESCAPES['\b'] = 'b';
+    ESCAPES['\f'] = 'f';
+    ESCAPES['\n'] = 'n';
+    ESCAPES['\r'] = 'r';
+    ESCAPES['\t'] = 't';
+  }
+
+  private final OutputStream output;
+  private final byte[] buffer;
+  private int position;
+  private boolean needsComma;
+
+  JsonWriter(OutputStream output) {
+    this(output, DEFAULT_BUFFER_SIZE);
+  }
+
+  // Visible for testing
+  JsonWriter(OutputStream output, int bufferSize) {
+    this.output = output;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /** Returns the encoding of a field name, quoted and followed by a colon. */
+  static byte[] encodeFieldName(String name) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(name.length() + 3);
+    try (JsonWriter writer = new JsonWriter(bos, ENCODE_BUFFER_SIZE)) {
+      writer.writeString(name);
+      writer.ensureCapacity(1);
+      writer.buffer[writer.position++] = ':';
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to encode JSON in memory, can't happen.", e);
+    }
+    return bos.toByteArray();
+  }
+
+  /** Returns the encoding of a string value, quoted. */
+  static byte[] encodeString(String value) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(value.length() + 2);
+    try (JsonWriter writer = new JsonWriter(bos, ENCODE_BUFFER_SIZE)) {
+      writer.writeString(value);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to encode JSON in memory, can't happen.", e);
+    }
+    return bos.toByteArray();
+  }
+
+  /** Writes a field name {@linkplain #encodeFieldName(String) encoded} beforehand. */
+  void writeFieldName(byte[] encodedFieldName) throws IOException {
+    writeComma();
+    writeBytes(encodedFieldName);
+    needsComma = false;
+  }
+
+  void writeStartObject() throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '{';
+    needsComma = false;
+  }
+
+  void writeEndObject() throws IOException {
+    ensureCapacity(1);
+    buffer[position++] = '}';
+    needsComma = true;
+  }
+
+  void writeStartArray() throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '[';
+    needsComma = false;
+  }
+
+  void writeEndArray() throws IOException {
+    ensureCapacity(1);
+    buffer[position++] = ']';
+    needsComma = true;
+  }
+
+  /** Writes a string value. */
+  void writeString(String value) throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    for (int i = 0, length = value.length(); i < length; i++) {
+      ensureCapacity(MAX_CHAR_SIZE);
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        if (ESCAPES[c] == 0) {
+          buffer[position++] = (byte) c;
+        } else {
+          writeEscaped(c);
+        }
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | (c >>> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (!Character.isSurrogate(c)) {
+        buffer[position++] = (byte) (0xE0 | (c >>> 12));
+        buffer[position++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer[position++] = (byte) (0xF0 | (codePoint >>> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+      } else {
+        // Unpaired surrogate, replaced like String.getBytes does.
+        buffer[position++] = '?';
+      }
+    }
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    needsComma = true;
+  }
+
+  /** Writes a string value from its UTF-8 encoding. */
+  void writeString(byte[] utf8Bytes) throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    for (byte b : utf8Bytes) {
+      ensureCapacity(MAX_CHAR_SIZE);
+      // Bytes of multi-byte characters are negative and never need escaping.
+      if (b >= 0 && ESCAPES[b] != 0) {
+        writeEscaped(b);
+      } else {
+        buffer[position++] = b;
+      }
+    }
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    needsComma = true;
+  }
+
+  /** Writes a value {@linkplain #encodeString(String) encoded} beforehand. */
+  void writeEncodedValue(byte[] encodedValue) throws IOException {
+    writeComma();
+    writeBytes(encodedValue);
+    needsComma = true;
+  }
+
+  void writeNumber(long value) throws IOException {
+    writeComma();
+    writeDigits(value);
+    needsComma = true;
+  }
+
+  /** Writes a number as a string, like protobuf does for 64-bit integers. */
+  void writeQuotedNumber(long value) throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    writeDigits(value);
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    needsComma = true;
+  }
+
+  void writeNumber(double value) throws IOException {
+    writeComma();
+    if (Double.isNaN(value)) {
+      writeBytes(NAN);
+    } else if (value == Double.POSITIVE_INFINITY) {
+      writeBytes(INFINITY);
+    } else if (value == Double.NEGATIVE_INFINITY) {
+      writeBytes(NEGATIVE_INFINITY);
+    } else {
+      String string = Double.toString(value);
+      int length = string.length();
+      ensureCapacity(length);
+      for (int i = 0; i < length; i++) {
+        buffer[position++] = (byte) string.charAt(i);
+      }
+    }
+    needsComma = true;
+  }
+
+  void writeBoolean(boolean value) throws IOException {
+    writeComma();
+    writeBytes(value ? TRUE : FALSE);
+    needsComma = true;
+  }
+
+  /** Writes binary data as a base64 encoded string, like protobuf does for {@code bytes}. */
+  void writeBinary(byte[] value) throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    int i = 0;
+    for (; i + 2 < value.length; i += 3) {
+      ensureCapacity(4);
+      int bits = (value[i] & 0xFF) << 16 | (value[i + 1] & 0xFF) << 8 | (value[i + 2] & 0xFF);
+      writeBase64Digits(bits, 4);
+    }
+    ensureCapacity(5);
+    int remaining = value.length - i;
+    if (remaining == 1) {
+      writeBase64Digits((value[i] & 0xFF) << 16, 2);
+      buffer[position++] = '=';
+      buffer[position++] = '=';
+    } else if (remaining == 2) {
+      writeBase64Digits((value[i] & 0xFF) << 16 | (value[i + 1] & 0xFF) << 8, 3);
+      buffer[position++] = '=';
+    }
+    buffer[position++] = '"';
+    needsComma = true;
+  }
+
+  /** Writes the lowercase hex encoding of {@code value} as a string, like a span ID. */
+  void writeBase16String(long value) throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    writeBase16Digits(value);
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    needsComma = true;
+  }
+
+  /**
+   * Writes the lowercase hex encoding of {@code high} followed by {@code low} as a string, like a
+   * trace ID.
+   */
+  void writeBase16String(long high, long low) throws IOException {
+    writeComma();
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    writeBase16Digits(high);
+    writeBase16Digits(low);
+    ensureCapacity(1);
+    buffer[position++] = '"';
+    needsComma = true;
+  }
+
+  /**
+   * Writes fields serialized beforehand, without the enclosing braces, in the object being written.
+   */
+  void writeRawFields(byte[] json) throws IOException {
+    if (json.length == 0) {
+      return;
+    }
+    writeComma();
+    writeBytes(json);
+    needsComma = true;
+  }
+
+  /** Writes the buffered JSON to the {@link OutputStream}, without closing it. */
+  @Override
+  public void close() throws IOException {
+    flushBuffer();
+    output.flush();
+  }
+
+  private void writeComma() throws IOException {
+    if (needsComma) {
+      ensureCapacity(1);
+      buffer[position++] = ',';
+    }
+  }
+
+  private void writeEscaped(int c) {
+    byte escape = ESCAPES[c];
+    buffer[position++] = '\\';
+    if (escape != 'u') {
+      buffer[position++] = escape;
+      return;
+    }
+    buffer[position++] = 'u';
+    buffer[position++] = '0';
+    buffer[position++] = '0';
+    buffer[position++] = HEX_DIGITS[c >>> 4];
+    buffer[position++] = HEX_DIGITS[c & 0xF];
+  }
+
+  private void writeDigits(long value) throws IOException {
+    if (value == Long.MIN_VALUE) {
+      // Can't be negated.
+      writeBytes(LONG_MIN_VALUE);
+      return;
+    }
+    ensureCapacity(LONG_MIN_VALUE.length);
+    if (value < 0) {
+      buffer[position++] = '-';
+      value = -value;
+    }
+    int end = position + countDigits(value);
+    int i = end;
+    do {
+      buffer[--i] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value != 0);
+    position = end;
+  }
+
+  private static int countDigits(long value) {
+    int digits = 1;
+    for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+      digits++;
+    }
+    return digits;
+  }
+
+  private void writeBase16Digits(long value) throws IOException {
+    ensureCapacity(16);
+    for (int shift = 60; shift >= 0; shift -= 4) {
+      buffer[position++] = BASE16_DIGITS[(int) (value >>> shift) & 0xF];
+    }
+  }
+
+  private void writeBase64Digits(int bits, int numDigits) {
+    for (int i = 0; i < numDigits; i++) {
+      buffer[position++] = BASE64_DIGITS[(bits >>> (18 - 6 * i)) & 0x3F];
+    }
+  }
+
+  private void writeBytes(byte[] bytes) throws IOException {
+    if (bytes.length > buffer.length - position) {
+      flushBuffer();
+      if (bytes.length > buffer.length) {
+        output.write(bytes);
+        return;
+      }
+    }
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  private void ensureCapacity(int size) throws IOException {
+    if (size > buffer.length - position) {
+      flushBuffer();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      output.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+}
@@ -31,9 +31,12 @@ public abstract class Marshaler {
     }
   }
 
-  /** Marshals into the {@link JsonGenerator} in proto JSON format. */
+  /**
+   * Marshals into the {@link JsonGenerator} in proto JSON format. Unless the JSON is written with
+   * Jackson anyways, prefer {@link #writeJsonTo(OutputStream)}, which is faster.
+   */
   public final void writeJsonTo(JsonGenerator output) throws IOException {
-    try (JsonSerializer serializer = new JsonSerializer(output)) {
+    try (JacksonJsonSerializer serializer = new JacksonJsonSerializer(output)) {
       serializer.writeMessageValue(this);
     }
   }
@@ -0,0 +1,153 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * Holds the state of {@link StatelessMarshaler}s while a message is marshaled, so that the same
+ * marshalers and buffers can be reused for every message instead of allocating a tree of {@link
+ * Marshaler}s per message.
+ *
+ * <p>Marshaling happens in two passes over the data. The size pass computes the size of the nested
+ * messages and records them, along with data that is expensive to compute, like the UTF-8 encoding
+ * of strings. The write pass then reads them back in the same order. Both passes must therefore
+ * visit the data in the same order.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MarshalerContext {
+
+  private int[] sizes = new int[16];
+  private int sizeWriteIndex;
+  private int sizeReadIndex;
+  private Object[] data = new Object[16];
+  private int dataWriteIndex;
+  private int dataReadIndex;
+
+  // Reused to iterate attributes without allocating a consumer for every attribute set.
+  final AttributesSizer attributesSizer = new AttributesSizer();
+  final AttributesWriter attributesWriter = new AttributesWriter();
+
+  /** Reserves a slot for the size of a message, to be set once it is computed. */
+  public int addSize() {
+    if (sizeWriteIndex == sizes.length) {
+      sizes = Arrays.copyOf(sizes, sizes.length * 2);
+    }
+    return sizeWriteIndex++;
+  }
+
+  /** Sets the size of the message of the slot reserved with {@link #addSize()}. */
+  public void setSize(int index, int size) {
+    sizes[index] = size;
+  }
+
+  /** Returns the next recorded message size. */
+  public int getSize() {
+    return sizes[sizeReadIndex++];
+  }
+
+  /** Records data computed in the size pass to be used in the write pass. */
+  public void addData(Object value) {
+    if (dataWriteIndex == data.length) {
+      data = Arrays.copyOf(data, data.length * 2);
+    }
+    data[dataWriteIndex++] = value;
+  }
+
+  /** Returns the next recorded data. */
+  public <T> T getData(Class<T> type) {
+    return type.cast(data[dataReadIndex++]);
+  }
+
+  /** Rewinds the recorded sizes and data, to write the message again. */
+  public void resetReadIndex() {
+    sizeReadIndex = 0;
+    dataReadIndex = 0;
+  }
+
+  /** Clears all the recorded sizes and data, to marshal a new message. */
+  public void reset() {
+    sizeWriteIndex = 0;
+    sizeReadIndex = 0;
+    Arrays.fill(data, 0, dataWriteIndex, null);
+    dataWriteIndex = 0;
+    dataReadIndex = 0;
+  }
+
+  static final class AttributesSizer implements BiConsumer<AttributeKey<?>, Object> {
+    @Nullable private ProtoFieldInfo field;
+    @Nullable private StatelessMarshaler2<AttributeKey<?>, Object> marshaler;
+    @Nullable private MarshalerContext context;
+    private int size;
+
+    void initialize(
+        ProtoFieldInfo field,
+        StatelessMarshaler2<AttributeKey<?>, Object> marshaler,
+        MarshalerContext context) {
+      this.field = field;
+      this.marshaler = marshaler;
+      this.context = context;
+      this.size = 0;
+    }
+
+    int getSizeAndReset() {
+      int result = size;
+      field = null;
+      marshaler = null;
+      context = null;
+      size = 0;
+      return result;
+    }
+
+    @Override
+    @SuppressWarnings("NullAway")
+    public void accept(AttributeKey<?> key, Object value) {
+      size += MarshalerUtil.sizeMessageWithContext(field, key, value, marshaler, context);
+    }
+  }
+
+  static final class AttributesWriter implements BiConsumer<AttributeKey<?>, Object> {
+    @Nullable private Serializer output;
+    @Nullable private ProtoFieldInfo field;
+    @Nullable private StatelessMarshaler2<AttributeKey<?>, Object> marshaler;
+    @Nullable private MarshalerContext context;
+
+    void initialize(
+        Serializer output,
+        ProtoFieldInfo field,
+        StatelessMarshaler2<AttributeKey<?>, Object> marshaler,
+        MarshalerContext context) {
+      this.output = output;
+      this.field = field;
+      this.marshaler = marshaler;
+      this.context = context;
+    }
+
+    void reset() {
+      output = null;
+      field = null;
+      marshaler = null;
+      context = null;
+    }
+
+    @Override
+    @SuppressWarnings("NullAway")
+    public void accept(AttributeKey<?> key, Object value) {
+      try {
+        output.writeRepeatedElementWithContext(field, key, value, marshaler, context);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -5,6 +5,9 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -14,6 +17,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -33,21 +37,10 @@ public final class MarshalerUtil {
   private static final int SPAN_ID_VALUE_SIZE =
       CodedOutputStream.computeLengthDelimitedFieldSize(SpanId.getLength() / 2);
 
-  private static final boolean JSON_AVAILABLE;
-
-  static {
-    boolean jsonAvailable = false;
-    try {
-      Class.forName("com.fasterxml.jackson.core.JsonFactory");
-      jsonAvailable = true;
-    } catch (ClassNotFoundException e) {
-      // Not available
-    }
-    JSON_AVAILABLE = jsonAvailable;
-  }
-
   private static final byte[] EMPTY_BYTES = new byte[0];
 
+  private static final Utf8Cache UTF8_CACHE = new Utf8Cache();
+
   /** Groups SDK items by resource and instrumentation scope. */
   public static <T, U>
       Map<Resource, Map<InstrumentationScopeInfo, List<U>>> groupByResourceAndScope(
@@ -70,11 +63,7 @@ public final class MarshalerUtil {
   }
 
   /** Preserialize into JSON format. */
-  public static String preserializeJsonFields(Marshaler marshaler) {
-    if (!MarshalerUtil.JSON_AVAILABLE) {
-      return "";
-    }
-
+  public static byte[] preserializeJsonFields(Marshaler marshaler) {
     ByteArrayOutputStream jsonBos = new ByteArrayOutputStream();
     try {
       marshaler.writeJsonTo(jsonBos);
@@ -83,13 +72,10 @@ public final class MarshalerUtil {
           "Serialization error, this is likely a bug in OpenTelemetry.", e);
     }
 
-    // We effectively cache `writeTo`, however Jackson would not allow us to only write out
-    // fields
-    // which is what writeTo does. So we need to write to an object but skip the object start
-    // /
-    // end.
+    // We effectively cache `writeTo`, which only writes out fields, but messages are written as
+    // objects. So we need to write to an object but skip the object start / end.
     byte[] jsonBytes = jsonBos.toByteArray();
-    return new String(jsonBytes, 1, jsonBytes.length - 2, StandardCharsets.UTF_8);
+    return Arrays.copyOfRange(jsonBytes, 1, jsonBytes.length - 1);
   }
 
   /** Returns the size of a repeated fixed64 field. */
@@ -164,6 +150,82 @@ public final class MarshalerUtil {
     return field.getTagSize() + CodedOutputStream.computeUInt32SizeNoTag(fieldSize) + fieldSize;
   }
 
+  /**
+   * Returns the size of a message field marshaled with a {@link StatelessMarshaler}, recording the
+   * size of the message in the {@code context}.
+   */
+  public static <T> int sizeMessageWithContext(
+      ProtoFieldInfo field, T value, StatelessMarshaler<T> marshaler, MarshalerContext context) {
+    int sizeIndex = context.addSize();
+    int fieldSize = marshaler.getBinarySerializedSize(value, context);
+    context.setSize(sizeIndex, fieldSize);
+    return field.getTagSize() + CodedOutputStream.computeUInt32SizeNoTag(fieldSize) + fieldSize;
+  }
+
+  /**
+   * Returns the size of a message field marshaled with a {@link StatelessMarshaler2}, recording the
+   * size of the message in the {@code context}.
+   */
+  public static <K, V> int sizeMessageWithContext(
+      ProtoFieldInfo field,
+      K key,
+      V value,
+      StatelessMarshaler2<K, V> marshaler,
+      MarshalerContext context) {
+    int sizeIndex = context.addSize();
+    int fieldSize = marshaler.getBinarySerializedSize(key, value, context);
+    context.setSize(sizeIndex, fieldSize);
+    return field.getTagSize() + CodedOutputStream.computeUInt32SizeNoTag(fieldSize) + fieldSize;
+  }
+
+  /**
+   * Returns the size of a repeated message field marshaled with a {@link StatelessMarshaler},
+   * recording the size of the messages in the {@code context}.
+   */
+  public static <T> int sizeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Collection<? extends T> messages,
+      StatelessMarshaler<T> marshaler,
+      MarshalerContext context) {
+    int size = 0;
+    for (T message : messages) {
+      size += sizeMessageWithContext(field, message, marshaler, context);
+    }
+    return size;
+  }
+
+  /**
+   * Returns the size of a repeated KeyValue field of the {@link Attributes}, recording the size of
+   * the messages in the {@code context}.
+   */
+  public static int sizeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Attributes attributes,
+      StatelessMarshaler2<AttributeKey<?>, Object> marshaler,
+      MarshalerContext context) {
+    if (attributes.isEmpty()) {
+      return 0;
+    }
+    MarshalerContext.AttributesSizer sizer = context.attributesSizer;
+    sizer.initialize(field, marshaler, context);
+    attributes.forEach(sizer);
+    return sizer.getSizeAndReset();
+  }
+
+  /**
+   * Returns the size of a string field, recording its UTF8 encoded length in the {@code context}
+   * for {@link Serializer#serializeStringWithContext(ProtoFieldInfo, String, MarshalerContext)}.
+   */
+  public static int sizeStringWithContext(
+      ProtoFieldInfo field, @Nullable String value, MarshalerContext context) {
+    if (value == null || value.isEmpty()) {
+      return 0;
+    }
+    int utf8Length = CodedOutputStream.encodedUtf8Length(value);
+    context.setSize(context.addSize(), utf8Length);
+    return field.getTagSize() + CodedOutputStream.computeLengthDelimitedFieldSize(utf8Length);
+  }
+
   /** Returns the size of a bool field. */
   public static int sizeBool(ProtoFieldInfo field, boolean value) {
     if (!value) {
@@ -270,6 +332,22 @@ public final class MarshalerUtil {
     return field.getTagSize() + SPAN_ID_VALUE_SIZE;
   }
 
+  /** Returns the size of a trace_id field holding the trace ID of a {@link SpanContext}. */
+  public static int sizeTraceId(ProtoFieldInfo field, @Nullable SpanContext spanContext) {
+    if (spanContext == null) {
+      return 0;
+    }
+    return field.getTagSize() + TRACE_ID_VALUE_SIZE;
+  }
+
+  /** Returns the size of a span_id field holding the span ID of a {@link SpanContext}. */
+  public static int sizeSpanId(ProtoFieldInfo field, @Nullable SpanContext spanContext) {
+    if (spanContext == null) {
+      return 0;
+    }
+    return field.getTagSize() + SPAN_ID_VALUE_SIZE;
+  }
+
   /** Converts the string to utf8 bytes for encoding. */
   public static byte[] toBytes(@Nullable String value) {
     if (value == null || value.isEmpty()) {
@@ -278,5 +356,18 @@ public final class MarshalerUtil {
     return value.getBytes(StandardCharsets.UTF_8);
   }
 
+  /**
+   * Converts the string to utf8 bytes for encoding, caching the bytes of strings with few distinct
+   * values, like span, event and metric names, units and severity text. Fields with many distinct
+   * values, like attribute values, use {@link #toBytes(String)} instead, since they would only
+   * churn the cache. The returned bytes must not be modified.
+   */
+  public static byte[] toBytesCached(@Nullable String value) {
+    if (value == null || value.isEmpty()) {
+      return EMPTY_BYTES;
+    }
+    return UTF8_CACHE.getUtf8(value);
+  }
+
   private MarshalerUtil() {}
 }
@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.internal.marshal;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 
 /**
  * Information about a field in a proto definition.
@@ -23,4 +24,10 @@ public abstract class ProtoEnumInfo {
   public abstract int getEnumNumber();
 
   public abstract String getJsonName();
+
+  /** Returns the UTF-8 encoded JSON name of the enum value, quoted. */
+  @Memoized
+  byte[] getJsonValueUtf8() {
+    return JsonWriter.encodeString(getJsonName());
+  }
 }
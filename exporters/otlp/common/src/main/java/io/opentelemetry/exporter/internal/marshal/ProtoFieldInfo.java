@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.internal.marshal;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 
 /**
  * Information about a field in a proto definition.
@@ -28,4 +29,10 @@ public abstract class ProtoFieldInfo {
   public abstract int getTagSize();
 
   public abstract String getJsonName();
+
+  /** Returns the UTF-8 encoded JSON name of the field, quoted and followed by a colon. */
+  @Memoized
+  byte[] getJsonFieldNameUtf8() {
+    return JsonWriter.encodeFieldName(getJsonName());
+  }
 }
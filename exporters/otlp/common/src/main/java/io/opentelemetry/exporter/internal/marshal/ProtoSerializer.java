@@ -5,7 +5,9 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import io.opentelemetry.api.internal.ImmutableSpanContext;
 import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceId;
 import java.io.IOException;
@@ -40,6 +42,31 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
     writeBytes(field, traceIdBytes);
   }
 
+  @Override
+  protected void writeTraceId(ProtoFieldInfo field, SpanContext spanContext) throws IOException {
+    if (!(spanContext instanceof ImmutableSpanContext)) {
+      writeTraceId(field, spanContext.getTraceId());
+      return;
+    }
+    // Write the binary ID directly, without going through its hex form.
+    ImmutableSpanContext immutableSpanContext = (ImmutableSpanContext) spanContext;
+    output.writeUInt32NoTag(field.getTag());
+    output.writeUInt32NoTag(TraceId.getLength() / 2);
+    output.writeRawBigEndian64(immutableSpanContext.getTraceIdHigh());
+    output.writeRawBigEndian64(immutableSpanContext.getTraceIdLow());
+  }
+
+  @Override
+  protected void writeSpanId(ProtoFieldInfo field, SpanContext spanContext) throws IOException {
+    if (!(spanContext instanceof ImmutableSpanContext)) {
+      writeSpanId(field, spanContext.getSpanId());
+      return;
+    }
+    output.writeUInt32NoTag(field.getTag());
+    output.writeUInt32NoTag(SpanId.getLength() / 2);
+    output.writeRawBigEndian64(((ImmutableSpanContext) spanContext).getSpanIdLong());
+  }
+
   @Override
   protected void writeSpanId(ProtoFieldInfo field, String spanId) throws IOException {
     byte[] spanIdBytes =
@@ -122,6 +149,12 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
     writeBytes(field, utf8Bytes);
   }
 
+  @Override
+  public void writeString(ProtoFieldInfo field, String string, int utf8Length) throws IOException {
+    output.writeUInt32NoTag(field.getTag());
+    output.writeStringNoTag(string, utf8Length);
+  }
+
   @Override
   protected void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
     output.writeUInt32NoTag(field.getTag());
@@ -180,7 +213,28 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
   }
 
   @Override
-  public void writeSerializedMessage(byte[] protoSerialized, String jsonSerialized)
+  protected void writeStartRepeated(ProtoFieldInfo field) {
+    // Do nothing
+  }
+
+  @Override
+  protected void writeEndRepeated() {
+    // Do nothing
+  }
+
+  @Override
+  protected void writeStartRepeatedElement(ProtoFieldInfo field, int protoMessageSize)
+      throws IOException {
+    writeStartMessage(field, protoMessageSize);
+  }
+
+  @Override
+  protected void writeEndRepeatedElement() {
+    // Do nothing
+  }
+
+  @Override
+  public void writeSerializedMessage(byte[] protoSerialized, byte[] jsonSerialized)
       throws IOException {
     output.writeRawBytes(protoSerialized);
   }
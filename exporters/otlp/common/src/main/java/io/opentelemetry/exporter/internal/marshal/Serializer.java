@@ -5,7 +5,12 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.List;
 import javax.annotation.Nullable;
 
@@ -35,6 +40,18 @@ public abstract class Serializer implements AutoCloseable {
 
   protected abstract void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException;
 
+  /** Serializes the trace ID of a {@link SpanContext} as a trace ID field. */
+  public void serializeTraceId(ProtoFieldInfo field, @Nullable SpanContext spanContext)
+      throws IOException {
+    if (spanContext == null) {
+      return;
+    }
+    writeTraceId(field, spanContext);
+  }
+
+  protected abstract void writeTraceId(ProtoFieldInfo field, SpanContext spanContext)
+      throws IOException;
+
   /** Serializes a span ID field. */
   public void serializeSpanId(ProtoFieldInfo field, @Nullable String spanId) throws IOException {
     if (spanId == null) {
@@ -45,6 +62,18 @@ public abstract class Serializer implements AutoCloseable {
 
   protected abstract void writeSpanId(ProtoFieldInfo field, String spanId) throws IOException;
 
+  /** Serializes the span ID of a {@link SpanContext} as a span ID field. */
+  public void serializeSpanId(ProtoFieldInfo field, @Nullable SpanContext spanContext)
+      throws IOException {
+    if (spanContext == null) {
+      return;
+    }
+    writeSpanId(field, spanContext);
+  }
+
+  protected abstract void writeSpanId(ProtoFieldInfo field, SpanContext spanContext)
+      throws IOException;
+
   /** Serializes a protobuf {@code bool} field. */
   public void serializeBool(ProtoFieldInfo field, boolean value) throws IOException {
     if (!value) {
@@ -165,9 +194,30 @@ public abstract class Serializer implements AutoCloseable {
     writeString(field, utf8Bytes);
   }
 
+  /**
+   * Serializes a protobuf {@code string} field whose UTF8 encoded length was recorded in the {@code
+   * context} by {@link MarshalerUtil#sizeStringWithContext(ProtoFieldInfo, String,
+   * MarshalerContext)}.
+   */
+  public void serializeStringWithContext(
+      ProtoFieldInfo field, @Nullable String value, MarshalerContext context) throws IOException {
+    if (value == null || value.isEmpty()) {
+      return;
+    }
+    writeString(field, value, context.getSize());
+  }
+
   /** Writes a protobuf {@code string} field, even if it matches the default value. */
   public abstract void writeString(ProtoFieldInfo field, byte[] utf8Bytes) throws IOException;
 
+  /**
+   * Writes a protobuf {@code string} field, even if it matches the default value. {@code
+   * utf8Length} is the {@linkplain CodedOutputStream#encodedUtf8Length(String) length} of the UTF8
+   * encoding of the string, which is encoded while it is written.
+   */
+  public abstract void writeString(ProtoFieldInfo field, String string, int utf8Length)
+      throws IOException;
+
   /** Serializes a protobuf {@code bytes} field. */
   public void serializeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
     if (value.length == 0) {
@@ -190,6 +240,38 @@ public abstract class Serializer implements AutoCloseable {
     writeEndMessage();
   }
 
+  /**
+   * Serializes a protobuf embedded {@code message} with a {@link StatelessMarshaler}, using the
+   * size recorded in the {@code context} by {@link
+   * MarshalerUtil#sizeMessageWithContext(ProtoFieldInfo, Object, StatelessMarshaler,
+   * MarshalerContext)}.
+   */
+  public <T> void serializeMessageWithContext(
+      ProtoFieldInfo field, T value, StatelessMarshaler<T> marshaler, MarshalerContext context)
+      throws IOException {
+    writeStartMessage(field, context.getSize());
+    marshaler.writeTo(this, value, context);
+    writeEndMessage();
+  }
+
+  /**
+   * Serializes a protobuf embedded {@code message} with a {@link StatelessMarshaler2}, using the
+   * size recorded in the {@code context} by {@link
+   * MarshalerUtil#sizeMessageWithContext(ProtoFieldInfo, Object, Object, StatelessMarshaler2,
+   * MarshalerContext)}.
+   */
+  public <K, V> void serializeMessageWithContext(
+      ProtoFieldInfo field,
+      K key,
+      V value,
+      StatelessMarshaler2<K, V> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartMessage(field, context.getSize());
+    marshaler.writeTo(this, key, value, context);
+    writeEndMessage();
+  }
+
   protected abstract void writeStartRepeatedPrimitive(
       ProtoFieldInfo field, int protoSizePerElement, int numElements) throws IOException;
 
@@ -263,8 +345,67 @@ public abstract class Serializer implements AutoCloseable {
   public abstract void serializeRepeatedMessage(
       ProtoFieldInfo field, List<? extends Marshaler> repeatedMessage) throws IOException;
 
+  protected abstract void writeStartRepeated(ProtoFieldInfo field) throws IOException;
+
+  protected abstract void writeEndRepeated() throws IOException;
+
+  protected abstract void writeStartRepeatedElement(ProtoFieldInfo field, int protoMessageSize)
+      throws IOException;
+
+  protected abstract void writeEndRepeatedElement() throws IOException;
+
+  /** Serializes {@code repeated message} field with a {@link StatelessMarshaler}. */
+  public <T> void serializeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Collection<? extends T> messages,
+      StatelessMarshaler<T> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartRepeated(field);
+    for (T message : messages) {
+      writeStartRepeatedElement(field, context.getSize());
+      marshaler.writeTo(this, message, context);
+      writeEndRepeatedElement();
+    }
+    writeEndRepeated();
+  }
+
+  /** Serializes {@code repeated KeyValue} field of the {@link Attributes}. */
+  public void serializeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      Attributes attributes,
+      StatelessMarshaler2<AttributeKey<?>, Object> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartRepeated(field);
+    if (!attributes.isEmpty()) {
+      MarshalerContext.AttributesWriter writer = context.attributesWriter;
+      writer.initialize(this, field, marshaler, context);
+      try {
+        attributes.forEach(writer);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      } finally {
+        writer.reset();
+      }
+    }
+    writeEndRepeated();
+  }
+
+  <K, V> void writeRepeatedElementWithContext(
+      ProtoFieldInfo field,
+      K key,
+      V value,
+      StatelessMarshaler2<K, V> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartRepeatedElement(field, context.getSize());
+    marshaler.writeTo(this, key, value, context);
+    writeEndRepeatedElement();
+  }
+
   /** Writes the value for a message field that has been pre-serialized. */
-  public abstract void writeSerializedMessage(byte[] protoSerialized, String jsonSerialized)
+  public abstract void writeSerializedMessage(byte[] protoSerialized, byte[] jsonSerialized)
       throws IOException;
 
   @Override
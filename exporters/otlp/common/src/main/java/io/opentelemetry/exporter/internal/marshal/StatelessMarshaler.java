@@ -0,0 +1,25 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.IOException;
+
+/**
+ * Marshaler from an SDK structure to protobuf wire format that keeps no state of its own, so that a
+ * single instance can marshal any number of values. The state of a marshaling is kept in a {@link
+ * MarshalerContext} instead.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface StatelessMarshaler<T> {
+
+  /** Returns the number of bytes marshaling the given value will write in proto binary format. */
+  int getBinarySerializedSize(T value, MarshalerContext context);
+
+  /** Marshals the given value. */
+  void writeTo(Serializer output, T value, MarshalerContext context) throws IOException;
+}
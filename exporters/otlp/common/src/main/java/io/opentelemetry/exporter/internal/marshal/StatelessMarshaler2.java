@@ -0,0 +1,23 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.IOException;
+
+/**
+ * A {@link StatelessMarshaler} of values made of two parts, like the key and value of an attribute.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface StatelessMarshaler2<K, V> {
+
+  /** Returns the number of bytes marshaling the given value will write in proto binary format. */
+  int getBinarySerializedSize(K key, V value, MarshalerContext context);
+
+  /** Marshals the given value. */
+  void writeTo(Serializer output, K key, V value, MarshalerContext context) throws IOException;
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+/**
+ * A {@link Marshaler} of a request that creates the marshalers of its content while it is written
+ * instead of up front, so that only a bounded part of the request is held in memory at any time.
+ *
+ * <p>Writers should not call {@link #getBinarySerializedSize()}, which has to marshal the whole
+ * request to compute its size, and instead stream the request without a known length, for example
+ * with chunked transfer encoding.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public abstract class StreamingMarshaler extends Marshaler {}
@@ -0,0 +1,62 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Caches the UTF-8 encoding of strings that are exported over and over, like span, event and
+ * metric names, so that they are not encoded again for every span or metric.
+ *
+ * <p>The number of cached strings is bounded, the cache is cleared when it is full. Strings longer
+ * than {@link #MAX_STRING_LENGTH} are not cached, they are unlikely to repeat and would use too
+ * much memory. The returned arrays are shared and must not be modified.
+ */
+@ThreadSafe
+final class Utf8Cache {
+
+  static final int DEFAULT_MAX_SIZE = 1024;
+  static final int MAX_STRING_LENGTH = 512;
+
+  private final ConcurrentMap<String, byte[]> cache = new ConcurrentHashMap<>();
+  private final int maxSize;
+
+  Utf8Cache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  // Visible for testing
+  Utf8Cache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /** Returns the UTF-8 encoding of the {@code value}. */
+  byte[] getUtf8(String value) {
+    if (value.length() > MAX_STRING_LENGTH) {
+      return value.getBytes(StandardCharsets.UTF_8);
+    }
+    byte[] utf8 = cache.get(value);
+    if (utf8 != null) {
+      return utf8;
+    }
+    if (cache.size() >= maxSize) {
+      // Only names are cached, and an application has few of them. A full cache means names are
+      // generated, in which case caching them doesn't help and clearing at least bounds memory.
+      cache.clear();
+    }
+    utf8 = value.getBytes(StandardCharsets.UTF_8);
+    cache.put(value, utf8);
+    return utf8;
+  }
+
+  // Visible for testing
+  int size() {
+    return cache.size();
+  }
+}
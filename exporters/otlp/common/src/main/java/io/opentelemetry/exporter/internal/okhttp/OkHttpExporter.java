@@ -7,8 +7,10 @@ package io.opentelemetry.exporter.internal.okhttp;
 
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
+import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcStatusUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.retry.AsyncRetrier;
 import io.opentelemetry.exporter.internal.retry.RetryUtil;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
@@ -27,7 +29,6 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okio.BufferedSink;
-import okio.GzipSink;
 import okio.Okio;
 
 /**
@@ -47,8 +48,9 @@ public final class OkHttpExporter<T extends Marshaler> {
   private final OkHttpClient client;
   private final String endpoint;
   @Nullable private final Headers headers;
-  private final boolean compressionEnabled;
+  @Nullable private final Compressor compressor;
   private final Function<T, RequestBody> requestBodyCreator;
+  @Nullable private final AsyncRetrier retrier;
 
   private final ExporterMetrics exporterMetrics;
 
@@ -59,18 +61,30 @@ public final class OkHttpExporter<T extends Marshaler> {
       MeterProvider meterProvider,
       String endpoint,
       @Nullable Headers headers,
-      boolean compressionEnabled,
-      boolean exportAsJson) {
+      @Nullable Compressor compressor,
+      boolean exportAsJson,
+      @Nullable AsyncRetrier retrier) {
     this.type = type;
     this.client = client;
     this.endpoint = endpoint;
     this.headers = headers;
-    this.compressionEnabled = compressionEnabled;
+    this.compressor = compressor;
     this.requestBodyCreator = exportAsJson ? JsonRequestBody::new : ProtoRequestBody::new;
+    this.retrier = retrier;
     this.exporterMetrics = ExporterMetrics.createHttpProtobuf(exporterName, type, meterProvider);
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
+    return export(exportRequest, numItems, () -> {});
+  }
+
+  /**
+   * Exports the {@code exportRequest} like {@link #export(Marshaler, int)}, and calls {@code
+   * onRetryableFailure} before failing the returned result if the export failed for a reason which
+   * is likely transient, like the endpoint being unreachable or unavailable, so the request may be
+   * sent again later.
+   */
+  public CompletableResultCode export(T exportRequest, int numItems, Runnable onRetryableFailure) {
     exporterMetrics.addSeen(numItems);
 
     Request.Builder requestBuilder = new Request.Builder().url(endpoint);
@@ -78,57 +92,69 @@ public final class OkHttpExporter<T extends Marshaler> {
       requestBuilder.headers(headers);
     }
     RequestBody requestBody = requestBodyCreator.apply(exportRequest);
-    if (compressionEnabled) {
-      requestBuilder.addHeader("Content-Encoding", "gzip");
-      requestBuilder.post(gzipRequestBody(requestBody));
+    if (compressor != null) {
+      requestBuilder.addHeader("Content-Encoding", compressor.getEncoding());
+      requestBuilder.post(compressRequestBody(requestBody, compressor));
     } else {
       requestBuilder.post(requestBody);
     }
 
+    exporterMetrics.startRequest();
     CompletableResultCode result = new CompletableResultCode();
-
-    client
-        .newCall(requestBuilder.build())
-        .enqueue(
-            new Callback() {
-              @Override
-              public void onFailure(Call call, IOException e) {
-                exporterMetrics.addFailed(numItems);
-                logger.log(
-                    Level.SEVERE,
-                    "Failed to export "
-                        + type
-                        + "s. The request could not be executed. Full error message: "
-                        + e.getMessage());
-                result.fail();
+    result.whenComplete(exporterMetrics::endRequest);
+
+    Callback callback =
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            exporterMetrics.addFailed(numItems);
+            logger.log(
+                Level.SEVERE,
+                "Failed to export "
+                    + type
+                    + "s. The request could not be executed. Full error message: "
+                    + e.getMessage());
+            // The endpoint could not be reached.
+            onRetryableFailure.run();
+            result.fail();
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            try (ResponseBody body = response.body()) {
+              if (response.isSuccessful()) {
+                exporterMetrics.addSuccess(numItems);
+                result.succeed();
+                return;
               }
 
-              @Override
-              public void onResponse(Call call, Response response) {
-                try (ResponseBody body = response.body()) {
-                  if (response.isSuccessful()) {
-                    exporterMetrics.addSuccess(numItems);
-                    result.succeed();
-                    return;
-                  }
-
-                  exporterMetrics.addFailed(numItems);
-                  int code = response.code();
-
-                  String status = extractErrorStatus(response, body);
-
-                  logger.log(
-                      Level.WARNING,
-                      "Failed to export "
-                          + type
-                          + "s. Server responded with HTTP status code "
-                          + code
-                          + ". Error message: "
-                          + status);
-                  result.fail();
-                }
+              exporterMetrics.addFailed(numItems);
+              int code = response.code();
+
+              String status = extractErrorStatus(response, body);
+
+              logger.log(
+                  Level.WARNING,
+                  "Failed to export "
+                      + type
+                      + "s. Server responded with HTTP status code "
+                      + code
+                      + ". Error message: "
+                      + status);
+              if (isRetryable(response)) {
+                onRetryableFailure.run();
               }
-            });
+              result.fail();
+            }
+          }
+        };
+
+    Request request = requestBuilder.build();
+    if (retrier != null) {
+      retrier.enqueue(client, request, callback);
+    } else {
+      client.newCall(request).enqueue(callback);
+    }
 
     return result;
   }
@@ -145,7 +171,7 @@ public final class OkHttpExporter<T extends Marshaler> {
     return RetryUtil.retryableHttpResponseCodes().contains(response.code());
   }
 
-  private static RequestBody gzipRequestBody(RequestBody requestBody) {
+  private static RequestBody compressRequestBody(RequestBody requestBody, Compressor compressor) {
     return new RequestBody() {
       @Override
       public MediaType contentType() {
@@ -159,9 +185,10 @@ public final class OkHttpExporter<T extends Marshaler> {
 
       @Override
       public void writeTo(BufferedSink bufferedSink) throws IOException {
-        BufferedSink gzipSink = Okio.buffer(new GzipSink(bufferedSink));
-        requestBody.writeTo(gzipSink);
-        gzipSink.close();
+        BufferedSink compressedSink =
+            Okio.buffer(Okio.sink(compressor.compress(bufferedSink.outputStream())));
+        requestBody.writeTo(compressedSink);
+        compressedSink.close();
       }
     };
   }
@@ -8,8 +8,10 @@ package io.opentelemetry.exporter.internal.okhttp;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.TlsUtil;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
-import io.opentelemetry.exporter.internal.retry.RetryInterceptor;
+import io.opentelemetry.exporter.internal.retry.AsyncRetrier;
 import io.opentelemetry.exporter.internal.retry.RetryPolicy;
 import java.net.URI;
 import java.time.Duration;
@@ -18,6 +20,7 @@ import javax.annotation.Nullable;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.X509KeyManager;
 import javax.net.ssl.X509TrustManager;
+import okhttp3.ConnectionPool;
 import okhttp3.Headers;
 import okhttp3.OkHttpClient;
 
@@ -37,7 +40,7 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
   private String endpoint;
 
   private long timeoutNanos = TimeUnit.SECONDS.toNanos(DEFAULT_TIMEOUT_SECS);
-  private boolean compressionEnabled = false;
+  @Nullable private Compressor compressor;
   private boolean exportAsJson = false;
   @Nullable private Headers.Builder headersBuilder;
   @Nullable private byte[] trustedCertificatesPem;
@@ -45,6 +48,10 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
   @Nullable private byte[] certificatePem;
   @Nullable private RetryPolicy retryPolicy;
   private MeterProvider meterProvider = MeterProvider.noop();
+  private int maxConcurrentRequests = OkHttpUtil.DEFAULT_MAX_CONCURRENT_REQUESTS;
+  private int maxIdleConnections = OkHttpUtil.DEFAULT_MAX_IDLE_CONNECTIONS;
+  private Duration keepAlive = OkHttpUtil.DEFAULT_KEEP_ALIVE;
+  private Duration pingInterval = Duration.ZERO;
 
   public OkHttpExporterBuilder(String exporterName, String type, String defaultEndpoint) {
     this.exporterName = exporterName;
@@ -69,9 +76,12 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
   }
 
   public OkHttpExporterBuilder<T> setCompression(String compressionMethod) {
-    if (compressionMethod.equals("gzip")) {
-      this.compressionEnabled = true;
-    }
+    this.compressor = CompressorUtil.resolveCompressor(compressionMethod);
+    return this;
+  }
+
+  public OkHttpExporterBuilder<T> setCompressor(Compressor compressor) {
+    this.compressor = compressor;
     return this;
   }
 
@@ -104,6 +114,22 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
     return this;
   }
 
+  public OkHttpExporterBuilder<T> setMaxConcurrentRequests(int maxConcurrentRequests) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    return this;
+  }
+
+  public OkHttpExporterBuilder<T> setConnectionPool(int maxIdleConnections, Duration keepAlive) {
+    this.maxIdleConnections = maxIdleConnections;
+    this.keepAlive = keepAlive;
+    return this;
+  }
+
+  public OkHttpExporterBuilder<T> setPingInterval(Duration pingInterval) {
+    this.pingInterval = pingInterval;
+    return this;
+  }
+
   public OkHttpExporterBuilder<T> exportAsJson() {
     this.exportAsJson = true;
     return this;
@@ -112,7 +138,10 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
   public OkHttpExporter<T> build() {
     OkHttpClient.Builder clientBuilder =
         new OkHttpClient.Builder()
-            .dispatcher(OkHttpUtil.newDispatcher())
+            .dispatcher(OkHttpUtil.newDispatcher(maxConcurrentRequests))
+            .connectionPool(
+                new ConnectionPool(maxIdleConnections, keepAlive.toNanos(), TimeUnit.NANOSECONDS))
+            .pingInterval(pingInterval)
             .callTimeout(Duration.ofNanos(timeoutNanos));
 
     if (trustedCertificatesPem != null) {
@@ -133,9 +162,10 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
 
     Headers headers = headersBuilder == null ? null : headersBuilder.build();
 
-    if (retryPolicy != null) {
-      clientBuilder.addInterceptor(new RetryInterceptor(retryPolicy, OkHttpExporter::isRetryable));
-    }
+    AsyncRetrier retrier =
+        retryPolicy != null
+            ? new AsyncRetrier(retryPolicy, timeoutNanos, OkHttpExporter::isRetryable)
+            : null;
 
     return new OkHttpExporter<>(
         exporterName,
@@ -144,7 +174,8 @@ public final class OkHttpExporterBuilder<T extends Marshaler> {
         meterProvider,
         endpoint,
         headers,
-        compressionEnabled,
-        exportAsJson);
+        compressor,
+        exportAsJson,
+        retrier);
   }
 }
@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.internal.okhttp;
 
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.time.Duration;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -19,6 +20,19 @@ import okhttp3.Dispatcher;
  */
 public final class OkHttpUtil {
 
+  /**
+   * The default maximum number of concurrent export requests. Unlike the OkHttp default, which
+   * allows only 5 concurrent requests per host, the limit applies to the single host exporters send
+   * to.
+   */
+  public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+
+  /** The default maximum number of idle connections to keep, matching the OkHttp default. */
+  public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+  /** The default time to keep idle connections, matching the OkHttp default. */
+  public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
   /** Returns a {@link Dispatcher} using daemon threads, otherwise matching the OkHttp default. */
   public static Dispatcher newDispatcher() {
     return new Dispatcher(
@@ -31,5 +45,16 @@ public final class OkHttpUtil {
             new DaemonThreadFactory("okhttp-dispatch")));
   }
 
+  /**
+   * Returns a {@link Dispatcher} using daemon threads which executes at most {@code
+   * maxConcurrentRequests} requests at a time, to any host. Further requests are queued.
+   */
+  public static Dispatcher newDispatcher(int maxConcurrentRequests) {
+    Dispatcher dispatcher = newDispatcher();
+    dispatcher.setMaxRequests(maxConcurrentRequests);
+    dispatcher.setMaxRequestsPerHost(maxConcurrentRequests);
+    return dispatcher;
+  }
+
   private OkHttpUtil() {}
 }
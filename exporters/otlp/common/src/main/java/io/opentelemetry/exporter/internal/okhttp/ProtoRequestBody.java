@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.internal.okhttp;
 
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.StreamingMarshaler;
 import java.io.IOException;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
@@ -27,7 +28,9 @@ final class ProtoRequestBody extends RequestBody {
   /** Creates a new {@link ProtoRequestBody}. */
   public ProtoRequestBody(Marshaler marshaler) {
     this.marshaler = marshaler;
-    contentLength = marshaler.getBinarySerializedSize();
+    // Streaming marshalers are written with chunked transfer encoding, without computing the size.
+    contentLength =
+        marshaler instanceof StreamingMarshaler ? -1 : marshaler.getBinarySerializedSize();
   }
 
   @Override
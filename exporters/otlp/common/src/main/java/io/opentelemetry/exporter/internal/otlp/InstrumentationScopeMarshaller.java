@@ -18,6 +18,9 @@ import java.io.UncheckedIOException;
 /**
  * A Marshaler of {@link InstrumentationScopeInfo}.
  *
+ * <p>Like resources, the serialized scope is cached for each instance, along with its UTF-8 encoded
+ * schema URL.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -27,7 +30,8 @@ public final class InstrumentationScopeMarshaller extends MarshalerWithSize {
       SCOPE_MARSHALER_CACHE = new WeakConcurrentMap.WithInlinedExpunction<>();
 
   private final byte[] serializedBinary;
-  private final String serializedJson;
+  private final byte[] serializedJson;
+  private final byte[] schemaUrlUtf8;
 
   /** Returns a Marshaler for InstrumentationScopeInfo. */
   public static InstrumentationScopeMarshaller create(InstrumentationScopeInfo scopeInfo) {
@@ -51,18 +55,29 @@ public final class InstrumentationScopeMarshaller extends MarshalerWithSize {
             "Serialization error, this is likely a bug in OpenTelemetry.", e);
       }
 
-      String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+      byte[] json = MarshalerUtil.preserializeJsonFields(realMarshaler);
 
-      cached = new InstrumentationScopeMarshaller(binaryBos.toByteArray(), json);
+      cached =
+          new InstrumentationScopeMarshaller(
+              binaryBos.toByteArray(), json, MarshalerUtil.toBytes(scopeInfo.getSchemaUrl()));
       SCOPE_MARSHALER_CACHE.put(scopeInfo, cached);
     }
     return cached;
   }
 
-  private InstrumentationScopeMarshaller(byte[] binary, String json) {
+  private InstrumentationScopeMarshaller(byte[] binary, byte[] json, byte[] schemaUrlUtf8) {
     super(binary.length);
     serializedBinary = binary;
     serializedJson = json;
+    this.schemaUrlUtf8 = schemaUrlUtf8;
+  }
+
+  /**
+   * Returns the UTF-8 encoded schema URL of the scope, which is serialized in the message enclosing
+   * the scope.
+   */
+  public byte[] getSchemaUrlUtf8() {
+    return schemaUrlUtf8;
   }
 
   @Override
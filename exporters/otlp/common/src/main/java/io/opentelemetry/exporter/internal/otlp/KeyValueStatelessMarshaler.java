@@ -0,0 +1,272 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.InternalAttributeKeyImpl;
+import io.opentelemetry.exporter.internal.marshal.CodedOutputStream;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler2;
+import io.opentelemetry.proto.common.v1.internal.AnyValue;
+import io.opentelemetry.proto.common.v1.internal.ArrayValue;
+import io.opentelemetry.proto.common.v1.internal.KeyValue;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A {@link StatelessMarshaler2} of the entries of {@link Attributes}, the counterpart of {@link
+ * KeyValueMarshaler} which does not allocate marshalers for every attribute.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class KeyValueStatelessMarshaler
+    implements StatelessMarshaler2<AttributeKey<?>, Object> {
+
+  public static final KeyValueStatelessMarshaler INSTANCE = new KeyValueStatelessMarshaler();
+
+  private KeyValueStatelessMarshaler() {}
+
+  @Override
+  public int getBinarySerializedSize(
+      AttributeKey<?> attributeKey, Object value, MarshalerContext context) {
+    int size = 0;
+    size += MarshalerUtil.sizeBytes(KeyValue.KEY, keyUtf8(attributeKey));
+    size +=
+        MarshalerUtil.sizeMessageWithContext(
+            KeyValue.VALUE, attributeKey, value, AnyValueStatelessMarshaler.INSTANCE, context);
+    return size;
+  }
+
+  @Override
+  public void writeTo(
+      Serializer output, AttributeKey<?> attributeKey, Object value, MarshalerContext context)
+      throws IOException {
+    output.serializeString(KeyValue.KEY, keyUtf8(attributeKey));
+    output.serializeMessageWithContext(
+        KeyValue.VALUE, attributeKey, value, AnyValueStatelessMarshaler.INSTANCE, context);
+  }
+
+  private static byte[] keyUtf8(AttributeKey<?> attributeKey) {
+    if (attributeKey instanceof InternalAttributeKeyImpl) {
+      return ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8();
+    }
+    return MarshalerUtil.toBytes(attributeKey.getKey());
+  }
+
+  private static final class AnyValueStatelessMarshaler
+      implements StatelessMarshaler2<AttributeKey<?>, Object> {
+
+    static final AnyValueStatelessMarshaler INSTANCE = new AnyValueStatelessMarshaler();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int getBinarySerializedSize(
+        AttributeKey<?> attributeKey, Object value, MarshalerContext context) {
+      switch (attributeKey.getType()) {
+        case STRING:
+          return StringAnyValueStatelessMarshaler.INSTANCE.getBinarySerializedSize(
+              (String) value, context);
+        case LONG:
+          return Int64AnyValueStatelessMarshaler.INSTANCE.getBinarySerializedSize(
+              (Long) value, context);
+        case BOOLEAN:
+          return BoolAnyValueStatelessMarshaler.INSTANCE.getBinarySerializedSize(
+              (Boolean) value, context);
+        case DOUBLE:
+          return DoubleAnyValueStatelessMarshaler.INSTANCE.getBinarySerializedSize(
+              (Double) value, context);
+        case STRING_ARRAY:
+          return MarshalerUtil.sizeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<String>) value,
+              ArrayValueStatelessMarshaler.STRING,
+              context);
+        case LONG_ARRAY:
+          return MarshalerUtil.sizeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<Long>) value,
+              ArrayValueStatelessMarshaler.INT64,
+              context);
+        case BOOLEAN_ARRAY:
+          return MarshalerUtil.sizeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<Boolean>) value,
+              ArrayValueStatelessMarshaler.BOOL,
+              context);
+        case DOUBLE_ARRAY:
+          return MarshalerUtil.sizeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<Double>) value,
+              ArrayValueStatelessMarshaler.DOUBLE,
+              context);
+      }
+      // Error prone ensures the switch statement is complete, otherwise only can happen with
+      // unaligned versions which are not supported.
+      throw new IllegalArgumentException("Unsupported attribute type.");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeTo(
+        Serializer output, AttributeKey<?> attributeKey, Object value, MarshalerContext context)
+        throws IOException {
+      switch (attributeKey.getType()) {
+        case STRING:
+          StringAnyValueStatelessMarshaler.INSTANCE.writeTo(output, (String) value, context);
+          return;
+        case LONG:
+          Int64AnyValueStatelessMarshaler.INSTANCE.writeTo(output, (Long) value, context);
+          return;
+        case BOOLEAN:
+          BoolAnyValueStatelessMarshaler.INSTANCE.writeTo(output, (Boolean) value, context);
+          return;
+        case DOUBLE:
+          DoubleAnyValueStatelessMarshaler.INSTANCE.writeTo(output, (Double) value, context);
+          return;
+        case STRING_ARRAY:
+          output.serializeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<String>) value,
+              ArrayValueStatelessMarshaler.STRING,
+              context);
+          return;
+        case LONG_ARRAY:
+          output.serializeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<Long>) value,
+              ArrayValueStatelessMarshaler.INT64,
+              context);
+          return;
+        case BOOLEAN_ARRAY:
+          output.serializeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<Boolean>) value,
+              ArrayValueStatelessMarshaler.BOOL,
+              context);
+          return;
+        case DOUBLE_ARRAY:
+          output.serializeMessageWithContext(
+              AnyValue.ARRAY_VALUE,
+              (List<Double>) value,
+              ArrayValueStatelessMarshaler.DOUBLE,
+              context);
+          return;
+      }
+      // Error prone ensures the switch statement is complete, otherwise only can happen with
+      // unaligned versions which are not supported.
+      throw new IllegalArgumentException("Unsupported attribute type.");
+    }
+  }
+
+  // The AnyValue marshalers do not call serialize* methods because we always have to write the
+  // message tag even if the value is empty since it's a oneof.
+
+  private static final class StringAnyValueStatelessMarshaler
+      implements StatelessMarshaler<String> {
+
+    static final StringAnyValueStatelessMarshaler INSTANCE = new StringAnyValueStatelessMarshaler();
+
+    @Override
+    public int getBinarySerializedSize(String value, MarshalerContext context) {
+      int utf8Length = CodedOutputStream.encodedUtf8Length(value);
+      context.setSize(context.addSize(), utf8Length);
+      return AnyValue.STRING_VALUE.getTagSize()
+          + CodedOutputStream.computeLengthDelimitedFieldSize(utf8Length);
+    }
+
+    @Override
+    public void writeTo(Serializer output, String value, MarshalerContext context)
+        throws IOException {
+      output.writeString(AnyValue.STRING_VALUE, value, context.getSize());
+    }
+  }
+
+  private static final class Int64AnyValueStatelessMarshaler implements StatelessMarshaler<Long> {
+
+    static final Int64AnyValueStatelessMarshaler INSTANCE = new Int64AnyValueStatelessMarshaler();
+
+    @Override
+    public int getBinarySerializedSize(Long value, MarshalerContext context) {
+      return AnyValue.INT_VALUE.getTagSize() + CodedOutputStream.computeInt64SizeNoTag(value);
+    }
+
+    @Override
+    public void writeTo(Serializer output, Long value, MarshalerContext context)
+        throws IOException {
+      output.writeInt64(AnyValue.INT_VALUE, value);
+    }
+  }
+
+  private static final class BoolAnyValueStatelessMarshaler implements StatelessMarshaler<Boolean> {
+
+    static final BoolAnyValueStatelessMarshaler INSTANCE = new BoolAnyValueStatelessMarshaler();
+
+    @Override
+    public int getBinarySerializedSize(Boolean value, MarshalerContext context) {
+      return AnyValue.BOOL_VALUE.getTagSize() + CodedOutputStream.computeBoolSizeNoTag(value);
+    }
+
+    @Override
+    public void writeTo(Serializer output, Boolean value, MarshalerContext context)
+        throws IOException {
+      output.writeBool(AnyValue.BOOL_VALUE, value);
+    }
+  }
+
+  private static final class DoubleAnyValueStatelessMarshaler
+      implements StatelessMarshaler<Double> {
+
+    static final DoubleAnyValueStatelessMarshaler INSTANCE = new DoubleAnyValueStatelessMarshaler();
+
+    @Override
+    public int getBinarySerializedSize(Double value, MarshalerContext context) {
+      return AnyValue.DOUBLE_VALUE.getTagSize() + CodedOutputStream.computeDoubleSizeNoTag(value);
+    }
+
+    @Override
+    public void writeTo(Serializer output, Double value, MarshalerContext context)
+        throws IOException {
+      output.writeDouble(AnyValue.DOUBLE_VALUE, value);
+    }
+  }
+
+  private static final class ArrayValueStatelessMarshaler<T>
+      implements StatelessMarshaler<List<T>> {
+
+    static final ArrayValueStatelessMarshaler<String> STRING =
+        new ArrayValueStatelessMarshaler<>(StringAnyValueStatelessMarshaler.INSTANCE);
+    static final ArrayValueStatelessMarshaler<Long> INT64 =
+        new ArrayValueStatelessMarshaler<>(Int64AnyValueStatelessMarshaler.INSTANCE);
+    static final ArrayValueStatelessMarshaler<Boolean> BOOL =
+        new ArrayValueStatelessMarshaler<>(BoolAnyValueStatelessMarshaler.INSTANCE);
+    static final ArrayValueStatelessMarshaler<Double> DOUBLE =
+        new ArrayValueStatelessMarshaler<>(DoubleAnyValueStatelessMarshaler.INSTANCE);
+
+    private final StatelessMarshaler<T> elementMarshaler;
+
+    private ArrayValueStatelessMarshaler(StatelessMarshaler<T> elementMarshaler) {
+      this.elementMarshaler = elementMarshaler;
+    }
+
+    @Override
+    public int getBinarySerializedSize(List<T> values, MarshalerContext context) {
+      return MarshalerUtil.sizeRepeatedMessageWithContext(
+          ArrayValue.VALUES, values, elementMarshaler, context);
+    }
+
+    @Override
+    public void writeTo(Serializer output, List<T> values, MarshalerContext context)
+        throws IOException {
+      output.serializeRepeatedMessageWithContext(
+          ArrayValue.VALUES, values, elementMarshaler, context);
+    }
+  }
+}
@@ -17,6 +17,10 @@ import java.io.UncheckedIOException;
 /**
  * A Marshaler of {@link io.opentelemetry.sdk.resources.Resource}.
  *
+ * <p>Resources are immutable and shared by all the telemetry of an SDK, so the serialized resource
+ * is cached for each instance, along with its UTF-8 encoded schema URL, and copied as is into every
+ * request.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
@@ -26,7 +30,8 @@ public final class ResourceMarshaler extends MarshalerWithSize {
       RESOURCE_MARSHALER_CACHE = new WeakConcurrentMap.WithInlinedExpunction<>();
 
   private final byte[] serializedBinary;
-  private final String serializedJson;
+  private final byte[] serializedJson;
+  private final byte[] schemaUrlUtf8;
 
   /** Returns a Marshaler for Resource. */
   public static ResourceMarshaler create(io.opentelemetry.sdk.resources.Resource resource) {
@@ -48,18 +53,29 @@ public final class ResourceMarshaler extends MarshalerWithSize {
             "Serialization error, this is likely a bug in OpenTelemetry.", e);
       }
 
-      String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+      byte[] json = MarshalerUtil.preserializeJsonFields(realMarshaler);
 
-      cached = new ResourceMarshaler(binaryBos.toByteArray(), json);
+      cached =
+          new ResourceMarshaler(
+              binaryBos.toByteArray(), json, MarshalerUtil.toBytes(resource.getSchemaUrl()));
       RESOURCE_MARSHALER_CACHE.put(resource, cached);
     }
     return cached;
   }
 
-  private ResourceMarshaler(byte[] binary, String json) {
+  private ResourceMarshaler(byte[] binary, byte[] json, byte[] schemaUrlUtf8) {
     super(binary.length);
     serializedBinary = binary;
     serializedJson = json;
+    this.schemaUrlUtf8 = schemaUrlUtf8;
+  }
+
+  /**
+   * Returns the UTF-8 encoded schema URL of the resource, which is serialized in the message
+   * enclosing the resource.
+   */
+  public byte[] getSchemaUrlUtf8() {
+    return schemaUrlUtf8;
   }
 
   @Override
@@ -33,8 +33,36 @@ public final class StringAnyValueMarshaler extends MarshalerWithSize {
     output.writeString(AnyValue.STRING_VALUE, valueUtf8);
   }
 
+  /**
+   * Returns a Marshaler of string-valued {@link AnyValue} which encodes the string to UTF-8 while
+   * writing it, rather than into a temporary array. Preferable for large strings which are unlikely
+   * to repeat, like log bodies.
+   */
+  public static MarshalerWithSize create(String value) {
+    return new DirectStringAnyValueMarshaler(value, CodedOutputStream.encodedUtf8Length(value));
+  }
+
   private static int calculateSize(byte[] valueUtf8) {
     return AnyValue.STRING_VALUE.getTagSize()
         + CodedOutputStream.computeByteArraySizeNoTag(valueUtf8);
   }
+
+  private static final class DirectStringAnyValueMarshaler extends MarshalerWithSize {
+
+    private final String value;
+    private final int valueUtf8Length;
+
+    private DirectStringAnyValueMarshaler(String value, int valueUtf8Length) {
+      super(
+          AnyValue.STRING_VALUE.getTagSize()
+              + CodedOutputStream.computeLengthDelimitedFieldSize(valueUtf8Length));
+      this.value = value;
+      this.valueUtf8Length = valueUtf8Length;
+    }
+
+    @Override
+    public void writeTo(Serializer output) throws IOException {
+      output.writeString(AnyValue.STRING_VALUE, value, valueUtf8Length);
+    }
+  }
 }
@@ -40,14 +40,14 @@ final class LogMarshaler extends MarshalerWithSize {
         KeyValueMarshaler.createRepeated(logData.getAttributes());
 
     // For now, map all the bodies to String AnyValue.
-    StringAnyValueMarshaler anyValueMarshaler =
-        new StringAnyValueMarshaler(MarshalerUtil.toBytes(logData.getBody().asString()));
+    MarshalerWithSize anyValueMarshaler =
+        StringAnyValueMarshaler.create(logData.getBody().asString());
 
     SpanContext spanContext = logData.getSpanContext();
     return new LogMarshaler(
         logData.getEpochNanos(),
         toProtoSeverityNumber(logData.getSeverity()),
-        MarshalerUtil.toBytes(logData.getSeverityText()),
+        MarshalerUtil.toBytesCached(logData.getSeverityText()),
         anyValueMarshaler,
         attributeMarshalers,
         // TODO (trask) implement droppedAttributesCount in LogRecord
@@ -194,7 +194,7 @@ final class LogMarshaler extends MarshalerWithSize {
   }
 
   /** Vendored {@link Byte#toUnsignedInt(byte)} to support Android. */
-  private static int toUnsignedInt(byte x) {
+  static int toUnsignedInt(byte x) {
     return ((int) x) & 0xff;
   }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.logs;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.exporter.internal.marshal.CodedOutputStream;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.otlp.KeyValueStatelessMarshaler;
+import io.opentelemetry.proto.common.v1.internal.AnyValue;
+import io.opentelemetry.proto.logs.v1.internal.LogRecord;
+import io.opentelemetry.sdk.logs.data.LogData;
+import java.io.IOException;
+import javax.annotation.Nullable;
+
+/** A {@link StatelessMarshaler} of {@link LogData}, the counterpart of {@link LogMarshaler}. */
+final class LogStatelessMarshaler implements StatelessMarshaler<LogData> {
+
+  static final LogStatelessMarshaler INSTANCE = new LogStatelessMarshaler();
+
+  @Override
+  public int getBinarySerializedSize(LogData log, MarshalerContext context) {
+    SpanContext spanContext = log.getSpanContext();
+    SpanContext ids = validIds(spanContext);
+    int size = 0;
+    size += MarshalerUtil.sizeFixed64(LogRecord.TIME_UNIX_NANO, log.getEpochNanos());
+
+    size +=
+        MarshalerUtil.sizeEnum(
+            LogRecord.SEVERITY_NUMBER, LogMarshaler.toProtoSeverityNumber(log.getSeverity()));
+
+    size +=
+        MarshalerUtil.sizeStringWithContext(
+            LogRecord.SEVERITY_TEXT, log.getSeverityText(), context);
+
+    size +=
+        MarshalerUtil.sizeMessageWithContext(
+            LogRecord.BODY, log.getBody().asString(), BodyStatelessMarshaler.INSTANCE, context);
+
+    size +=
+        MarshalerUtil.sizeRepeatedMessageWithContext(
+            LogRecord.ATTRIBUTES,
+            log.getAttributes(),
+            KeyValueStatelessMarshaler.INSTANCE,
+            context);
+
+    size +=
+        MarshalerUtil.sizeFixed32(
+            LogRecord.FLAGS, LogMarshaler.toUnsignedInt(spanContext.getTraceFlags().asByte()));
+    size += MarshalerUtil.sizeTraceId(LogRecord.TRACE_ID, ids);
+    size += MarshalerUtil.sizeSpanId(LogRecord.SPAN_ID, ids);
+    return size;
+  }
+
+  @Override
+  public void writeTo(Serializer output, LogData log, MarshalerContext context)
+      throws IOException {
+    SpanContext spanContext = log.getSpanContext();
+    SpanContext ids = validIds(spanContext);
+    output.serializeFixed64(LogRecord.TIME_UNIX_NANO, log.getEpochNanos());
+
+    output.serializeEnum(
+        LogRecord.SEVERITY_NUMBER, LogMarshaler.toProtoSeverityNumber(log.getSeverity()));
+
+    output.serializeStringWithContext(LogRecord.SEVERITY_TEXT, log.getSeverityText(), context);
+
+    output.serializeMessageWithContext(
+        LogRecord.BODY, log.getBody().asString(), BodyStatelessMarshaler.INSTANCE, context);
+
+    output.serializeRepeatedMessageWithContext(
+        LogRecord.ATTRIBUTES, log.getAttributes(), KeyValueStatelessMarshaler.INSTANCE, context);
+
+    output.serializeFixed32(
+        LogRecord.FLAGS, LogMarshaler.toUnsignedInt(spanContext.getTraceFlags().asByte()));
+    output.serializeTraceId(LogRecord.TRACE_ID, ids);
+    output.serializeSpanId(LogRecord.SPAN_ID, ids);
+  }
+
+  // Invalid trace and span IDs are not written, like in LogMarshaler.
+  @Nullable
+  private static SpanContext validIds(SpanContext spanContext) {
+    return spanContext.isValid() ? spanContext : null;
+  }
+
+  // For now, maps all the bodies to String AnyValue, like LogMarshaler. Does not call serialize*
+  // methods because we always have to write the message tag even if the value is empty since it's
+  // a oneof.
+  private static final class BodyStatelessMarshaler implements StatelessMarshaler<String> {
+
+    static final BodyStatelessMarshaler INSTANCE = new BodyStatelessMarshaler();
+
+    @Override
+    public int getBinarySerializedSize(String value, MarshalerContext context) {
+      int utf8Length = CodedOutputStream.encodedUtf8Length(value);
+      context.setSize(context.addSize(), utf8Length);
+      return AnyValue.STRING_VALUE.getTagSize()
+          + CodedOutputStream.computeLengthDelimitedFieldSize(utf8Length);
+    }
+
+    @Override
+    public void writeTo(Serializer output, String value, MarshalerContext context)
+        throws IOException {
+      output.writeString(AnyValue.STRING_VALUE, value, context.getSize());
+    }
+  }
+}
@@ -6,10 +6,12 @@
 package io.opentelemetry.exporter.internal.otlp.logs;
 
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.proto.collector.logs.v1.internal.ExportLogsServiceRequest;
+import io.opentelemetry.proto.logs.v1.internal.ScopeLogs;
 import io.opentelemetry.sdk.logs.data.LogData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import java.io.IOException;
@@ -23,6 +25,10 @@ import java.util.Collection;
  */
 public final class LogsRequestMarshaler extends MarshalerWithSize {
 
+  // Reused by getLogSize, which a batch log processor calls for every log on its worker thread.
+  private static final ThreadLocal<MarshalerContext> THREAD_LOCAL_SIZE_CONTEXT =
+      new ThreadLocal<>();
+
   private final ResourceLogsMarshaler[] resourceLogsMarshalers;
 
   /**
@@ -33,6 +39,29 @@ public final class LogsRequestMarshaler extends MarshalerWithSize {
     return new LogsRequestMarshaler(ResourceLogsMarshaler.create(logs));
   }
 
+  /**
+   * Returns the number of bytes {@code log} adds to a request, not counting its resource and
+   * instrumentation scope, which are shared with the other logs of the same emitter.
+   */
+  public static int getLogSize(LogData log) {
+    MarshalerContext context = getSizeContext();
+    try {
+      return MarshalerUtil.sizeMessageWithContext(
+          ScopeLogs.LOG_RECORDS, log, LogStatelessMarshaler.INSTANCE, context);
+    } finally {
+      context.reset();
+    }
+  }
+
+  private static MarshalerContext getSizeContext() {
+    MarshalerContext result = THREAD_LOCAL_SIZE_CONTEXT.get();
+    if (result == null) {
+      result = new MarshalerContext();
+      THREAD_LOCAL_SIZE_CONTEXT.set(result);
+    }
+    return result;
+  }
+
   private LogsRequestMarshaler(ResourceLogsMarshaler[] resourceLogsMarshalers) {
     super(
         MarshalerUtil.sizeRepeatedMessage(
@@ -46,16 +46,17 @@ public final class ResourceLogsMarshaler extends MarshalerWithSize {
       int posInstrumentation = 0;
       for (Map.Entry<InstrumentationScopeInfo, List<Marshaler>> entryIs :
           entry.getValue().entrySet()) {
+        InstrumentationScopeMarshaller scopeMarshaler =
+            InstrumentationScopeMarshaller.create(entryIs.getKey());
         instrumentationLibrarySpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeLogsMarshaler(
-                InstrumentationScopeMarshaller.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
-                entryIs.getValue());
+                scopeMarshaler, scopeMarshaler.getSchemaUrlUtf8(), entryIs.getValue());
       }
+      ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(entry.getKey());
       resourceLogsMarshalers[posResource++] =
           new ResourceLogsMarshaler(
-              ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              resourceMarshaler,
+              resourceMarshaler.getSchemaUrlUtf8(),
               instrumentationLibrarySpansMarshalers);
     }
 
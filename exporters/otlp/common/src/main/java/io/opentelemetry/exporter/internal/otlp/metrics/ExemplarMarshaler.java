@@ -82,9 +82,9 @@ final class ExemplarMarshaler extends MarshalerWithSize {
     }
     if (spanContext.isValid()) {
       output.serializeSpanId(
-          io.opentelemetry.proto.metrics.v1.internal.Exemplar.SPAN_ID, spanContext.getSpanId());
+          io.opentelemetry.proto.metrics.v1.internal.Exemplar.SPAN_ID, spanContext);
       output.serializeTraceId(
-          io.opentelemetry.proto.metrics.v1.internal.Exemplar.TRACE_ID, spanContext.getTraceId());
+          io.opentelemetry.proto.metrics.v1.internal.Exemplar.TRACE_ID, spanContext);
     }
     output.serializeRepeatedMessage(
         io.opentelemetry.proto.metrics.v1.internal.Exemplar.FILTERED_ATTRIBUTES,
@@ -109,11 +109,10 @@ final class ExemplarMarshaler extends MarshalerWithSize {
     if (spanContext.isValid()) {
       size +=
           MarshalerUtil.sizeSpanId(
-              io.opentelemetry.proto.metrics.v1.internal.Exemplar.SPAN_ID, spanContext.getSpanId());
+              io.opentelemetry.proto.metrics.v1.internal.Exemplar.SPAN_ID, spanContext);
       size +=
           MarshalerUtil.sizeTraceId(
-              io.opentelemetry.proto.metrics.v1.internal.Exemplar.TRACE_ID,
-              spanContext.getTraceId());
+              io.opentelemetry.proto.metrics.v1.internal.Exemplar.TRACE_ID, spanContext);
     }
     size +=
         MarshalerUtil.sizeRepeatedMessage(
@@ -25,9 +25,9 @@ final class MetricMarshaler extends MarshalerWithSize {
 
   static Marshaler create(MetricData metric) {
     // TODO(anuraaga): Cache these as they should be effectively singleton.
-    byte[] name = MarshalerUtil.toBytes(metric.getName());
-    byte[] description = MarshalerUtil.toBytes(metric.getDescription());
-    byte[] unit = MarshalerUtil.toBytes(metric.getUnit());
+    byte[] name = MarshalerUtil.toBytesCached(metric.getName());
+    byte[] description = MarshalerUtil.toBytesCached(metric.getDescription());
+    byte[] unit = MarshalerUtil.toBytesCached(metric.getUnit());
 
     Marshaler dataMarshaler = null;
     ProtoFieldInfo dataField = null;
@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.otlp.InstrumentationScopeMarshaller;
+import io.opentelemetry.proto.trace.v1.internal.ScopeSpans;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link StatelessMarshaler} of the spans of an {@link InstrumentationScopeInfo}, the counterpart
+ * of {@link InstrumentationScopeSpansMarshaler}.
+ */
+final class InstrumentationScopeSpansStatelessMarshaler
+    implements StatelessMarshaler<Map.Entry<InstrumentationScopeInfo, List<SpanData>>> {
+
+  static final InstrumentationScopeSpansStatelessMarshaler INSTANCE =
+      new InstrumentationScopeSpansStatelessMarshaler();
+
+  @Override
+  public int getBinarySerializedSize(
+      Map.Entry<InstrumentationScopeInfo, List<SpanData>> scopeSpans, MarshalerContext context) {
+    InstrumentationScopeMarshaller scopeMarshaler =
+        InstrumentationScopeMarshaller.create(scopeSpans.getKey());
+    int size = 0;
+    size += MarshalerUtil.sizeMessage(ScopeSpans.SCOPE, scopeMarshaler);
+    size +=
+        MarshalerUtil.sizeRepeatedMessageWithContext(
+            ScopeSpans.SPANS, scopeSpans.getValue(), SpanStatelessMarshaler.INSTANCE, context);
+    size += MarshalerUtil.sizeBytes(ScopeSpans.SCHEMA_URL, scopeMarshaler.getSchemaUrlUtf8());
+    return size;
+  }
+
+  @Override
+  public void writeTo(
+      Serializer output,
+      Map.Entry<InstrumentationScopeInfo, List<SpanData>> scopeSpans,
+      MarshalerContext context)
+      throws IOException {
+    InstrumentationScopeMarshaller scopeMarshaler =
+        InstrumentationScopeMarshaller.create(scopeSpans.getKey());
+    output.serializeMessage(ScopeSpans.SCOPE, scopeMarshaler);
+    output.serializeRepeatedMessageWithContext(
+        ScopeSpans.SPANS, scopeSpans.getValue(), SpanStatelessMarshaler.INSTANCE, context);
+    output.serializeString(ScopeSpans.SCHEMA_URL, scopeMarshaler.getSchemaUrlUtf8());
+  }
+}
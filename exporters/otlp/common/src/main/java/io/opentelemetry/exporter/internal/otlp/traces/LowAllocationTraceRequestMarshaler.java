@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.proto.collector.trace.v1.internal.ExportTraceServiceRequest;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.SpanDataBatch;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * {@link Marshaler} to convert SDK {@link SpanData} to OTLP ExportTraceServiceRequest which can be
+ * reused for any number of requests. Unlike {@link TraceRequestMarshaler}, it does not create a
+ * marshaler for every span, event, link and attribute, but marshals the {@link SpanData} directly
+ * with stateless marshalers, keeping the state of the request in buffers which are reused by the
+ * next request.
+ *
+ * <p>A request is prepared with {@link #initialize(Collection)}, and the marshaler must be {@link
+ * #reset()} once the request has been written, and can't be used for another request in the
+ * meantime.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class LowAllocationTraceRequestMarshaler extends Marshaler {
+
+  private final MarshalerContext context = new MarshalerContext();
+  // Holds the spans of the request grouped by resource and scope. The spans are copied so that the
+  // request doesn't depend on the collection passed to initialize being left unmodified, like the
+  // batch of the BatchSpanProcessor which is reused when an export times out.
+  private final SpanDataBatch spans = new SpanDataBatch(0);
+  private int size;
+
+  /** Prepares the marshaler to write a request of the given spans. */
+  public void initialize(Collection<SpanData> spanDataList) {
+    for (SpanData span : spanDataList) {
+      spans.addSpan(span);
+    }
+    size = calculateSize(spans, context);
+  }
+
+  /** Clears the request, so that the marshaler can be initialized with the next one. */
+  public void reset() {
+    spans.reset();
+    context.reset();
+    size = 0;
+  }
+
+  @Override
+  public int getBinarySerializedSize() {
+    return size;
+  }
+
+  @Override
+  public void writeTo(Serializer output) throws IOException {
+    // The request may be written more than once, for example when it is retried.
+    context.resetReadIndex();
+    output.serializeRepeatedMessageWithContext(
+        ExportTraceServiceRequest.RESOURCE_SPANS,
+        spans.getGroups().entrySet(),
+        ResourceSpansStatelessMarshaler.INSTANCE,
+        context);
+  }
+
+  private static int calculateSize(SpanDataBatch spans, MarshalerContext context) {
+    return MarshalerUtil.sizeRepeatedMessageWithContext(
+        ExportTraceServiceRequest.RESOURCE_SPANS,
+        spans.getGroups().entrySet(),
+        ResourceSpansStatelessMarshaler.INSTANCE,
+        context);
+  }
+}
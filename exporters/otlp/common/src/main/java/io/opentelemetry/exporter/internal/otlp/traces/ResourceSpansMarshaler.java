@@ -14,8 +14,11 @@ import io.opentelemetry.proto.trace.v1.internal.ResourceSpans;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.SpanDataBatch;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,16 +48,17 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
       int posInstrumentation = 0;
       for (Map.Entry<InstrumentationScopeInfo, List<SpanMarshaler>> entryIs :
           entry.getValue().entrySet()) {
+        InstrumentationScopeMarshaller scopeMarshaler =
+            InstrumentationScopeMarshaller.create(entryIs.getKey());
         instrumentationScopeSpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeSpansMarshaler(
-                InstrumentationScopeMarshaller.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
-                entryIs.getValue());
+                scopeMarshaler, scopeMarshaler.getSchemaUrlUtf8(), entryIs.getValue());
       }
+      ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(entry.getKey());
       resourceSpansMarshalers[posResource++] =
           new ResourceSpansMarshaler(
-              ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              resourceMarshaler,
+              resourceMarshaler.getSchemaUrlUtf8(),
               instrumentationScopeSpansMarshalers);
     }
     return resourceSpansMarshalers;
@@ -92,6 +96,10 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
 
   private static Map<Resource, Map<InstrumentationScopeInfo, List<SpanMarshaler>>>
       groupByResourceAndScope(Collection<SpanData> spanDataList) {
+    if (spanDataList instanceof SpanDataBatch) {
+      // Batches of the BatchSpanProcessor are grouped as spans are added to them.
+      return toMarshalers(((SpanDataBatch) spanDataList).getGroups());
+    }
     return MarshalerUtil.groupByResourceAndScope(
         spanDataList,
         // TODO(anuraaga): Replace with an internal SdkData type of interface that exposes these
@@ -100,4 +108,25 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
         SpanData::getInstrumentationScopeInfo,
         SpanMarshaler::create);
   }
+
+  private static Map<Resource, Map<InstrumentationScopeInfo, List<SpanMarshaler>>> toMarshalers(
+      Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> groups) {
+    Map<Resource, Map<InstrumentationScopeInfo, List<SpanMarshaler>>> result =
+        new IdentityHashMap<>(groups.size());
+    groups.forEach(
+        (resource, scopeGroups) -> {
+          Map<InstrumentationScopeInfo, List<SpanMarshaler>> scopeMarshalers =
+              new IdentityHashMap<>(scopeGroups.size());
+          scopeGroups.forEach(
+              (scope, spans) -> {
+                List<SpanMarshaler> marshalers = new ArrayList<>(spans.size());
+                for (SpanData span : spans) {
+                  marshalers.add(SpanMarshaler.create(span));
+                }
+                scopeMarshalers.put(scope, marshalers);
+              });
+          result.put(resource, scopeMarshalers);
+        });
+    return result;
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
+import io.opentelemetry.proto.trace.v1.internal.ResourceSpans;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link StatelessMarshaler} of the spans of a {@link Resource}, the counterpart of {@link
+ * ResourceSpansMarshaler}.
+ */
+final class ResourceSpansStatelessMarshaler
+    implements StatelessMarshaler<
+        Map.Entry<Resource, Map<InstrumentationScopeInfo, List<SpanData>>>> {
+
+  static final ResourceSpansStatelessMarshaler INSTANCE = new ResourceSpansStatelessMarshaler();
+
+  @Override
+  public int getBinarySerializedSize(
+      Map.Entry<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> resourceSpans,
+      MarshalerContext context) {
+    ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(resourceSpans.getKey());
+    int size = 0;
+    size += MarshalerUtil.sizeMessage(ResourceSpans.RESOURCE, resourceMarshaler);
+    size +=
+        MarshalerUtil.sizeRepeatedMessageWithContext(
+            ResourceSpans.SCOPE_SPANS,
+            resourceSpans.getValue().entrySet(),
+            InstrumentationScopeSpansStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        MarshalerUtil.sizeBytes(ResourceSpans.SCHEMA_URL, resourceMarshaler.getSchemaUrlUtf8());
+    return size;
+  }
+
+  @Override
+  public void writeTo(
+      Serializer output,
+      Map.Entry<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> resourceSpans,
+      MarshalerContext context)
+      throws IOException {
+    ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(resourceSpans.getKey());
+    output.serializeMessage(ResourceSpans.RESOURCE, resourceMarshaler);
+    output.serializeRepeatedMessageWithContext(
+        ResourceSpans.SCOPE_SPANS,
+        resourceSpans.getValue().entrySet(),
+        InstrumentationScopeSpansStatelessMarshaler.INSTANCE,
+        context);
+    output.serializeString(ResourceSpans.SCHEMA_URL, resourceMarshaler.getSchemaUrlUtf8());
+  }
+}
@@ -39,7 +39,7 @@ final class SpanEventMarshaler extends MarshalerWithSize {
   static SpanEventMarshaler create(EventData event) {
     return new SpanEventMarshaler(
         event.getEpochNanos(),
-        MarshalerUtil.toBytes(event.getName()),
+        MarshalerUtil.toBytesCached(event.getName()),
         KeyValueMarshaler.createRepeated(event.getAttributes()),
         event.getTotalAttributeCount() - event.getAttributes().size());
   }
@@ -7,6 +7,7 @@ package io.opentelemetry.exporter.internal.otlp.traces;
 
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
 
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
@@ -21,8 +22,7 @@ import java.util.List;
 final class SpanLinkMarshaler extends MarshalerWithSize {
   private static final SpanLinkMarshaler[] EMPTY = new SpanLinkMarshaler[0];
   private static final byte[] EMPTY_BYTES = new byte[0];
-  private final String traceId;
-  private final String spanId;
+  private final SpanContext spanContext;
   private final byte[] traceStateUtf8;
   private final KeyValueMarshaler[] attributeMarshalers;
   private final int droppedAttributesCount;
@@ -49,24 +49,20 @@ final class SpanLinkMarshaler extends MarshalerWithSize {
             ? EMPTY_BYTES
             : encodeTraceState(traceState).getBytes(StandardCharsets.UTF_8);
     return new SpanLinkMarshaler(
-        link.getSpanContext().getTraceId(),
-        link.getSpanContext().getSpanId(),
+        link.getSpanContext(),
         traceStateUtf8,
         KeyValueMarshaler.createRepeated(link.getAttributes()),
         link.getTotalAttributeCount() - link.getAttributes().size());
   }
 
   private SpanLinkMarshaler(
-      String traceId,
-      String spanId,
+      SpanContext spanContext,
       byte[] traceStateUtf8,
       KeyValueMarshaler[] attributeMarshalers,
       int droppedAttributesCount) {
     super(
-        calculateSize(
-            traceId, spanId, traceStateUtf8, attributeMarshalers, droppedAttributesCount));
-    this.traceId = traceId;
-    this.spanId = spanId;
+        calculateSize(spanContext, traceStateUtf8, attributeMarshalers, droppedAttributesCount));
+    this.spanContext = spanContext;
     this.traceStateUtf8 = traceStateUtf8;
     this.attributeMarshalers = attributeMarshalers;
     this.droppedAttributesCount = droppedAttributesCount;
@@ -74,22 +70,21 @@ final class SpanLinkMarshaler extends MarshalerWithSize {
 
   @Override
   public void writeTo(Serializer output) throws IOException {
-    output.serializeTraceId(Span.Link.TRACE_ID, traceId);
-    output.serializeSpanId(Span.Link.SPAN_ID, spanId);
+    output.serializeTraceId(Span.Link.TRACE_ID, spanContext);
+    output.serializeSpanId(Span.Link.SPAN_ID, spanContext);
     output.serializeString(Span.Link.TRACE_STATE, traceStateUtf8);
     output.serializeRepeatedMessage(Span.Link.ATTRIBUTES, attributeMarshalers);
     output.serializeUInt32(Span.Link.DROPPED_ATTRIBUTES_COUNT, droppedAttributesCount);
   }
 
   private static int calculateSize(
-      String traceId,
-      String spanId,
+      SpanContext spanContext,
       byte[] traceStateUtf8,
       KeyValueMarshaler[] attributeMarshalers,
       int droppedAttributesCount) {
     int size = 0;
-    size += MarshalerUtil.sizeTraceId(Span.Link.TRACE_ID, traceId);
-    size += MarshalerUtil.sizeSpanId(Span.Link.SPAN_ID, spanId);
+    size += MarshalerUtil.sizeTraceId(Span.Link.TRACE_ID, spanContext);
+    size += MarshalerUtil.sizeSpanId(Span.Link.SPAN_ID, spanContext);
     size += MarshalerUtil.sizeBytes(Span.Link.TRACE_STATE, traceStateUtf8);
     size += MarshalerUtil.sizeRepeatedMessage(Span.Link.ATTRIBUTES, attributeMarshalers);
     size += MarshalerUtil.sizeUInt32(Span.Link.DROPPED_ATTRIBUTES_COUNT, droppedAttributesCount);
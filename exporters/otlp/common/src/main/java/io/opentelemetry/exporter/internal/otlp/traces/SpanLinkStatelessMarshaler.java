@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.otlp.KeyValueStatelessMarshaler;
+import io.opentelemetry.proto.trace.v1.internal.Span;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import java.io.IOException;
+
+/**
+ * A {@link StatelessMarshaler} of {@link LinkData}, the counterpart of {@link SpanLinkMarshaler}.
+ */
+final class SpanLinkStatelessMarshaler implements StatelessMarshaler<LinkData> {
+
+  static final SpanLinkStatelessMarshaler INSTANCE = new SpanLinkStatelessMarshaler();
+
+  @Override
+  public int getBinarySerializedSize(LinkData link, MarshalerContext context) {
+    SpanContext spanContext = link.getSpanContext();
+    int size = 0;
+    size += MarshalerUtil.sizeTraceId(Span.Link.TRACE_ID, spanContext);
+    size += MarshalerUtil.sizeSpanId(Span.Link.SPAN_ID, spanContext);
+    size +=
+        SpanStatelessMarshaler.sizeTraceState(
+            Span.Link.TRACE_STATE, spanContext.getTraceState(), context);
+    size +=
+        MarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.Link.ATTRIBUTES,
+            link.getAttributes(),
+            KeyValueStatelessMarshaler.INSTANCE,
+            context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.Link.DROPPED_ATTRIBUTES_COUNT,
+            link.getTotalAttributeCount() - link.getAttributes().size());
+    return size;
+  }
+
+  @Override
+  public void writeTo(Serializer output, LinkData link, MarshalerContext context)
+      throws IOException {
+    SpanContext spanContext = link.getSpanContext();
+    output.serializeTraceId(Span.Link.TRACE_ID, spanContext);
+    output.serializeSpanId(Span.Link.SPAN_ID, spanContext);
+    SpanStatelessMarshaler.serializeTraceState(
+        output, Span.Link.TRACE_STATE, spanContext.getTraceState(), context);
+    output.serializeRepeatedMessageWithContext(
+        Span.Link.ATTRIBUTES, link.getAttributes(), KeyValueStatelessMarshaler.INSTANCE, context);
+    output.serializeUInt32(
+        Span.Link.DROPPED_ATTRIBUTES_COUNT,
+        link.getTotalAttributeCount() - link.getAttributes().size());
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.exporter.internal.otlp.traces;
 
 import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
 
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
@@ -22,10 +23,9 @@ import javax.annotation.Nullable;
 
 final class SpanMarshaler extends MarshalerWithSize {
   private static final byte[] EMPTY_BYTES = new byte[0];
-  private final String traceId;
+  private final SpanContext spanContext;
   private final byte[] traceStateUtf8;
-  private final String spanId;
-  @Nullable private final String parentSpanId;
+  @Nullable private final SpanContext parentSpanContext;
   private final byte[] nameUtf8;
   private final ProtoEnumInfo spanKind;
   private final long startEpochNanos;
@@ -46,10 +46,8 @@ final class SpanMarshaler extends MarshalerWithSize {
         SpanEventMarshaler.createRepeated(spanData.getEvents());
     SpanLinkMarshaler[] spanLinkMarshalers = SpanLinkMarshaler.createRepeated(spanData.getLinks());
 
-    String parentSpanId =
-        spanData.getParentSpanContext().isValid()
-            ? spanData.getParentSpanContext().getSpanId()
-            : null;
+    SpanContext parentSpanContext =
+        spanData.getParentSpanContext().isValid() ? spanData.getParentSpanContext() : null;
 
     TraceState traceState = spanData.getSpanContext().getTraceState();
     byte[] traceStateUtf8 =
@@ -58,11 +56,10 @@ final class SpanMarshaler extends MarshalerWithSize {
             : encodeTraceState(traceState).getBytes(StandardCharsets.UTF_8);
 
     return new SpanMarshaler(
-        spanData.getSpanContext().getTraceId(),
-        spanData.getSpanContext().getSpanId(),
+        spanData.getSpanContext(),
         traceStateUtf8,
-        parentSpanId,
-        MarshalerUtil.toBytes(spanData.getName()),
+        parentSpanContext,
+        MarshalerUtil.toBytesCached(spanData.getName()),
         toProtoSpanKind(spanData.getKind()),
         spanData.getStartEpochNanos(),
         spanData.getEndEpochNanos(),
@@ -76,10 +73,9 @@ final class SpanMarshaler extends MarshalerWithSize {
   }
 
   private SpanMarshaler(
-      String traceId,
-      String spanId,
+      SpanContext spanContext,
       byte[] traceStateUtf8,
-      @Nullable String parentSpanId,
+      @Nullable SpanContext parentSpanContext,
       byte[] nameUtf8,
       ProtoEnumInfo spanKind,
       long startEpochNanos,
@@ -93,10 +89,9 @@ final class SpanMarshaler extends MarshalerWithSize {
       SpanStatusMarshaler spanStatusMarshaler) {
     super(
         calculateSize(
-            traceId,
-            spanId,
+            spanContext,
             traceStateUtf8,
-            parentSpanId,
+            parentSpanContext,
             nameUtf8,
             spanKind,
             startEpochNanos,
@@ -108,10 +103,9 @@ final class SpanMarshaler extends MarshalerWithSize {
             spanLinkMarshalers,
             droppedLinksCount,
             spanStatusMarshaler));
-    this.traceId = traceId;
-    this.spanId = spanId;
+    this.spanContext = spanContext;
     this.traceStateUtf8 = traceStateUtf8;
-    this.parentSpanId = parentSpanId;
+    this.parentSpanContext = parentSpanContext;
     this.nameUtf8 = nameUtf8;
     this.spanKind = spanKind;
     this.startEpochNanos = startEpochNanos;
@@ -127,10 +121,10 @@ final class SpanMarshaler extends MarshalerWithSize {
 
   @Override
   public void writeTo(Serializer output) throws IOException {
-    output.serializeTraceId(Span.TRACE_ID, traceId);
-    output.serializeSpanId(Span.SPAN_ID, spanId);
+    output.serializeTraceId(Span.TRACE_ID, spanContext);
+    output.serializeSpanId(Span.SPAN_ID, spanContext);
     output.serializeString(Span.TRACE_STATE, traceStateUtf8);
-    output.serializeSpanId(Span.PARENT_SPAN_ID, parentSpanId);
+    output.serializeSpanId(Span.PARENT_SPAN_ID, parentSpanContext);
     output.serializeString(Span.NAME, nameUtf8);
 
     output.serializeEnum(Span.KIND, spanKind);
@@ -151,10 +145,9 @@ final class SpanMarshaler extends MarshalerWithSize {
   }
 
   private static int calculateSize(
-      String traceId,
-      String spanId,
+      SpanContext spanContext,
       byte[] traceStateUtf8,
-      @Nullable String parentSpanId,
+      @Nullable SpanContext parentSpanContext,
       byte[] nameUtf8,
       ProtoEnumInfo spanKind,
       long startEpochNanos,
@@ -167,10 +160,10 @@ final class SpanMarshaler extends MarshalerWithSize {
       int droppedLinksCount,
       SpanStatusMarshaler spanStatusMarshaler) {
     int size = 0;
-    size += MarshalerUtil.sizeTraceId(Span.TRACE_ID, traceId);
-    size += MarshalerUtil.sizeSpanId(Span.SPAN_ID, spanId);
+    size += MarshalerUtil.sizeTraceId(Span.TRACE_ID, spanContext);
+    size += MarshalerUtil.sizeSpanId(Span.SPAN_ID, spanContext);
     size += MarshalerUtil.sizeBytes(Span.TRACE_STATE, traceStateUtf8);
-    size += MarshalerUtil.sizeSpanId(Span.PARENT_SPAN_ID, parentSpanId);
+    size += MarshalerUtil.sizeSpanId(Span.PARENT_SPAN_ID, parentSpanContext);
     size += MarshalerUtil.sizeBytes(Span.NAME, nameUtf8);
 
     size += MarshalerUtil.sizeEnum(Span.KIND, spanKind);
@@ -0,0 +1,129 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.otlp.KeyValueStatelessMarshaler;
+import io.opentelemetry.proto.trace.v1.internal.Span;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nullable;
+
+/** A {@link StatelessMarshaler} of {@link SpanData}, the counterpart of {@link SpanMarshaler}. */
+final class SpanStatelessMarshaler implements StatelessMarshaler<SpanData> {
+
+  static final SpanStatelessMarshaler INSTANCE = new SpanStatelessMarshaler();
+
+  @Override
+  public int getBinarySerializedSize(SpanData span, MarshalerContext context) {
+    SpanContext spanContext = span.getSpanContext();
+    int size = 0;
+    size += MarshalerUtil.sizeTraceId(Span.TRACE_ID, spanContext);
+    size += MarshalerUtil.sizeSpanId(Span.SPAN_ID, spanContext);
+    size += sizeTraceState(Span.TRACE_STATE, spanContext.getTraceState(), context);
+    size += MarshalerUtil.sizeSpanId(Span.PARENT_SPAN_ID, parentSpanContext(span));
+    size += MarshalerUtil.sizeStringWithContext(Span.NAME, span.getName(), context);
+
+    size += MarshalerUtil.sizeEnum(Span.KIND, SpanMarshaler.toProtoSpanKind(span.getKind()));
+
+    size += MarshalerUtil.sizeFixed64(Span.START_TIME_UNIX_NANO, span.getStartEpochNanos());
+    size += MarshalerUtil.sizeFixed64(Span.END_TIME_UNIX_NANO, span.getEndEpochNanos());
+
+    size +=
+        MarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.ATTRIBUTES, span.getAttributes(), KeyValueStatelessMarshaler.INSTANCE, context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.DROPPED_ATTRIBUTES_COUNT,
+            span.getTotalAttributeCount() - span.getAttributes().size());
+
+    size +=
+        MarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.EVENTS, span.getEvents(), SpanEventStatelessMarshaler.INSTANCE, context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.DROPPED_EVENTS_COUNT, span.getTotalRecordedEvents() - span.getEvents().size());
+
+    size +=
+        MarshalerUtil.sizeRepeatedMessageWithContext(
+            Span.LINKS, span.getLinks(), SpanLinkStatelessMarshaler.INSTANCE, context);
+    size +=
+        MarshalerUtil.sizeUInt32(
+            Span.DROPPED_LINKS_COUNT, span.getTotalRecordedLinks() - span.getLinks().size());
+
+    size +=
+        MarshalerUtil.sizeMessageWithContext(
+            Span.STATUS, span.getStatus(), SpanStatusStatelessMarshaler.INSTANCE, context);
+    return size;
+  }
+
+  @Override
+  public void writeTo(Serializer output, SpanData span, MarshalerContext context)
+      throws IOException {
+    SpanContext spanContext = span.getSpanContext();
+    output.serializeTraceId(Span.TRACE_ID, spanContext);
+    output.serializeSpanId(Span.SPAN_ID, spanContext);
+    serializeTraceState(output, Span.TRACE_STATE, spanContext.getTraceState(), context);
+    output.serializeSpanId(Span.PARENT_SPAN_ID, parentSpanContext(span));
+    output.serializeStringWithContext(Span.NAME, span.getName(), context);
+
+    output.serializeEnum(Span.KIND, SpanMarshaler.toProtoSpanKind(span.getKind()));
+
+    output.serializeFixed64(Span.START_TIME_UNIX_NANO, span.getStartEpochNanos());
+    output.serializeFixed64(Span.END_TIME_UNIX_NANO, span.getEndEpochNanos());
+
+    output.serializeRepeatedMessageWithContext(
+        Span.ATTRIBUTES, span.getAttributes(), KeyValueStatelessMarshaler.INSTANCE, context);
+    output.serializeUInt32(
+        Span.DROPPED_ATTRIBUTES_COUNT, span.getTotalAttributeCount() - span.getAttributes().size());
+
+    output.serializeRepeatedMessageWithContext(
+        Span.EVENTS, span.getEvents(), SpanEventStatelessMarshaler.INSTANCE, context);
+    output.serializeUInt32(
+        Span.DROPPED_EVENTS_COUNT, span.getTotalRecordedEvents() - span.getEvents().size());
+
+    output.serializeRepeatedMessageWithContext(
+        Span.LINKS, span.getLinks(), SpanLinkStatelessMarshaler.INSTANCE, context);
+    output.serializeUInt32(
+        Span.DROPPED_LINKS_COUNT, span.getTotalRecordedLinks() - span.getLinks().size());
+
+    output.serializeMessageWithContext(
+        Span.STATUS, span.getStatus(), SpanStatusStatelessMarshaler.INSTANCE, context);
+  }
+
+  @Nullable
+  private static SpanContext parentSpanContext(SpanData span) {
+    SpanContext parentSpanContext = span.getParentSpanContext();
+    return parentSpanContext.isValid() ? parentSpanContext : null;
+  }
+
+  static int sizeTraceState(ProtoFieldInfo field, TraceState traceState, MarshalerContext context) {
+    if (traceState.isEmpty()) {
+      return 0;
+    }
+    byte[] traceStateUtf8 = encodeTraceState(traceState).getBytes(StandardCharsets.UTF_8);
+    context.addData(traceStateUtf8);
+    return MarshalerUtil.sizeBytes(field, traceStateUtf8);
+  }
+
+  static void serializeTraceState(
+      Serializer output, ProtoFieldInfo field, TraceState traceState, MarshalerContext context)
+      throws IOException {
+    if (traceState.isEmpty()) {
+      return;
+    }
+    output.serializeString(field, context.getData(byte[].class));
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StreamingMarshaler;
+import io.opentelemetry.exporter.internal.otlp.InstrumentationScopeMarshaller;
+import io.opentelemetry.exporter.internal.otlp.ResourceMarshaler;
+import io.opentelemetry.proto.collector.trace.v1.internal.ExportTraceServiceRequest;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.internal.SpanDataBatch;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link StreamingMarshaler} of an OTLP ExportTraceServiceRequest.
+ *
+ * <p>Nested protobuf messages are prefixed by their length, so a request can't be written before
+ * the size of all its spans is known. Instead of marshaling all the spans up front like {@link
+ * TraceRequestMarshaler}, this marshaler splits the spans of each resource and instrumentation
+ * scope in chunks of at most {@value #MAX_SPANS_PER_CHUNK} spans, and writes each chunk as its own
+ * ResourceSpans as soon as it is marshaled. Only the marshalers of one chunk are alive at a time,
+ * and the output can be sent while the following chunks are being marshaled. Batches with fewer
+ * spans per resource and scope than a chunk are written exactly like {@link TraceRequestMarshaler}
+ * does, larger ones repeat the resource and scope once per chunk.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class StreamingTraceRequestMarshaler extends StreamingMarshaler {
+
+  static final int MAX_SPANS_PER_CHUNK = 512;
+
+  private final List<Chunk> chunks;
+
+  /**
+   * Returns a {@link StreamingTraceRequestMarshaler} that can be used to convert the provided
+   * {@link SpanData} into a serialized OTLP ExportTraceServiceRequest.
+   */
+  public static StreamingTraceRequestMarshaler create(Collection<SpanData> spanDataList) {
+    Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> groups =
+        spanDataList instanceof SpanDataBatch
+            ? ((SpanDataBatch) spanDataList).getGroups()
+            : MarshalerUtil.groupByResourceAndScope(
+                spanDataList,
+                SpanData::getResource,
+                SpanData::getInstrumentationScopeInfo,
+                spanData -> spanData);
+    List<Chunk> chunks = new ArrayList<>();
+    for (Map.Entry<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> resourceEntry :
+        groups.entrySet()) {
+      Resource resource = resourceEntry.getKey();
+      ResourceMarshaler resourceMarshaler = ResourceMarshaler.create(resource);
+      byte[] resourceSchemaUrl = resourceMarshaler.getSchemaUrlUtf8();
+      for (Map.Entry<InstrumentationScopeInfo, List<SpanData>> scopeEntry :
+          resourceEntry.getValue().entrySet()) {
+        InstrumentationScopeInfo scope = scopeEntry.getKey();
+        InstrumentationScopeMarshaller scopeMarshaler =
+            InstrumentationScopeMarshaller.create(scope);
+        byte[] scopeSchemaUrl = scopeMarshaler.getSchemaUrlUtf8();
+        List<SpanData> spans = scopeEntry.getValue();
+        for (int start = 0; start < spans.size(); start += MAX_SPANS_PER_CHUNK) {
+          // Chunks are written after the export returns, and again on retries, when the groups of
+          // a SpanDataBatch may have been reset, so copy the spans rather than viewing the groups.
+          chunks.add(
+              new Chunk(
+                  resourceMarshaler,
+                  resourceSchemaUrl,
+                  scopeMarshaler,
+                  scopeSchemaUrl,
+                  new ArrayList<>(
+                      spans.subList(start, Math.min(start + MAX_SPANS_PER_CHUNK, spans.size())))));
+        }
+      }
+    }
+    return new StreamingTraceRequestMarshaler(chunks);
+  }
+
+  private StreamingTraceRequestMarshaler(List<Chunk> chunks) {
+    this.chunks = chunks;
+  }
+
+  @Override
+  public int getBinarySerializedSize() {
+    return MarshalerUtil.sizeRepeatedMessage(
+        ExportTraceServiceRequest.RESOURCE_SPANS, new ChunkMarshalers());
+  }
+
+  @Override
+  protected void writeTo(Serializer output) throws IOException {
+    output.serializeRepeatedMessage(
+        ExportTraceServiceRequest.RESOURCE_SPANS, new ChunkMarshalers());
+  }
+
+  // Visible for testing
+  int getChunkCount() {
+    return chunks.size();
+  }
+
+  /** Marshals each chunk when it is read, so that a marshaler is unreachable once written. */
+  private final class ChunkMarshalers extends AbstractList<ResourceSpansMarshaler> {
+    @Override
+    public ResourceSpansMarshaler get(int index) {
+      return chunks.get(index).toMarshaler();
+    }
+
+    @Override
+    public int size() {
+      return chunks.size();
+    }
+  }
+
+  private static final class Chunk {
+    private final ResourceMarshaler resourceMarshaler;
+    private final byte[] resourceSchemaUrl;
+    private final InstrumentationScopeMarshaller scopeMarshaler;
+    private final byte[] scopeSchemaUrl;
+    private final List<SpanData> spans;
+
+    private Chunk(
+        ResourceMarshaler resourceMarshaler,
+        byte[] resourceSchemaUrl,
+        InstrumentationScopeMarshaller scopeMarshaler,
+        byte[] scopeSchemaUrl,
+        List<SpanData> spans) {
+      this.resourceMarshaler = resourceMarshaler;
+      this.resourceSchemaUrl = resourceSchemaUrl;
+      this.scopeMarshaler = scopeMarshaler;
+      this.scopeSchemaUrl = scopeSchemaUrl;
+      this.spans = spans;
+    }
+
+    private ResourceSpansMarshaler toMarshaler() {
+      List<SpanMarshaler> spanMarshalers = new ArrayList<>(spans.size());
+      for (SpanData span : spans) {
+        spanMarshalers.add(SpanMarshaler.create(span));
+      }
+      return new ResourceSpansMarshaler(
+          resourceMarshaler,
+          resourceSchemaUrl,
+          new InstrumentationScopeSpansMarshaler[] {
+            new InstrumentationScopeSpansMarshaler(scopeMarshaler, scopeSchemaUrl, spanMarshalers)
+          });
+    }
+  }
+}
@@ -6,10 +6,12 @@
 package io.opentelemetry.exporter.internal.otlp.traces;
 
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.proto.collector.trace.v1.internal.ExportTraceServiceRequest;
+import io.opentelemetry.proto.trace.v1.internal.ScopeSpans;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import java.io.IOException;
 import java.util.Collection;
@@ -22,6 +24,10 @@ import java.util.Collection;
  */
 public final class TraceRequestMarshaler extends MarshalerWithSize {
 
+  // Reused by getSpanSize, which a batch span processor calls for every span on its worker thread.
+  private static final ThreadLocal<MarshalerContext> THREAD_LOCAL_SIZE_CONTEXT =
+      new ThreadLocal<>();
+
   private final ResourceSpansMarshaler[] resourceSpansMarshalers;
 
   /**
@@ -32,6 +38,29 @@ public final class TraceRequestMarshaler extends MarshalerWithSize {
     return new TraceRequestMarshaler(ResourceSpansMarshaler.create(spanDataList));
   }
 
+  /**
+   * Returns the number of bytes {@code span} adds to a request, not counting its resource and
+   * instrumentation scope, which are shared with the other spans of the same tracer.
+   */
+  public static int getSpanSize(SpanData span) {
+    MarshalerContext context = getSizeContext();
+    try {
+      return MarshalerUtil.sizeMessageWithContext(
+          ScopeSpans.SPANS, span, SpanStatelessMarshaler.INSTANCE, context);
+    } finally {
+      context.reset();
+    }
+  }
+
+  private static MarshalerContext getSizeContext() {
+    MarshalerContext result = THREAD_LOCAL_SIZE_CONTEXT.get();
+    if (result == null) {
+      result = new MarshalerContext();
+      THREAD_LOCAL_SIZE_CONTEXT.set(result);
+    }
+    return result;
+  }
+
   private TraceRequestMarshaler(ResourceSpansMarshaler[] resourceSpansMarshalers) {
     super(
         MarshalerUtil.sizeRepeatedMessage(
@@ -0,0 +1,177 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.retry;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Retrier of OkHttp requests executed asynchronously. Unlike {@link RetryInterceptor}, which sleeps
+ * on the thread executing the request, the backoff between attempts is waited for on a timer, so
+ * that requests which are backing off don't hold a dispatcher thread and don't hold up other
+ * requests while the endpoint is unavailable.
+ *
+ * <p>The timeout of the exporter bounds the whole sequence of attempts: each attempt is given the
+ * time remaining, and no attempt is retried if its backoff would end after the timeout, so that
+ * exports complete in about the time their callers wait for them.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AsyncRetrier {
+
+  // Shared by all exporters, it only starts the attempts, which are executed by OkHttp.
+  private static final ScheduledThreadPoolExecutor TIMER = newTimer();
+
+  private final RetryPolicy retryPolicy;
+  private final long timeoutNanos;
+  private final Function<Response, Boolean> isRetryable;
+  private final Function<IOException, Boolean> isRetryableException;
+  private final Scheduler scheduler;
+  private final BoundedLongGenerator randomLong;
+  private final Clock clock;
+
+  /**
+   * Constructs a new retrier, whose attempts of a request take at most {@code timeoutNanos} in
+   * total, or are not limited if it is zero.
+   */
+  public AsyncRetrier(
+      RetryPolicy retryPolicy, long timeoutNanos, Function<Response, Boolean> isRetryable) {
+    this(
+        retryPolicy,
+        timeoutNanos,
+        isRetryable,
+        RetryInterceptor::isRetryableException,
+        (task, delayNanos) -> TIMER.schedule(task, delayNanos, TimeUnit.NANOSECONDS),
+        bound -> ThreadLocalRandom.current().nextLong(bound),
+        Clock.getDefault());
+  }
+
+  // Visible for testing
+  AsyncRetrier(
+      RetryPolicy retryPolicy,
+      long timeoutNanos,
+      Function<Response, Boolean> isRetryable,
+      Function<IOException, Boolean> isRetryableException,
+      Scheduler scheduler,
+      BoundedLongGenerator randomLong,
+      Clock clock) {
+    this.retryPolicy = retryPolicy;
+    this.timeoutNanos = timeoutNanos;
+    this.isRetryable = isRetryable;
+    this.isRetryableException = isRetryableException;
+    this.scheduler = scheduler;
+    this.randomLong = randomLong;
+    this.clock = clock;
+  }
+
+  /**
+   * Executes the {@code request} with the {@code client}, retrying it according to the {@link
+   * RetryPolicy}, and calls the {@code callback} with the outcome of the last attempt.
+   */
+  public void enqueue(OkHttpClient client, Request request, Callback callback) {
+    new RetryingCallback(client, request, callback).run();
+  }
+
+  private static ScheduledThreadPoolExecutor newTimer() {
+    ScheduledThreadPoolExecutor timer =
+        new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("otlp-exporter-retry"));
+    // Only keep the thread while requests are backing off.
+    timer.setKeepAliveTime(60, TimeUnit.SECONDS);
+    timer.allowCoreThreadTimeOut(true);
+    return timer;
+  }
+
+  private final class RetryingCallback implements Callback, Runnable {
+    private final OkHttpClient client;
+    private final Request request;
+    private final Callback callback;
+    // Only meaningful if timeoutNanos is positive.
+    private final long deadlineNanos = clock.nanoTime() + timeoutNanos;
+
+    // Only accessed by one attempt at a time.
+    private int attempt;
+    private long nextBackoffNanos = retryPolicy.getInitialBackoff().toNanos();
+
+    private RetryingCallback(OkHttpClient client, Request request, Callback callback) {
+      this.client = client;
+      this.request = request;
+      this.callback = callback;
+    }
+
+    @Override
+    public void run() {
+      attempt++;
+      Call call = client.newCall(request);
+      if (timeoutNanos > 0) {
+        // Times out right away if the backoff ended late.
+        long remainingNanos = Math.max(1, deadlineNanos - clock.nanoTime());
+        call.timeout().timeout(remainingNanos, TimeUnit.NANOSECONDS);
+      }
+      call.enqueue(this);
+    }
+
+    @Override
+    public void onFailure(Call call, IOException e) {
+      if (attempt < retryPolicy.getMaxAttempts()
+          && Boolean.TRUE.equals(isRetryableException.apply(e))
+          && scheduleRetry()) {
+        return;
+      }
+      callback.onFailure(call, e);
+    }
+
+    @Override
+    public void onResponse(Call call, Response response) throws IOException {
+      if (attempt < retryPolicy.getMaxAttempts()
+          && Boolean.TRUE.equals(isRetryable.apply(response))
+          && scheduleRetry()) {
+        response.close();
+        return;
+      }
+      callback.onResponse(call, response);
+    }
+
+    private boolean scheduleRetry() {
+      // https://github.com/grpc/proposal/blob/master/A6-client-retries.md#exponential-backoff
+      long upperBoundNanos = Math.min(nextBackoffNanos, retryPolicy.getMaxBackoff().toNanos());
+      long backoffNanos = randomLong.get(upperBoundNanos);
+      nextBackoffNanos = (long) (nextBackoffNanos * retryPolicy.getBackoffMultiplier());
+      if (timeoutNanos > 0 && clock.nanoTime() + backoffNanos >= deadlineNanos) {
+        // No time left for another attempt, return the outcome of this one.
+        return false;
+      }
+      try {
+        scheduler.schedule(this, backoffNanos);
+        return true;
+      } catch (RejectedExecutionException e) {
+        // Return the outcome of this attempt.
+        return false;
+      }
+    }
+  }
+
+  // Visible for testing
+  interface BoundedLongGenerator {
+    long get(long bound);
+  }
+
+  // Visible for testing
+  interface Scheduler {
+    void schedule(Runnable task, long delayNanos);
+  }
+}
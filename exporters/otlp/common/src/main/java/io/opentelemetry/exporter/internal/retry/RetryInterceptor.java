@@ -14,7 +14,8 @@ import okhttp3.Interceptor;
 import okhttp3.Response;
 
 /**
- * Retrier of OkHttp requests.
+ * Retrier of OkHttp requests. The thread executing the request sleeps between attempts, use {@link
+ * AsyncRetrier} for requests which are executed asynchronously.
  *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
@@ -96,7 +97,6 @@ public final class RetryInterceptor implements Interceptor {
     throw exception;
   }
 
-  // Visible for testing
   static boolean isRetryableException(IOException e) {
     if (!(e instanceof SocketTimeoutException)) {
       return false;
@@ -0,0 +1,203 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestSplitterTest {
+
+  private final RequestSplitter splitter = RequestSplitter.create("test", 3);
+
+  @AfterEach
+  void tearDown() {
+    splitter.shutdown();
+  }
+
+  @Test
+  void create_InvalidMaxItems() {
+    assertThatThrownBy(() -> RequestSplitter.create("test", 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxItemsPerRequest must be positive");
+    assertThatThrownBy(() -> RequestSplitter.create("test", 3, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBytesPerRequest must be positive");
+  }
+
+  @Test
+  void isTooLarge() {
+    RequestSplitter sizeSplitter = RequestSplitter.create("test", Integer.MAX_VALUE, 100);
+    try {
+      assertThat(sizeSplitter.limitsRequestSize()).isTrue();
+      assertThat(sizeSplitter.isTooLarge(marshalerOfSize(100), 2)).isFalse();
+      assertThat(sizeSplitter.isTooLarge(marshalerOfSize(101), 2)).isTrue();
+      // Requests of a single item can't be split.
+      assertThat(sizeSplitter.isTooLarge(marshalerOfSize(101), 1)).isFalse();
+    } finally {
+      sizeSplitter.shutdown();
+    }
+
+    assertThat(splitter.limitsRequestSize()).isFalse();
+    assertThat(splitter.isTooLarge(marshalerOfSize(Integer.MAX_VALUE), 2)).isFalse();
+  }
+
+  @Test
+  void exportSplit() {
+    RequestSplitter sizeSplitter = RequestSplitter.create("test", Integer.MAX_VALUE, 100);
+    List<Collection<Integer>> requests = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    try {
+      CompletableResultCode result =
+          sizeSplitter.exportSplit(
+              items,
+              250,
+              requestItems -> {
+                requests.add(new ArrayList<>(requestItems));
+                return CompletableResultCode.ofSuccess();
+              });
+
+      assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+      assertThat(requests)
+          .containsExactlyInAnyOrder(
+              Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7), Arrays.asList(8, 9));
+    } finally {
+      sizeSplitter.shutdown();
+    }
+  }
+
+  @Test
+  void export_SmallBatchOnCallingThread() {
+    List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> items = Arrays.asList(1, 2, 3);
+
+    CompletableResultCode result =
+        splitter.export(
+            items,
+            requestItems -> {
+              threads.add(Thread.currentThread());
+              assertThat(requestItems).isSameAs(items);
+              return CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(result.isSuccess()).isTrue();
+    assertThat(threads).containsExactly(Thread.currentThread());
+  }
+
+  @Test
+  void export_LargeBatchSplit() {
+    List<Collection<Integer>> requests = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    CompletableResultCode result =
+        splitter.export(
+            items,
+            requestItems -> {
+              requests.add(new ArrayList<>(requestItems));
+              return CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(requests)
+        .containsExactlyInAnyOrder(
+            Arrays.asList(0, 1, 2),
+            Arrays.asList(3, 4, 5),
+            Arrays.asList(6, 7, 8),
+            Collections.singletonList(9));
+  }
+
+  @Test
+  void export_FailsIfAnyRequestFails() {
+    List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    CompletableResultCode result =
+        splitter.export(
+            items,
+            requestItems ->
+                requestItems.contains(4)
+                    ? CompletableResultCode.ofFailure()
+                    : CompletableResultCode.ofSuccess());
+
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isFalse();
+  }
+
+  @Test
+  void export_FailsIfRequestThrows() {
+    List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    CompletableResultCode result =
+        splitter.export(
+            items,
+            requestItems -> {
+              if (requestItems.contains(9)) {
+                throw new IllegalStateException("boom");
+              }
+              return CompletableResultCode.ofSuccess();
+            });
+
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isFalse();
+  }
+
+  @Test
+  void exportSplit_SplitsInTwoAtLeast() {
+    RequestSplitter sizeSplitter = RequestSplitter.create("test", Integer.MAX_VALUE, 100);
+    List<Collection<Integer>> requests = Collections.synchronizedList(new ArrayList<>());
+
+    try {
+      CompletableResultCode result =
+          sizeSplitter.exportSplit(
+              Arrays.asList(0, 1, 2),
+              101,
+              requestItems -> {
+                requests.add(new ArrayList<>(requestItems));
+                return CompletableResultCode.ofSuccess();
+              });
+
+      assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+      assertThat(requests)
+          .containsExactlyInAnyOrder(Arrays.asList(0, 1), Collections.singletonList(2));
+    } finally {
+      sizeSplitter.shutdown();
+    }
+  }
+
+  @Test
+  void export_AfterShutdown() {
+    splitter.shutdown();
+    List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    CompletableResultCode result =
+        splitter.export(items, requestItems -> CompletableResultCode.ofSuccess());
+
+    assertThat(result.join(10, TimeUnit.SECONDS).isSuccess()).isFalse();
+  }
+
+  private static Marshaler marshalerOfSize(int size) {
+    return new Marshaler() {
+      @Override
+      public int getBinarySerializedSize() {
+        return size;
+      }
+
+      @Override
+      protected void writeTo(Serializer output) {}
+    };
+  }
+}
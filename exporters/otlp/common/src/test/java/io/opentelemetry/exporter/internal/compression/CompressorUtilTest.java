@@ -0,0 +1,30 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CompressorUtilTest {
+
+  @Test
+  void resolveCompressor() {
+    assertThat(CompressorUtil.resolveCompressor("none")).isNull();
+    assertThat(CompressorUtil.resolveCompressor("gzip")).isSameAs(GzipCompressor.getInstance());
+    assertThat(CompressorUtil.resolveCompressor("test"))
+        .isSameAs(TestCompressorProvider.TEST_COMPRESSOR);
+  }
+
+  @Test
+  void resolveCompressor_Unsupported() {
+    assertThatThrownBy(() -> CompressorUtil.resolveCompressor("foo"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Unsupported compression method. Supported compression methods include: gzip, test, none.");
+  }
+}
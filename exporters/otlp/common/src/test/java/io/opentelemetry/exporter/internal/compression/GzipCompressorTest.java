@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class GzipCompressorTest {
+
+  private static final byte[] DATA =
+      "a payload repeating itself, a payload repeating itself, a payload repeating itself"
+          .getBytes(StandardCharsets.UTF_8);
+
+  @ParameterizedTest
+  @ValueSource(ints = {Deflater.DEFAULT_COMPRESSION, 1, 6, 9})
+  void compress(int level) throws IOException {
+    Compressor compressor = GzipCompressor.create(level);
+    assertThat(compressor.getEncoding()).isEqualTo("gzip");
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(bos)) {
+      os.write(DATA);
+    }
+
+    ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+    try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+      byte[] buffer = new byte[1024];
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        decompressed.write(buffer, 0, read);
+      }
+    }
+    assertThat(decompressed.toByteArray()).isEqualTo(DATA);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-2, 0, 10})
+  void create_InvalidLevel(int level) {
+    assertThatThrownBy(() -> GzipCompressor.create(level))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid gzip compression level " + level);
+  }
+}
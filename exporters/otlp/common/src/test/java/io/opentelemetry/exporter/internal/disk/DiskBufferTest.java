@@ -0,0 +1,169 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskBufferTest {
+
+  private static final long MAX_AGE_NANOS = Duration.ofHours(1).toNanos();
+
+  @TempDir File directory;
+
+  private final TestClock clock = TestClock.create();
+
+  @Test
+  void addPeekRemove() {
+    DiskBuffer buffer = newBuffer(1024 * 1024, 1024);
+    assertThat(buffer.peek()).isNull();
+
+    assertThat(buffer.add(bytes("first"), 1)).isTrue();
+    assertThat(buffer.add(bytes("second"), 2)).isTrue();
+    assertThat(buffer.size()).isEqualTo(2);
+
+    DiskBuffer.Entry first = buffer.peek();
+    assertThat(first).isNotNull();
+    assertThat(DiskBuffer.read(first)).isEqualTo(bytes("first"));
+    assertThat(first.getNumItems()).isEqualTo(1);
+    buffer.remove(first);
+
+    DiskBuffer.Entry second = buffer.peek();
+    assertThat(second).isNotNull();
+    assertThat(DiskBuffer.read(second)).isEqualTo(bytes("second"));
+    assertThat(second.getNumItems()).isEqualTo(2);
+    buffer.remove(second);
+
+    assertThat(buffer.peek()).isNull();
+  }
+
+  @Test
+  void recoversPendingRequests() {
+    DiskBuffer buffer = newBuffer(1024 * 1024, 1024);
+    buffer.add(bytes("first"), 1);
+    buffer.add(bytes("second"), 2);
+    buffer.add(bytes("third"), 3);
+    buffer.remove(buffer.peek());
+
+    buffer.close();
+
+    DiskBuffer recovered = newBuffer(1024 * 1024, 1024);
+    assertThat(recovered.size()).isEqualTo(2);
+    DiskBuffer.Entry second = recovered.peek();
+    assertThat(DiskBuffer.read(second)).isEqualTo(bytes("second"));
+    assertThat(second.getNumItems()).isEqualTo(2);
+    recovered.remove(second);
+    assertThat(DiskBuffer.read(recovered.peek())).isEqualTo(bytes("third"));
+
+    // New requests go to a new segment.
+    recovered.add(bytes("fourth"), 4);
+    assertThat(segmentFiles()).hasSize(2);
+  }
+
+  @Test
+  void ignoresTornRecord() throws IOException {
+    DiskBuffer buffer = newBuffer(1024 * 1024, 1024);
+    buffer.add(bytes("first"), 1);
+    buffer.add(bytes("second"), 2);
+
+    // Corrupt the last byte of the second payload, as if the application crashed while writing it.
+    File segment = new File(directory, "0.seg");
+    int offset = 8 + DiskBuffer.RECORD_HEADER_SIZE * 2 + "first".length() + "second".length() - 1;
+    try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+      file.seek(offset);
+      file.write('x');
+    }
+
+    buffer.close();
+    DiskBuffer recovered = newBuffer(1024 * 1024, 1024);
+    assertThat(recovered.size()).isEqualTo(1);
+    assertThat(DiskBuffer.read(recovered.peek())).isEqualTo(bytes("first"));
+  }
+
+  @Test
+  void deletesDoneSegments() {
+    DiskBuffer buffer = newBuffer(1024 * 1024, 64);
+    // One request per segment.
+    buffer.add(new byte[40], 1);
+    buffer.add(new byte[40], 1);
+    buffer.add(new byte[40], 1);
+    assertThat(segmentFiles()).hasSize(3);
+
+    buffer.remove(buffer.peek());
+    buffer.remove(buffer.peek());
+    assertThat(segmentFiles()).containsExactly("2.seg");
+    assertThat(buffer.sizeBytes()).isEqualTo(8 + DiskBuffer.RECORD_HEADER_SIZE + 40);
+  }
+
+  @Test
+  void dropsOldestWhenFull() {
+    DiskBuffer buffer = newBuffer(210, 64);
+    buffer.add(bytes("first"), 1);
+    buffer.add(new byte[40], 2);
+    buffer.add(new byte[40], 3);
+    assertThat(buffer.size()).isEqualTo(3);
+
+    buffer.add(new byte[40], 4);
+    assertThat(buffer.sizeBytes()).isLessThanOrEqualTo(210);
+    assertThat(buffer.size()).isEqualTo(3);
+    assertThat(buffer.peek().getNumItems()).isEqualTo(2);
+  }
+
+  @Test
+  void dropsRequestLargerThanBuffer() {
+    DiskBuffer buffer = newBuffer(100, 64);
+    assertThat(buffer.add(new byte[100], 1)).isFalse();
+    assertThat(buffer.size()).isZero();
+  }
+
+  @Test
+  void dropsExpiredRequests() {
+    DiskBuffer buffer = newBuffer(1024 * 1024, 1024);
+    buffer.add(bytes("first"), 1);
+    clock.advance(Duration.ofMinutes(30));
+    buffer.add(bytes("second"), 2);
+    clock.advance(Duration.ofMinutes(31));
+
+    DiskBuffer.Entry entry = buffer.peek();
+    assertThat(entry).isNotNull();
+    assertThat(DiskBuffer.read(entry)).isEqualTo(bytes("second"));
+    assertThat(buffer.size()).isEqualTo(1);
+  }
+
+  @Test
+  void locksDirectory() {
+    DiskBuffer buffer = newBuffer(1024 * 1024, 1024);
+    assertThat(new File(directory, "lock")).exists();
+
+    assertThatThrownBy(() -> newBuffer(1024 * 1024, 1024))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Directory " + directory + " is already used by another disk buffer");
+
+    buffer.close();
+    newBuffer(1024 * 1024, 1024).close();
+  }
+
+  private DiskBuffer newBuffer(long maxSizeBytes, int segmentSize) {
+    return new DiskBuffer(directory, maxSizeBytes, MAX_AGE_NANOS, segmentSize, clock);
+  }
+
+  private String[] segmentFiles() {
+    return directory.list((dir, name) -> name.endsWith(".seg"));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.disk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskBufferingExporterTest {
+
+  @TempDir File directory;
+
+  private final List<byte[]> received = new ArrayList<>();
+  private final Set<String> rejected = new HashSet<>();
+  private boolean available;
+  // If set, returned for requests which are sent.
+  @Nullable private CompletableResultCode pendingResult;
+
+  @Test
+  void export_Success() {
+    available = true;
+    DiskBufferingExporter exporter = newExporter();
+
+    assertThat(exporter.export(new TestMarshaler("request"), 1).isSuccess()).isTrue();
+    assertThat(received).containsExactly(bytes("request"));
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  @Test
+  void export_FailureBufferedAndReplayed() {
+    DiskBufferingExporter exporter = newExporter();
+
+    assertThat(exporter.export(new TestMarshaler("first"), 1).isSuccess()).isTrue();
+    assertThat(exporter.export(new TestMarshaler("second"), 2).isSuccess()).isTrue();
+    assertThat(received).isEmpty();
+
+    exporter.replay();
+    assertThat(received).isEmpty();
+
+    available = true;
+    exporter.replay();
+    assertThat(received).containsExactly(bytes("first"), bytes("second"));
+
+    exporter.replay();
+    assertThat(received).hasSize(2);
+  }
+
+  @Test
+  void export_RejectedNotBuffered() {
+    available = true;
+    rejected.add("invalid");
+    DiskBufferingExporter exporter = newExporter();
+
+    assertThat(exporter.export(new TestMarshaler("invalid"), 1).isSuccess()).isFalse();
+    assertThat(received).isEmpty();
+    assertThat(segmentFiles()).isEmpty();
+  }
+
+  @Test
+  void replay_DropsRejected() {
+    DiskBufferingExporter exporter = newExporter();
+    exporter.export(new TestMarshaler("first"), 1);
+    exporter.export(new TestMarshaler("second"), 1);
+
+    available = true;
+    rejected.add("first");
+    exporter.replay();
+    assertThat(received).containsExactly(bytes("second"));
+
+    exporter.replay();
+    assertThat(received).hasSize(1);
+  }
+
+  @Test
+  void replay_WaitsForInFlightRequest() {
+    DiskBufferingExporter exporter = newExporter();
+    exporter.export(new TestMarshaler("first"), 1);
+    exporter.export(new TestMarshaler("second"), 1);
+
+    available = true;
+    CompletableResultCode firstResult = new CompletableResultCode();
+    pendingResult = firstResult;
+    exporter.replay();
+    assertThat(received).containsExactly(bytes("first"));
+
+    // Times out again without sending the request a second time.
+    exporter.replay();
+    assertThat(received).hasSize(1);
+
+    pendingResult = null;
+    firstResult.succeed();
+    exporter.replay();
+    assertThat(received).containsExactly(bytes("first"), bytes("second"));
+  }
+
+  @Test
+  void replay_AfterRestart() {
+    DiskBufferingExporter exporter = newExporter();
+    exporter.export(new TestMarshaler("request"), 1);
+    exporter.shutdown();
+
+    available = true;
+    newExporter().replay();
+    assertThat(received).containsExactly(bytes("request"));
+  }
+
+  @Test
+  void directoryLocked() {
+    DiskBufferingExporter exporter = newExporter();
+
+    assertThatThrownBy(this::newExporter)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("is already used by another disk buffer");
+
+    exporter.shutdown();
+    newExporter().shutdown();
+  }
+
+  private DiskBufferingExporter newExporter() {
+    DiskBuffer buffer =
+        new DiskBuffer(
+            directory, 1024 * 1024, Duration.ofHours(1).toNanos(), 1024, TestClock.create());
+    return new DiskBufferingExporter(
+        "span", buffer, this::send, null, TimeUnit.MILLISECONDS.toNanos(10));
+  }
+
+  private String[] segmentFiles() {
+    return directory.list((dir, name) -> name.endsWith(".seg"));
+  }
+
+  private CompletableResultCode send(Marshaler request, int numItems, Runnable onRetryableFailure) {
+    if (!available) {
+      onRetryableFailure.run();
+      return CompletableResultCode.ofFailure();
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try {
+      request.writeBinaryTo(output);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (rejected.contains(new String(output.toByteArray(), StandardCharsets.UTF_8))) {
+      return CompletableResultCode.ofFailure();
+    }
+    received.add(output.toByteArray());
+    if (pendingResult != null) {
+      return pendingResult;
+    }
+    return CompletableResultCode.ofSuccess();
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static final class TestMarshaler extends MarshalerWithSize {
+    private final byte[] serialized;
+
+    private TestMarshaler(String value) {
+      this(bytes(value));
+    }
+
+    private TestMarshaler(byte[] serialized) {
+      super(serialized.length);
+      this.serialized = serialized;
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      output.writeSerializedMessage(serialized, new byte[0]);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CodedOutputStreamTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "ascii",
+        "héllo wörld",
+        "中文字符",
+        "emoji 😀 pair",
+        "unpaired \uD83D high",
+        "unpaired \uDE00 low",
+        "trailing \uD83D"
+      })
+  void writeStringNoTag(String value) throws IOException {
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    assertThat(CodedOutputStream.encodedUtf8Length(value)).isEqualTo(utf8.length);
+
+    assertThat(writeString(value)).isEqualTo(writeByteArray(utf8));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"a", "é", "中", "😀"})
+  void writeStringNoTag_largerThanBuffer(String chars) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < 200 * 1024) {
+      sb.append(chars).append('-');
+    }
+    String value = sb.toString();
+
+    assertThat(writeString(value))
+        .isEqualTo(writeByteArray(value.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static byte[] writeString(String value) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(bos);
+    // Start with a partially filled buffer.
+    output.writeRawBytes(new byte[] {1, 2, 3});
+    output.writeStringNoTag(value, CodedOutputStream.encodedUtf8Length(value));
+    output.flush();
+    return bos.toByteArray();
+  }
+
+  private static byte[] writeByteArray(byte[] value) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(bos);
+    output.writeRawBytes(new byte[] {1, 2, 3});
+    output.writeByteArrayNoTag(value);
+    output.flush();
+    return bos.toByteArray();
+  }
+}
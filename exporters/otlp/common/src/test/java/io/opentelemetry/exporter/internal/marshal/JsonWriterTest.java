@@ -0,0 +1,129 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonWriterTest {
+
+  private static final String STRING = "héllo \"wörld\" \\ 中文\n\t\u0001\u001f/";
+
+  @Test
+  void writesObjectsAndArrays() throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (JsonWriter writer = new JsonWriter(bos)) {
+      writer.writeStartObject();
+      writer.writeFieldName(JsonWriter.encodeFieldName("empty"));
+      writer.writeStartObject();
+      writer.writeEndObject();
+      writer.writeFieldName(JsonWriter.encodeFieldName("values"));
+      writer.writeStartArray();
+      writer.writeNumber(1);
+      writer.writeQuotedNumber(2);
+      writer.writeStartObject();
+      writer.writeFieldName(JsonWriter.encodeFieldName("bool"));
+      writer.writeBoolean(true);
+      writer.writeEndObject();
+      writer.writeEncodedValue(JsonWriter.encodeString("ENUM"));
+      writer.writeEndArray();
+      writer.writeRawFields("\"raw\":[]".getBytes(StandardCharsets.UTF_8));
+      writer.writeEndObject();
+    }
+
+    assertThat(bos.toString("UTF-8"))
+        .isEqualTo("{\"empty\":{},\"values\":[1,\"2\",{\"bool\":true},\"ENUM\"],\"raw\":[]}");
+  }
+
+  // Small buffers are flushed in the middle of IDs.
+  @ParameterizedTest
+  @ValueSource(ints = {16, 17, 8192})
+  void writesBase16Strings(int bufferSize) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (JsonWriter writer = new JsonWriter(bos, bufferSize)) {
+      writer.writeStartArray();
+      writer.writeBase16String(0x0102030405060708L, 0x090a0b0c0d0e0fa0L);
+      writer.writeBase16String(0xff00000000000001L);
+      writer.writeEndArray();
+    }
+
+    assertThat(bos.toString("UTF-8"))
+        .isEqualTo("[\"0102030405060708090a0b0c0d0e0fa0\",\"ff00000000000001\"]");
+  }
+
+  // Small buffers are flushed in the middle of values.
+  @ParameterizedTest
+  @ValueSource(ints = {32, 33, 8192})
+  void matchesJackson(int bufferSize) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (JsonWriter writer = new JsonWriter(bos, bufferSize)) {
+      writer.writeStartArray();
+      writer.writeString(STRING);
+      writer.writeString(STRING.getBytes(StandardCharsets.UTF_8));
+      writer.writeQuotedNumber(Long.MIN_VALUE);
+      writer.writeQuotedNumber(Long.MAX_VALUE);
+      writer.writeNumber(-1234567890);
+      writer.writeNumber(0);
+      writer.writeNumber(100.3);
+      writer.writeNumber(-0.0);
+      writer.writeNumber(1e300);
+      writer.writeNumber(Double.NaN);
+      writer.writeNumber(Double.POSITIVE_INFINITY);
+      writer.writeNumber(Double.NEGATIVE_INFINITY);
+      writer.writeBinary(new byte[0]);
+      writer.writeBinary(new byte[] {1});
+      writer.writeBinary(new byte[] {1, (byte) 0xff});
+      writer.writeBinary(new byte[] {1, (byte) 0xff, 3, (byte) 0x80});
+      writer.writeBoolean(false);
+      writer.writeEndArray();
+    }
+
+    ByteArrayOutputStream jacksonBos = new ByteArrayOutputStream();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(jacksonBos)) {
+      generator.writeStartArray();
+      generator.writeString(STRING);
+      generator.writeString(STRING);
+      generator.writeString(Long.toString(Long.MIN_VALUE));
+      generator.writeString(Long.toString(Long.MAX_VALUE));
+      generator.writeNumber(-1234567890);
+      generator.writeNumber(0);
+      generator.writeNumber(100.3);
+      generator.writeNumber(-0.0);
+      generator.writeNumber(1e300);
+      generator.writeNumber(Double.NaN);
+      generator.writeNumber(Double.POSITIVE_INFINITY);
+      generator.writeNumber(Double.NEGATIVE_INFINITY);
+      generator.writeBinary(new byte[0]);
+      generator.writeBinary(new byte[] {1});
+      generator.writeBinary(new byte[] {1, (byte) 0xff});
+      generator.writeBinary(new byte[] {1, (byte) 0xff, 3, (byte) 0x80});
+      generator.writeBoolean(false);
+      generator.writeEndArray();
+    }
+
+    assertThat(bos.toString("UTF-8")).isEqualTo(jacksonBos.toString("UTF-8"));
+  }
+
+  @Test
+  void surrogates() throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (JsonWriter writer = new JsonWriter(bos)) {
+      writer.writeString("😀 \ud83d \ude00");
+    }
+
+    // Unlike Jackson, supplementary characters are encoded rather than escaped, and unpaired
+    // surrogates are replaced.
+    assertThat(bos.toByteArray()).isEqualTo("\"😀 ? ?\"".getBytes(StandardCharsets.UTF_8));
+  }
+}
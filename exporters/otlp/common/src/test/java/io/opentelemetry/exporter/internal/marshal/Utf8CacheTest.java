@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class Utf8CacheTest {
+
+  @Test
+  void returnsCachedEncoding() {
+    Utf8Cache cache = new Utf8Cache();
+    byte[] first = cache.getUtf8("GET /users/{id}");
+
+    assertThat(first).isEqualTo("GET /users/{id}".getBytes(StandardCharsets.UTF_8));
+    assertThat(cache.getUtf8(new String("GET /users/{id}"))).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void nonAscii() {
+    Utf8Cache cache = new Utf8Cache();
+
+    assertThat(cache.getUtf8("héllo wörld 😀"))
+        .isEqualTo("héllo wörld 😀".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void clearedWhenFull() {
+    Utf8Cache cache = new Utf8Cache(2);
+    byte[] first = cache.getUtf8("1");
+    cache.getUtf8("2");
+    assertThat(cache.size()).isEqualTo(2);
+
+    cache.getUtf8("3");
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getUtf8("1")).isNotSameAs(first).isEqualTo(first);
+  }
+
+  @Test
+  void longStringsNotCached() {
+    Utf8Cache cache = new Utf8Cache();
+    char[] chars = new char[Utf8Cache.MAX_STRING_LENGTH + 1];
+    Arrays.fill(chars, 'a');
+    String value = new String(chars);
+
+    assertThat(cache.getUtf8(value)).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+    assertThat(cache.size()).isZero();
+  }
+}
@@ -20,6 +20,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.InstrumentationScope;
 import io.opentelemetry.proto.common.v1.KeyValue;
@@ -27,6 +28,7 @@ import io.opentelemetry.proto.logs.v1.LogRecord;
 import io.opentelemetry.proto.logs.v1.ResourceLogs;
 import io.opentelemetry.proto.logs.v1.ScopeLogs;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.data.LogData;
 import io.opentelemetry.sdk.logs.data.LogDataBuilder;
 import io.opentelemetry.sdk.logs.data.Severity;
 import io.opentelemetry.sdk.resources.Resource;
@@ -34,6 +36,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Locale;
@@ -132,6 +135,37 @@ class LogsRequestMarshalerTest {
     assertThat(logRecord.getTimeUnixNano()).isEqualTo(12345);
   }
 
+  @Test
+  void getLogSize() {
+    LogData log =
+        LogDataBuilder.create(
+                Resource.create(Attributes.builder().put("testKey", "testValue").build()),
+                InstrumentationScopeInfo.create("instrumentation", "1", null))
+            .setBody(BODY)
+            .setSeverity(Severity.INFO)
+            .setSeverityText("INFO")
+            .setSpanContext(
+                SpanContext.create(
+                    TRACE_ID, SPAN_ID, TraceFlags.getDefault(), TraceState.getDefault()))
+            .setAttributes(Attributes.of(AttributeKey.booleanKey("key"), true))
+            .setEpoch(12345, TimeUnit.NANOSECONDS)
+            .build();
+    LogData minimalLog =
+        LogDataBuilder.create(Resource.empty(), InstrumentationScopeInfo.create("instrumentation"))
+            .setEpoch(12345, TimeUnit.NANOSECONDS)
+            .build();
+
+    for (LogData logData : Arrays.asList(log, minimalLog)) {
+      int expected =
+          MarshalerUtil.sizeMessage(
+              io.opentelemetry.proto.logs.v1.internal.ScopeLogs.LOG_RECORDS,
+              LogMarshaler.create(logData));
+      assertThat(LogsRequestMarshaler.getLogSize(logData)).isEqualTo(expected);
+      // The reused context is reset between calls.
+      assertThat(LogsRequestMarshaler.getLogSize(logData)).isEqualTo(expected);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private static <T extends Message> T parse(T prototype, Marshaler marshaler) {
     byte[] serialized = toByteArray(marshaler);
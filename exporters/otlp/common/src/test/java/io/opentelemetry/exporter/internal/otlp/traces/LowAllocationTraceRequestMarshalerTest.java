@@ -0,0 +1,162 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import static io.opentelemetry.api.common.AttributeKey.booleanArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.doubleArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.longArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LowAllocationTraceRequestMarshalerTest {
+
+  private static final Resource RESOURCE =
+      Resource.create(Attributes.builder().put("one", 1).build(), "http://schema");
+  private static final InstrumentationScopeInfo SCOPE =
+      InstrumentationScopeInfo.create("scope", "1.0", "http://scope-schema");
+  private static final InstrumentationScopeInfo OTHER_SCOPE =
+      InstrumentationScopeInfo.create("other");
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "0123456789abcdef0123456789abcdef",
+          "0123456789abcdef",
+          TraceFlags.getSampled(),
+          TraceState.builder().put("key", "value").build());
+  private static final SpanContext PARENT_SPAN_CONTEXT =
+      SpanContext.create(
+          "0123456789abcdef0123456789abcdef",
+          "fedcba9876543210",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  @Test
+  void sameAsTraceRequestMarshaler() throws IOException {
+    List<SpanData> spans = spans();
+    Marshaler expected = TraceRequestMarshaler.create(spans);
+
+    LowAllocationTraceRequestMarshaler marshaler = new LowAllocationTraceRequestMarshaler();
+    marshaler.initialize(spans);
+
+    assertThat(marshaler.getBinarySerializedSize())
+        .isEqualTo(expected.getBinarySerializedSize());
+    assertThat(toByteArray(marshaler)).isEqualTo(toByteArray(expected));
+    assertThat(toJson(marshaler)).isEqualTo(toJson(expected));
+  }
+
+  @Test
+  void writeTwice() throws IOException {
+    LowAllocationTraceRequestMarshaler marshaler = new LowAllocationTraceRequestMarshaler();
+    marshaler.initialize(spans());
+
+    byte[] first = toByteArray(marshaler);
+
+    assertThat(toByteArray(marshaler)).isEqualTo(first);
+  }
+
+  @Test
+  void reuse() throws IOException {
+    List<SpanData> spans = spans();
+    List<SpanData> otherSpans = Collections.singletonList(span(42, OTHER_SCOPE));
+    LowAllocationTraceRequestMarshaler marshaler = new LowAllocationTraceRequestMarshaler();
+
+    marshaler.initialize(spans);
+    toByteArray(marshaler);
+    marshaler.reset();
+    marshaler.initialize(otherSpans);
+
+    assertThat(toByteArray(marshaler))
+        .isEqualTo(toByteArray(TraceRequestMarshaler.create(otherSpans)));
+
+    marshaler.reset();
+    marshaler.initialize(spans);
+
+    assertThat(toByteArray(marshaler)).isEqualTo(toByteArray(TraceRequestMarshaler.create(spans)));
+  }
+
+  private static List<SpanData> spans() {
+    List<SpanData> spans = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      spans.add(span(i, i % 3 == 0 ? OTHER_SCOPE : SCOPE));
+    }
+    return spans;
+  }
+
+  private static SpanData span(int i, InstrumentationScopeInfo scope) {
+    Attributes attributes =
+        Attributes.builder()
+            .put("string", "value" + i)
+            .put("empty", "")
+            .put("long", i)
+            .put("bool", i % 2 == 0)
+            .put("double", i * 0.5)
+            .put(stringArrayKey("string_array"), Arrays.asList("a", "", "ü"))
+            .put(longArrayKey("long_array"), Arrays.asList(0L, 12L))
+            .put(booleanArrayKey("bool_array"), Arrays.asList(true, false))
+            .put(doubleArrayKey("double_array"), Arrays.asList(0.0, 12.3))
+            .build();
+    return TestSpanData.builder()
+        .setHasEnded(true)
+        .setSpanContext(SPAN_CONTEXT)
+        .setParentSpanContext(i % 2 == 0 ? SpanContext.getInvalid() : PARENT_SPAN_CONTEXT)
+        .setName(i % 4 == 0 ? "" : "span" + i)
+        .setKind(SpanKind.values()[i % SpanKind.values().length])
+        .setStartEpochNanos(12345)
+        .setEndEpochNanos(12349)
+        .setAttributes(attributes)
+        .setTotalAttributeCount(attributes.size() + i)
+        .setEvents(
+            Arrays.asList(
+                EventData.create(12347, "my_event", Attributes.empty()),
+                EventData.create(
+                    12348, "other_event", Attributes.of(AttributeKey.longKey("count"), 2L), 3)))
+        .setTotalRecordedEvents(3)
+        .setLinks(
+            Collections.singletonList(
+                LinkData.create(
+                    PARENT_SPAN_CONTEXT, Attributes.of(AttributeKey.stringKey("k"), "v"))))
+        .setTotalRecordedLinks(1)
+        .setStatus(i % 2 == 0 ? StatusData.create(StatusCode.ERROR, "error") : StatusData.ok())
+        .setInstrumentationScopeInfo(scope)
+        .setResource(RESOURCE)
+        .build();
+  }
+
+  private static byte[] toByteArray(Marshaler marshaler) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    marshaler.writeBinaryTo(bos);
+    return bos.toByteArray();
+  }
+
+  private static String toJson(Marshaler marshaler) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    marshaler.writeJsonTo(bos);
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp.traces;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.SpanDataBatch;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StreamingTraceRequestMarshalerTest {
+
+  private static final Resource RESOURCE = Resource.builder().put("one", 1).build();
+  private static final InstrumentationScopeInfo SCOPE = InstrumentationScopeInfo.create("scope");
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "0123456789abcdef0123456789abcdef",
+          "0123456789abcdef",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  @Test
+  void sameAsTraceRequestMarshaler_singleChunk() throws IOException {
+    List<SpanData> spans = spans(10);
+
+    StreamingTraceRequestMarshaler marshaler = StreamingTraceRequestMarshaler.create(spans);
+
+    assertThat(marshaler.getChunkCount()).isEqualTo(1);
+    byte[] expected = toByteArray(TraceRequestMarshaler.create(spans));
+    assertThat(toByteArray(marshaler)).isEqualTo(expected);
+    assertThat(marshaler.getBinarySerializedSize()).isEqualTo(expected.length);
+  }
+
+  @Test
+  void splitsLargeGroupsInChunks() throws IOException {
+    int spanCount = 2 * StreamingTraceRequestMarshaler.MAX_SPANS_PER_CHUNK + 1;
+    List<SpanData> spans = spans(spanCount);
+
+    StreamingTraceRequestMarshaler marshaler = StreamingTraceRequestMarshaler.create(spans);
+
+    assertThat(marshaler.getChunkCount()).isEqualTo(3);
+    byte[] bytes = toByteArray(marshaler);
+    assertThat(marshaler.getBinarySerializedSize()).isEqualTo(bytes.length);
+    ExportTraceServiceRequest request = ExportTraceServiceRequest.parseFrom(bytes);
+    assertThat(request.getResourceSpansList())
+        .hasSize(3)
+        .allSatisfy(
+            resourceSpans -> {
+              assertThat(resourceSpans.getResource().getAttributes(0).getKey()).isEqualTo("one");
+              assertThat(resourceSpans.getScopeSpansCount()).isEqualTo(1);
+              assertThat(resourceSpans.getScopeSpans(0).getScope().getName()).isEqualTo("scope");
+            });
+    int exportedSpans = 0;
+    for (ResourceSpans resourceSpans : request.getResourceSpansList()) {
+      exportedSpans += resourceSpans.getScopeSpans(0).getSpansCount();
+    }
+    assertThat(exportedSpans).isEqualTo(spanCount);
+  }
+
+  @Test
+  void independentOfBatchReset() throws IOException {
+    List<SpanData> spans = spans(10);
+    SpanDataBatch batch = new SpanDataBatch(spans.size());
+    spans.forEach(batch::addSpan);
+
+    StreamingTraceRequestMarshaler marshaler = StreamingTraceRequestMarshaler.create(batch);
+    // The processor reuses the batch once the export returns, before the request is written.
+    batch.reset();
+    spans(3).forEach(batch::addSpan);
+
+    assertThat(toByteArray(marshaler)).isEqualTo(toByteArray(TraceRequestMarshaler.create(spans)));
+  }
+
+  private static List<SpanData> spans(int count) {
+    List<SpanData> spans = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setHasEnded(true)
+              .setSpanContext(SPAN_CONTEXT)
+              .setName("span" + i)
+              .setKind(SpanKind.INTERNAL)
+              .setStartEpochNanos(1)
+              .setEndEpochNanos(2)
+              .setStatus(StatusData.unset())
+              .setInstrumentationScopeInfo(SCOPE)
+              .setResource(RESOURCE)
+              .build());
+    }
+    return spans;
+  }
+
+  private static byte[] toByteArray(Marshaler marshaler) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    marshaler.writeBinaryTo(bos);
+    return bos.toByteArray();
+  }
+}
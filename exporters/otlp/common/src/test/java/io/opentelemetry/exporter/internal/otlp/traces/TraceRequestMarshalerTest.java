@@ -12,6 +12,7 @@ import static io.opentelemetry.proto.trace.v1.Status.StatusCode.STATUS_CODE_ERRO
 import static io.opentelemetry.proto.trace.v1.Status.StatusCode.STATUS_CODE_OK;
 import static io.opentelemetry.proto.trace.v1.Status.StatusCode.STATUS_CODE_UNSET;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
@@ -27,6 +28,7 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.proto.common.v1.AnyValue;
 import io.opentelemetry.proto.common.v1.ArrayValue;
 import io.opentelemetry.proto.common.v1.InstrumentationScope;
@@ -40,14 +42,18 @@ import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.trace.TestSpanData;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.SpanDataBatch;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class TraceRequestMarshalerTest {
@@ -97,6 +103,50 @@ class TraceRequestMarshalerTest {
         .isEqualTo(InstrumentationScope.newBuilder().setName("testLib").setVersion("1.0").build());
   }
 
+  @Test
+  void toProtoResourceSpans_spanDataBatch() {
+    Resource resource1 = Resource.builder().put("one", 1).build();
+    Resource resource2 = Resource.builder().put("two", 2).build();
+    InstrumentationScopeInfo scope1 = InstrumentationScopeInfo.create("scope1");
+    InstrumentationScopeInfo scope2 = InstrumentationScopeInfo.create("scope2");
+    SpanDataBatch batch = new SpanDataBatch(4);
+    batch.addSpan(testSpanData(resource1, scope1));
+    batch.addSpan(testSpanData(resource2, scope1));
+    batch.addSpan(testSpanData(resource1, scope2));
+    batch.addSpan(testSpanData(resource1, scope1));
+
+    ResourceSpansMarshaler[] resourceSpansMarshalers = ResourceSpansMarshaler.create(batch);
+
+    // Maps each resource attribute to the number of spans per scope name.
+    Map<String, Map<String, Integer>> spanCounts = new HashMap<>();
+    for (ResourceSpansMarshaler marshaler : resourceSpansMarshalers) {
+      ResourceSpans resourceSpans = parse(ResourceSpans.getDefaultInstance(), marshaler);
+      Map<String, Integer> scopeCounts = new HashMap<>();
+      for (ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+        scopeCounts.put(scopeSpans.getScope().getName(), scopeSpans.getSpansCount());
+      }
+      spanCounts.put(resourceSpans.getResource().getAttributes(0).getKey(), scopeCounts);
+    }
+    Map<String, Integer> resource1Counts = new HashMap<>();
+    resource1Counts.put("scope1", 2);
+    resource1Counts.put("scope2", 1);
+    assertThat(spanCounts)
+        .containsOnly(
+            entry("one", resource1Counts), entry("two", Collections.singletonMap("scope1", 1)));
+  }
+
+  @Test
+  void getSpanSize() {
+    SpanData span = testSpanData(Resource.empty(), InstrumentationScopeInfo.create("testLib"));
+    int expected =
+        MarshalerUtil.sizeMessage(
+            io.opentelemetry.proto.trace.v1.internal.ScopeSpans.SPANS, SpanMarshaler.create(span));
+
+    assertThat(TraceRequestMarshaler.getSpanSize(span)).isEqualTo(expected);
+    // The reused context is reset between calls.
+    assertThat(TraceRequestMarshaler.getSpanSize(span)).isEqualTo(expected);
+  }
+
   @Test
   void toProtoSpan() {
     Span span =
@@ -421,4 +471,19 @@ class TraceRequestMarshalerTest {
     }
     return new String(bos.toByteArray(), StandardCharsets.UTF_8);
   }
+
+  private static SpanData testSpanData(Resource resource, InstrumentationScopeInfo scope) {
+    return TestSpanData.builder()
+        .setHasEnded(true)
+        .setSpanContext(SPAN_CONTEXT)
+        .setParentSpanContext(SpanContext.getInvalid())
+        .setName("GET /api/endpoint")
+        .setKind(SpanKind.SERVER)
+        .setStartEpochNanos(12345)
+        .setEndEpochNanos(12349)
+        .setStatus(StatusData.unset())
+        .setInstrumentationScopeInfo(scope)
+        .setResource(resource)
+        .build();
+  }
 }
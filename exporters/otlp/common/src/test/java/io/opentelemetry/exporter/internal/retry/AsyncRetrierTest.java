@@ -0,0 +1,257 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.internal.verification.VerificationModeFactory.times;
+
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.testing.junit5.server.mock.MockWebServerExtension;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncRetrierTest {
+
+  @RegisterExtension static final MockWebServerExtension server = new MockWebServerExtension();
+
+  @Mock private AsyncRetrier.Scheduler scheduler;
+  @Mock private AsyncRetrier.BoundedLongGenerator random;
+  private Function<IOException, Boolean> isRetryableException;
+  private final TestClock clock = TestClock.create();
+
+  private AsyncRetrier retrier;
+  private OkHttpClient client;
+
+  @BeforeEach
+  void setUp() {
+    // Note: cannot replace this with lambda or method reference because we need to spy on it
+    isRetryableException =
+        spy(
+            new Function<IOException, Boolean>() {
+              @Override
+              public Boolean apply(IOException exception) {
+                return RetryInterceptor.isRetryableException(exception);
+              }
+            });
+    retrier = newRetrier(0);
+    client = new OkHttpClient();
+  }
+
+  private AsyncRetrier newRetrier(long timeoutNanos) {
+    return new AsyncRetrier(
+        RetryPolicy.builder()
+            .setBackoffMultiplier(1.6)
+            .setInitialBackoff(Duration.ofSeconds(1))
+            .setMaxBackoff(Duration.ofSeconds(2))
+            .setMaxAttempts(5)
+            .build(),
+        timeoutNanos,
+        r -> !r.isSuccessful(),
+        isRetryableException,
+        scheduler,
+        random,
+        clock);
+  }
+
+  @Test
+  void noRetry() throws Exception {
+    server.enqueue(HttpResponse.of(HttpStatus.OK));
+
+    try (Response response = sendRequest(server.httpUri().toString())) {
+      assertThat(response.isSuccessful()).isTrue();
+    }
+
+    verifyNoInteractions(random);
+    verifyNoInteractions(scheduler);
+  }
+
+  @ParameterizedTest
+  // Test is mostly same for 5 or more attempts since it's the max. We check the backoff timings and
+  // handling of max attempts by checking both.
+  @ValueSource(ints = {5, 6})
+  void backsOff(int attempts) throws Exception {
+    succeedOnAttempt(attempts);
+    runScheduledRetries();
+
+    // Will backoff 4 times
+    when(random.get((long) (TimeUnit.SECONDS.toNanos(1) * Math.pow(1.6, 0)))).thenReturn(100L);
+    when(random.get((long) (TimeUnit.SECONDS.toNanos(1) * Math.pow(1.6, 1)))).thenReturn(50L);
+    // Capped
+    when(random.get(TimeUnit.SECONDS.toNanos(2))).thenReturn(500L).thenReturn(510L);
+
+    try (Response response = sendRequest(server.httpUri().toString())) {
+      if (attempts <= 5) {
+        assertThat(response.isSuccessful()).isTrue();
+      } else {
+        assertThat(response.isSuccessful()).isFalse();
+      }
+    }
+
+    verify(scheduler).schedule(any(), eq(100L));
+    verify(scheduler).schedule(any(), eq(50L));
+    verify(scheduler).schedule(any(), eq(500L));
+    verify(scheduler).schedule(any(), eq(510L));
+    for (int i = 0; i < 5; i++) {
+      server.takeRequest(0, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Test
+  void schedulerRejected() throws Exception {
+    succeedOnAttempt(5);
+
+    // Backs off twice, second can't be scheduled
+    when(random.get((long) (TimeUnit.SECONDS.toNanos(1) * Math.pow(1.6, 0)))).thenReturn(100L);
+    when(random.get((long) (TimeUnit.SECONDS.toNanos(1) * Math.pow(1.6, 1)))).thenReturn(50L);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(scheduler)
+        .schedule(any(), eq(100L));
+    doThrow(new RejectedExecutionException()).when(scheduler).schedule(any(), eq(50L));
+
+    try (Response response = sendRequest(server.httpUri().toString())) {
+      assertThat(response.isSuccessful()).isFalse();
+    }
+
+    for (int i = 0; i < 2; i++) {
+      server.takeRequest(0, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Test
+  void stopsRetryingAtTimeout() throws Exception {
+    retrier = newRetrier(TimeUnit.SECONDS.toNanos(2));
+    for (int i = 0; i < 3; i++) {
+      server.enqueue(HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+    when(random.get(anyLong())).thenReturn(TimeUnit.MILLISECONDS.toNanos(900));
+    doAnswer(
+            invocation -> {
+              clock.advance(Duration.ofNanos(invocation.<Long>getArgument(1)));
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(scheduler)
+        .schedule(any(), anyLong());
+
+    // The third backoff would end after the timeout, the outcome of the third attempt is returned.
+    try (Response response = sendRequest(server.httpUri().toString())) {
+      assertThat(response.isSuccessful()).isFalse();
+    }
+
+    verify(scheduler, times(2)).schedule(any(), anyLong());
+    for (int i = 0; i < 3; i++) {
+      server.takeRequest(0, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Test
+  void connectTimeout() {
+    client = connectTimeoutClient();
+    when(random.get(anyLong())).thenReturn(1L);
+    runScheduledRetries();
+
+    // Connecting to a non-routable IP address to trigger connection timeout
+    assertThatThrownBy(() -> sendRequest("http://10.255.255.1"))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(SocketTimeoutException.class);
+
+    verify(isRetryableException, times(5)).apply(any());
+    // Should retry maxAttempts, and back off maxAttempts - 1 times
+    verify(scheduler, times(4)).schedule(any(), anyLong());
+  }
+
+  @Test
+  void nonRetryableException() {
+    client = connectTimeoutClient();
+    // Override isRetryableException so that no exception is retryable
+    when(isRetryableException.apply(any())).thenReturn(false);
+
+    // Connecting to a non-routable IP address to trigger connection timeout
+    assertThatThrownBy(() -> sendRequest("http://10.255.255.1"))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(SocketTimeoutException.class);
+
+    verify(isRetryableException, times(1)).apply(any());
+    verify(scheduler, never()).schedule(any(), anyLong());
+  }
+
+  private static OkHttpClient connectTimeoutClient() {
+    return new OkHttpClient.Builder().connectTimeout(Duration.ofMillis(10)).build();
+  }
+
+  private void runScheduledRetries() {
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(scheduler)
+        .schedule(any(), anyLong());
+  }
+
+  private Response sendRequest(String url) throws Exception {
+    CompletableFuture<Response> response = new CompletableFuture<>();
+    retrier.enqueue(
+        client,
+        new Request.Builder().url(url).build(),
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            response.completeExceptionally(e);
+          }
+
+          @Override
+          public void onResponse(Call call, Response r) {
+            response.complete(r);
+          }
+        });
+    return response.get(10, TimeUnit.SECONDS);
+  }
+
+  private static void succeedOnAttempt(int attempt) {
+    for (int i = 1; i < attempt; i++) {
+      server.enqueue(HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR));
+    }
+    server.enqueue(HttpResponse.of(HttpStatus.OK));
+  }
+}
@@ -39,6 +39,16 @@ public final class OtlpGrpcLogExporter implements LogExporter {
     return new OtlpGrpcLogExporterBuilder();
   }
 
+  /**
+   * Returns the number of bytes {@code log} adds to the requests of this exporter, to limit the
+   * size of batches with {@link
+   * io.opentelemetry.sdk.logs.export.BatchLogProcessorBuilder#setMaxExportBatchSizeBytes}, for
+   * example {@code setMaxExportBatchSizeBytes(1024 * 1024, OtlpGrpcLogExporter::getLogSize)}.
+   */
+  public static long getLogSize(LogData log) {
+    return LogsRequestMarshaler.getLogSize(log);
+  }
+
   OtlpGrpcLogExporter(GrpcExporter<LogsRequestMarshaler> delegate) {
     this.delegate = delegate;
   }
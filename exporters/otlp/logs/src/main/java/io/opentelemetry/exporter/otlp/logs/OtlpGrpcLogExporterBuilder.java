@@ -10,6 +10,7 @@ import static java.util.Objects.requireNonNull;
 
 import io.grpc.ManagedChannel;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterBuilder;
 import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
@@ -96,13 +97,21 @@ public final class OtlpGrpcLogExporterBuilder {
    */
   public OtlpGrpcLogExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
     delegate.setCompression(compressionMethod);
     return this;
   }
 
+  /**
+   * Compresses payloads with gzip at the compression {@code level}, from 1, the fastest, to 9, the
+   * best compression. Lower levels use less CPU but send larger payloads. Replaces the method set
+   * with {@link #setCompression(String)}.
+   */
+  public OtlpGrpcLogExporterBuilder setGzipCompressionLevel(int level) {
+    checkArgument(level >= 1 && level <= 9, "level must be between 1 and 9");
+    delegate.setCompressor(GzipCompressor.create(level));
+    return this;
+  }
+
   /**
    * Sets the certificate chain to use for verifying servers when TLS is enabled. The {@code byte[]}
    * should contain an X.509 certificate collection in PEM format. If not set, TLS connections will
@@ -144,6 +153,43 @@ public final class OtlpGrpcLogExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of export requests sent concurrently to the collector. Further requests
+   * wait for one to complete. Requests are multiplexed over HTTP/2 connections where possible. If
+   * unset, defaults to 64. Only applies when exporting with OkHttp, the gRPC library does not limit
+   * concurrent requests.
+   */
+  public OtlpGrpcLogExporterBuilder setMaxConcurrentRequests(int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+    delegate.setMaxConcurrentRequests(maxConcurrentRequests);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of idle connections to the collector to keep open, and the time to keep
+   * them open while idle. If unset, defaults to 5 connections kept for 5 minutes. When exporting
+   * with the gRPC library, which uses a single connection, only {@code keepAlive} applies.
+   */
+  public OtlpGrpcLogExporterBuilder setConnectionPool(int maxIdleConnections, Duration keepAlive) {
+    requireNonNull(keepAlive, "keepAlive");
+    checkArgument(maxIdleConnections >= 0, "maxIdleConnections must be non-negative");
+    checkArgument(!keepAlive.isNegative() && !keepAlive.isZero(), "keepAlive must be positive");
+    delegate.setConnectionPool(maxIdleConnections, keepAlive);
+    return this;
+  }
+
+  /**
+   * Sets the interval at which to send HTTP/2 pings to the collector, to keep connections alive
+   * through proxies and load balancers and detect broken connections. If unset, or set to zero,
+   * pings are not sent.
+   */
+  public OtlpGrpcLogExporterBuilder setPingInterval(Duration pingInterval) {
+    requireNonNull(pingInterval, "pingInterval");
+    checkArgument(!pingInterval.isNegative(), "pingInterval must be non-negative");
+    delegate.setPingInterval(pingInterval);
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
@@ -11,7 +11,7 @@ import io.grpc.stub.StreamObserver;
 import io.opentelemetry.exporter.internal.grpc.DefaultGrpcExporterBuilder;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.grpc.OkHttpGrpcExporterBuilder;
-import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
 import io.opentelemetry.proto.collector.trace.v1.TraceServiceGrpc;
@@ -56,8 +56,8 @@ public class GrpcExporterBenchmark {
           .http(0)
           .build();
 
-  private static GrpcExporter<TraceRequestMarshaler> defaultGrpcExporter;
-  private static GrpcExporter<TraceRequestMarshaler> okhttpGrpcExporter;
+  private static GrpcExporter<Marshaler> defaultGrpcExporter;
+  private static GrpcExporter<Marshaler> okhttpGrpcExporter;
 
   @Setup(Level.Trial)
   public void setUp() {
@@ -74,7 +74,7 @@ public class GrpcExporterBenchmark {
             .build();
 
     okhttpGrpcExporter =
-        new OkHttpGrpcExporterBuilder<TraceRequestMarshaler>(
+        new OkHttpGrpcExporterBuilder<Marshaler>(
                 "otlp",
                 "span",
                 OtlpGrpcSpanExporterBuilder.GRPC_ENDPOINT_PATH,
@@ -5,19 +5,25 @@
 
 package io.opentelemetry.exporter.otlp.trace;
 
+import io.opentelemetry.exporter.internal.RequestSplitter;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingExporter;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import java.util.Collection;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /** Exports spans using OTLP via gRPC, using OpenTelemetry's protobuf model. */
 @ThreadSafe
 public final class OtlpGrpcSpanExporter implements SpanExporter {
 
-  private final GrpcExporter<TraceRequestMarshaler> delegate;
+  private final GrpcExporter<Marshaler> delegate;
+  @Nullable private final RequestSplitter requestSplitter;
+  @Nullable private final DiskBufferingExporter diskBufferingExporter;
 
   /**
    * Returns a new {@link OtlpGrpcSpanExporter} reading the configuration values from the
@@ -39,8 +45,23 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
     return new OtlpGrpcSpanExporterBuilder();
   }
 
-  OtlpGrpcSpanExporter(GrpcExporter<TraceRequestMarshaler> delegate) {
+  /**
+   * Returns the number of bytes {@code span} adds to the requests of this exporter, to limit the
+   * size of batches with {@link
+   * io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder#setMaxExportBatchSizeBytes}, for
+   * example {@code setMaxExportBatchSizeBytes(1024 * 1024, OtlpGrpcSpanExporter::getSpanSize)}.
+   */
+  public static long getSpanSize(SpanData span) {
+    return TraceRequestMarshaler.getSpanSize(span);
+  }
+
+  OtlpGrpcSpanExporter(
+      GrpcExporter<Marshaler> delegate,
+      @Nullable RequestSplitter requestSplitter,
+      @Nullable DiskBufferingExporter diskBufferingExporter) {
     this.delegate = delegate;
+    this.requestSplitter = requestSplitter;
+    this.diskBufferingExporter = diskBufferingExporter;
   }
 
   /**
@@ -51,8 +72,22 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
    */
   @Override
   public CompletableResultCode export(Collection<SpanData> spans) {
+    if (requestSplitter != null) {
+      return requestSplitter.export(spans, this::exportRequest);
+    }
+    return exportRequest(spans);
+  }
+
+  private CompletableResultCode exportRequest(Collection<SpanData> spans) {
     TraceRequestMarshaler request = TraceRequestMarshaler.create(spans);
+    if (requestSplitter != null && requestSplitter.isTooLarge(request, spans.size())) {
+      return requestSplitter.exportSplit(
+          spans, request.getBinarySerializedSize(), this::exportRequest);
+    }
 
+    if (diskBufferingExporter != null) {
+      return diskBufferingExporter.export(request, spans.size());
+    }
     return delegate.export(request, spans.size());
   }
 
@@ -72,6 +107,12 @@ public final class OtlpGrpcSpanExporter implements SpanExporter {
    */
   @Override
   public CompletableResultCode shutdown() {
+    if (requestSplitter != null) {
+      requestSplitter.shutdown();
+    }
+    if (diskBufferingExporter != null) {
+      diskBufferingExporter.shutdown();
+    }
     return delegate.shutdown();
   }
 }
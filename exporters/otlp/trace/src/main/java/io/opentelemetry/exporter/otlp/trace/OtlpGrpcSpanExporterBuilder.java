@@ -10,12 +10,17 @@ import static java.util.Objects.requireNonNull;
 
 import io.grpc.ManagedChannel;
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.RequestSplitter;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import io.opentelemetry.exporter.internal.disk.DiskBufferingExporter;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterBuilder;
-import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import java.io.File;
 import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /** Builder utility for this exporter. */
 public final class OtlpGrpcSpanExporterBuilder {
@@ -30,7 +35,12 @@ public final class OtlpGrpcSpanExporterBuilder {
   private static final long DEFAULT_TIMEOUT_SECS = 10;
 
   // Visible for testing
-  final GrpcExporterBuilder<TraceRequestMarshaler> delegate;
+  final GrpcExporterBuilder<Marshaler> delegate;
+  private int maxSpansPerRequest;
+  private long maxRequestSizeBytes;
+  @Nullable private File diskBufferingDirectory;
+  private long diskBufferingMaxSizeBytes;
+  private Duration diskBufferingMaxAge = Duration.ZERO;
 
   OtlpGrpcSpanExporterBuilder() {
     delegate =
@@ -96,13 +106,21 @@ public final class OtlpGrpcSpanExporterBuilder {
    */
   public OtlpGrpcSpanExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
-    checkArgument(
-        compressionMethod.equals("gzip") || compressionMethod.equals("none"),
-        "Unsupported compression method. Supported compression methods include: gzip, none.");
     delegate.setCompression(compressionMethod);
     return this;
   }
 
+  /**
+   * Compresses payloads with gzip at the compression {@code level}, from 1, the fastest, to 9, the
+   * best compression. Lower levels use less CPU but send larger payloads. Replaces the method set
+   * with {@link #setCompression(String)}.
+   */
+  public OtlpGrpcSpanExporterBuilder setGzipCompressionLevel(int level) {
+    checkArgument(level >= 1 && level <= 9, "level must be between 1 and 9");
+    delegate.setCompressor(GzipCompressor.create(level));
+    return this;
+  }
+
   /**
    * Sets the certificate chain to use for verifying servers when TLS is enabled. The {@code byte[]}
    * should contain an X.509 certificate collection in PEM format. If not set, TLS connections will
@@ -144,12 +162,118 @@ public final class OtlpGrpcSpanExporterBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of export requests sent concurrently to the collector. Further requests
+   * wait for one to complete. Requests are multiplexed over HTTP/2 connections where possible. If
+   * unset, defaults to 64. Only applies when exporting with OkHttp, the gRPC library does not limit
+   * concurrent requests.
+   */
+  public OtlpGrpcSpanExporterBuilder setMaxConcurrentRequests(int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+    delegate.setMaxConcurrentRequests(maxConcurrentRequests);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of idle connections to the collector to keep open, and the time to keep
+   * them open while idle. If unset, defaults to 5 connections kept for 5 minutes. When exporting
+   * with the gRPC library, which uses a single connection, only {@code keepAlive} applies.
+   */
+  public OtlpGrpcSpanExporterBuilder setConnectionPool(int maxIdleConnections, Duration keepAlive) {
+    requireNonNull(keepAlive, "keepAlive");
+    checkArgument(maxIdleConnections >= 0, "maxIdleConnections must be non-negative");
+    checkArgument(!keepAlive.isNegative() && !keepAlive.isZero(), "keepAlive must be positive");
+    delegate.setConnectionPool(maxIdleConnections, keepAlive);
+    return this;
+  }
+
+  /**
+   * Sets the interval at which to send HTTP/2 pings to the collector, to keep connections alive
+   * through proxies and load balancers and detect broken connections. If unset, or set to zero,
+   * pings are not sent.
+   */
+  public OtlpGrpcSpanExporterBuilder setPingInterval(Duration pingInterval) {
+    requireNonNull(pingInterval, "pingInterval");
+    checkArgument(!pingInterval.isNegative(), "pingInterval must be non-negative");
+    delegate.setPingInterval(pingInterval);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of spans to send in a single request. Larger batches are split into
+   * several requests, which are serialized in parallel on a small pool of threads and sent
+   * concurrently, so that the time to export large batches does not grow with their size. If
+   * unset, batches are not split by number of spans.
+   */
+  public OtlpGrpcSpanExporterBuilder setMaxSpansPerRequest(int maxSpansPerRequest) {
+    checkArgument(maxSpansPerRequest > 0, "maxSpansPerRequest must be positive");
+    this.maxSpansPerRequest = maxSpansPerRequest;
+    return this;
+  }
+
+  /**
+   * Sets the maximum size in bytes of a request. Larger requests, for example of spans with large
+   * attributes, are split into several smaller requests, so that collectors which limit the size
+   * of the messages they receive, like the OpenTelemetry Collector with {@code
+   * max_recv_msg_size_mib}, don't reject them. A single span larger than the maximum is still sent
+   * in its own request. If unset, the size of requests is not limited.
+   */
+  public OtlpGrpcSpanExporterBuilder setMaxRequestSize(long maxRequestSizeBytes) {
+    checkArgument(maxRequestSizeBytes > 0, "maxRequestSizeBytes must be positive");
+    this.maxRequestSizeBytes = maxRequestSizeBytes;
+    return this;
+  }
+
+  /**
+   * Enables buffering on disk of the requests which fail to export for a transient reason, for
+   * example because the collector is unavailable, so that they are sent again once it is available,
+   * including after a restart of the application. Requests rejected by the collector are not
+   * buffered. Requests are buffered in segment files in {@code directory}, which is locked until
+   * the exporter is shut down, {@link #build()} fails if another exporter uses it. At most {@code
+   * maxSizeBytes} of requests are buffered, the oldest are dropped when it is exceeded, and
+   * requests older than {@code maxAge} are dropped. If unset, requests which fail to export are
+   * dropped.
+   */
+  public OtlpGrpcSpanExporterBuilder setDiskBuffering(
+      File directory, long maxSizeBytes, Duration maxAge) {
+    requireNonNull(directory, "directory");
+    requireNonNull(maxAge, "maxAge");
+    checkArgument(maxSizeBytes > 0, "maxSizeBytes must be positive");
+    checkArgument(!maxAge.isNegative() && !maxAge.isZero(), "maxAge must be positive");
+    this.diskBufferingDirectory = directory;
+    this.diskBufferingMaxSizeBytes = maxSizeBytes;
+    this.diskBufferingMaxAge = maxAge;
+    return this;
+  }
+
   /**
    * Constructs a new instance of the exporter based on the builder's values.
    *
    * @return a new exporter's instance
    */
   public OtlpGrpcSpanExporter build() {
-    return new OtlpGrpcSpanExporter(delegate.build());
+    GrpcExporter<Marshaler> exporter = delegate.build();
+    return new OtlpGrpcSpanExporter(
+        exporter,
+        createRequestSplitter(),
+        diskBufferingDirectory != null
+            ? DiskBufferingExporter.create(
+                "span",
+                diskBufferingDirectory,
+                diskBufferingMaxSizeBytes,
+                diskBufferingMaxAge,
+                exporter::export)
+            : null);
+  }
+
+  @Nullable
+  private RequestSplitter createRequestSplitter() {
+    if (maxSpansPerRequest == 0 && maxRequestSizeBytes == 0) {
+      return null;
+    }
+    return RequestSplitter.create(
+        "span",
+        maxSpansPerRequest > 0 ? maxSpansPerRequest : Integer.MAX_VALUE,
+        maxRequestSizeBytes > 0 ? maxRequestSizeBytes : Long.MAX_VALUE);
   }
 }
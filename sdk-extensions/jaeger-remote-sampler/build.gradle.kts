@@ -3,6 +3,7 @@ plugins {
   id("otel.publish-conventions")
 
   id("otel.animalsniffer-conventions")
+  id("otel.jmh-conventions")
 
   id("com.squareup.wire")
 }
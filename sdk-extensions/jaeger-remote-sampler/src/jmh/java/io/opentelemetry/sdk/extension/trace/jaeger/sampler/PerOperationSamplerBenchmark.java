@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.trace.jaeger.sampler;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(1)
+public class PerOperationSamplerBenchmark {
+
+  @Param({"10", "2000"})
+  private int operationCount;
+
+  private Sampler sampler;
+  private String traceId;
+  private String[] spanNames;
+  private int index;
+
+  @Setup
+  public void setup() {
+    List<SamplingStrategyResponse.OperationSamplingStrategy> strategies = new ArrayList<>();
+    spanNames = new String[operationCount];
+    for (int i = 0; i < operationCount; i++) {
+      String operation = "GET /api/v1/resource" + i;
+      spanNames[i] = operation;
+      strategies.add(
+          new SamplingStrategyResponse.OperationSamplingStrategy.Builder()
+              .setOperation(operation)
+              .setProbabilisticSamplingStrategy(
+                  new SamplingStrategyResponse.ProbabilisticSamplingStrategy.Builder()
+                      .setSamplingRate((i % 10) / 10.0)
+                      .build())
+              .build());
+    }
+    sampler = new PerOperationSampler(Sampler.traceIdRatioBased(0.5), strategies);
+    traceId = IdGenerator.random().generateTraceId();
+  }
+
+  @Benchmark
+  public SamplingResult shouldSample() {
+    String name = spanNames[index];
+    index = index + 1 == spanNames.length ? 0 : index + 1;
+    return sampler.shouldSample(
+        Context.root(),
+        traceId,
+        name,
+        SpanKind.SERVER,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+
+  @Benchmark
+  public SamplingResult shouldSample_unknownOperation() {
+    return sampler.shouldSample(
+        Context.root(),
+        traceId,
+        "unknown",
+        SpanKind.SERVER,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+}
@@ -11,27 +11,62 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-/** {@link PerOperationSampler} samples spans per operation. */
+/**
+ * {@link PerOperationSampler} samples spans per operation.
+ *
+ * <p>The strategies are indexed by operation name in an immutable open addressing table that is
+ * built once per strategy refresh, so looking up the sampler of a span does not allocate.
+ */
 class PerOperationSampler implements Sampler {
 
   private final Sampler defaultSampler;
-  private final Map<String, Sampler> perOperationSampler;
+  // Open addressing table with linear probing, its length is a power of two.
+  private final String[] operations;
+  private final int[] operationHashes;
+  private final Sampler[] samplers;
+  private final String description;
 
   PerOperationSampler(
       Sampler defaultSampler,
       List<SamplingStrategyResponse.OperationSamplingStrategy> perOperationSampling) {
     this.defaultSampler = defaultSampler;
-    this.perOperationSampler = new LinkedHashMap<>(perOperationSampling.size());
+
+    // Operations commonly share a sampling rate, so share the samplers as well.
+    Map<Double, Sampler> samplersByRate = new HashMap<>();
+    Map<String, Sampler> perOperationSampler = new LinkedHashMap<>(perOperationSampling.size());
     for (SamplingStrategyResponse.OperationSamplingStrategy opSamplingStrategy :
         perOperationSampling) {
-      this.perOperationSampler.put(
+      perOperationSampler.put(
           opSamplingStrategy.operation,
-          Sampler.traceIdRatioBased(opSamplingStrategy.probabilisticSamplingStrategy.samplingRate));
+          samplersByRate.computeIfAbsent(
+              opSamplingStrategy.probabilisticSamplingStrategy.samplingRate,
+              Sampler::traceIdRatioBased));
+    }
+
+    int tableSize = tableSizeFor(perOperationSampler.size());
+    operations = new String[tableSize];
+    operationHashes = new int[tableSize];
+    samplers = new Sampler[tableSize];
+    int mask = tableSize - 1;
+    for (Map.Entry<String, Sampler> entry : perOperationSampler.entrySet()) {
+      int hash = hash(entry.getKey());
+      int index = hash & mask;
+      while (operations[index] != null) {
+        index = (index + 1) & mask;
+      }
+      operations[index] = entry.getKey();
+      operationHashes[index] = hash;
+      samplers[index] = entry.getValue();
     }
+
+    description =
+        String.format(
+            "PerOperationSampler{default=%s, perOperation=%s}", defaultSampler, perOperationSampler);
   }
 
   @Override
@@ -42,22 +77,47 @@ class PerOperationSampler implements Sampler {
       SpanKind spanKind,
       Attributes attributes,
       List<LinkData> parentLinks) {
-    Sampler sampler = this.perOperationSampler.get(name);
-    if (sampler == null) {
-      sampler = this.defaultSampler;
+    return getSampler(name)
+        .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+  }
+
+  // Visible for testing
+  Sampler getSampler(String name) {
+    int hash = hash(name);
+    int mask = operations.length - 1;
+    int index = hash & mask;
+    String operation;
+    while ((operation = operations[index]) != null) {
+      if (operationHashes[index] == hash && operation.equals(name)) {
+        return samplers[index];
+      }
+      index = (index + 1) & mask;
     }
-    return sampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    return defaultSampler;
   }
 
   @Override
   public String getDescription() {
-    return String.format(
-        "PerOperationSampler{default=%s, perOperation=%s}",
-        this.defaultSampler, this.perOperationSampler);
+    return description;
   }
 
   @Override
   public String toString() {
     return getDescription();
   }
+
+  // Keeps the load factor at or below 0.5, with at least one empty slot to end lookups.
+  private static int tableSizeFor(int operationCount) {
+    int size = 2;
+    while (size < operationCount * 2) {
+      size <<= 1;
+    }
+    return size;
+  }
+
+  // Spreads the higher bits of the hash to the lower bits used for indexing, like HashMap.
+  private static int hash(String name) {
+    int h = name.hashCode();
+    return h ^ (h >>> 16);
+  }
 }
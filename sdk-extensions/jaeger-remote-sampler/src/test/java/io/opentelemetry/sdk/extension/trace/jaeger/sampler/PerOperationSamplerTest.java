@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.trace.jaeger.sampler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PerOperationSamplerTest {
+
+  private static final Sampler DEFAULT_SAMPLER = Sampler.traceIdRatioBased(0.5);
+
+  @Test
+  void noOperations() {
+    PerOperationSampler sampler =
+        new PerOperationSampler(DEFAULT_SAMPLER, Collections.emptyList());
+
+    assertThat(sampler.getSampler("foo")).isSameAs(DEFAULT_SAMPLER);
+  }
+
+  @Test
+  void manyOperations() {
+    List<SamplingStrategyResponse.OperationSamplingStrategy> strategies = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      strategies.add(strategy("operation" + i, (i % 100) / 100.0));
+    }
+    PerOperationSampler sampler = new PerOperationSampler(DEFAULT_SAMPLER, strategies);
+
+    for (int i = 0; i < 2000; i++) {
+      assertThat(sampler.getSampler("operation" + i))
+          .isEqualTo(Sampler.traceIdRatioBased((i % 100) / 100.0));
+    }
+    assertThat(sampler.getSampler("operation2000")).isSameAs(DEFAULT_SAMPLER);
+    assertThat(sampler.getSampler("")).isSameAs(DEFAULT_SAMPLER);
+    // Operations with the same rate share a sampler.
+    assertThat(sampler.getSampler("operation1")).isSameAs(sampler.getSampler("operation101"));
+  }
+
+  @Test
+  void collidingOperations() {
+    // "Aa" and "BB" have the same hash code.
+    PerOperationSampler sampler =
+        new PerOperationSampler(
+            DEFAULT_SAMPLER, Arrays.asList(strategy("Aa", 0.1), strategy("BB", 0.2)));
+
+    assertThat(sampler.getSampler("Aa")).isEqualTo(Sampler.traceIdRatioBased(0.1));
+    assertThat(sampler.getSampler("BB")).isEqualTo(Sampler.traceIdRatioBased(0.2));
+    assertThat(sampler.getSampler("C#")).isSameAs(DEFAULT_SAMPLER);
+  }
+
+  @Test
+  void duplicateOperation_lastWins() {
+    PerOperationSampler sampler =
+        new PerOperationSampler(
+            DEFAULT_SAMPLER, Arrays.asList(strategy("foo", 0.1), strategy("foo", 0.2)));
+
+    assertThat(sampler.getSampler("foo")).isEqualTo(Sampler.traceIdRatioBased(0.2));
+    assertThat(sampler.getDescription())
+        .isEqualTo(
+            "PerOperationSampler{default=TraceIdRatioBased{0.500000}, "
+                + "perOperation={foo=TraceIdRatioBased{0.200000}}}");
+  }
+
+  private static SamplingStrategyResponse.OperationSamplingStrategy strategy(
+      String operation, double samplingRate) {
+    return new SamplingStrategyResponse.OperationSamplingStrategy.Builder()
+        .setOperation(operation)
+        .setProbabilisticSamplingStrategy(
+            new SamplingStrategyResponse.ProbabilisticSamplingStrategy.Builder()
+                .setSamplingRate(samplingRate)
+                .build())
+        .build();
+  }
+}
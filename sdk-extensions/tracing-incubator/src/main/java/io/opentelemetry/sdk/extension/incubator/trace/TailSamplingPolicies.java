@@ -0,0 +1,112 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RateLimiter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+
+/** The {@link TailSamplingPolicy} implementations returned by its static factories. */
+final class TailSamplingPolicies {
+
+  enum ErrorPresent implements TailSamplingPolicy {
+    INSTANCE;
+
+    @Override
+    public boolean shouldSample(List<SpanData> spans) {
+      for (SpanData span : spans) {
+        if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      return "ErrorPresent";
+    }
+  }
+
+  static final class LatencyAbove implements TailSamplingPolicy {
+    private final long thresholdNanos;
+
+    LatencyAbove(long thresholdNanos) {
+      this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    public boolean shouldSample(List<SpanData> spans) {
+      long start = Long.MAX_VALUE;
+      long end = Long.MIN_VALUE;
+      for (SpanData span : spans) {
+        start = Math.min(start, span.getStartEpochNanos());
+        end = Math.max(end, span.getEndEpochNanos());
+      }
+      return end - start > thresholdNanos;
+    }
+
+    @Override
+    public String toString() {
+      return "LatencyAbove{thresholdNanos=" + thresholdNanos + '}';
+    }
+  }
+
+  static final class AttributeEquals<T> implements TailSamplingPolicy {
+    private final AttributeKey<T> key;
+    private final T value;
+
+    AttributeEquals(AttributeKey<T> key, T value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public boolean shouldSample(List<SpanData> spans) {
+      for (SpanData span : spans) {
+        if (value.equals(span.getAttributes().get(key))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      return "AttributeEquals{key=" + key + ", value=" + value + '}';
+    }
+  }
+
+  static final class RateLimited implements TailSamplingPolicy {
+    private final double maxTracesPerSecond;
+    private final RateLimiter rateLimiter;
+
+    RateLimited(double maxTracesPerSecond) {
+      checkArgument(maxTracesPerSecond > 0, "maxTracesPerSecond must be positive");
+      this.maxTracesPerSecond = maxTracesPerSecond;
+      this.rateLimiter =
+          new RateLimiter(
+              maxTracesPerSecond, Math.max(maxTracesPerSecond, 1.0), Clock.getDefault());
+    }
+
+    @Override
+    public boolean shouldSample(List<SpanData> spans) {
+      return rateLimiter.trySpend(1.0);
+    }
+
+    @Override
+    public String toString() {
+      return "RateLimited{maxTracesPerSecond=" + maxTracesPerSecond + '}';
+    }
+  }
+
+  private TailSamplingPolicies() {}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A policy used by {@link TailSamplingSpanProcessor} to decide whether a trace is exported, once
+ * all of its locally buffered spans are known.
+ */
+@FunctionalInterface
+public interface TailSamplingPolicy {
+
+  /** Returns a {@link TailSamplingPolicy} that samples traces with a span with an error status. */
+  static TailSamplingPolicy errorPresent() {
+    return TailSamplingPolicies.ErrorPresent.INSTANCE;
+  }
+
+  /**
+   * Returns a {@link TailSamplingPolicy} that samples traces whose buffered spans cover more than
+   * {@code threshold}, measured from the earliest span start to the latest span end.
+   */
+  static TailSamplingPolicy latencyAbove(Duration threshold) {
+    requireNonNull(threshold, "threshold");
+    return new TailSamplingPolicies.LatencyAbove(threshold.toNanos());
+  }
+
+  /**
+   * Returns a {@link TailSamplingPolicy} that samples traces with a span with the attribute {@code
+   * key} set to {@code value}.
+   */
+  static <T> TailSamplingPolicy attributeEquals(AttributeKey<T> key, T value) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+    return new TailSamplingPolicies.AttributeEquals<>(key, value);
+  }
+
+  /**
+   * Returns a {@link TailSamplingPolicy} that samples at most {@code maxTracesPerSecond} traces
+   * per second.
+   */
+  static TailSamplingPolicy rateLimited(double maxTracesPerSecond) {
+    return new TailSamplingPolicies.RateLimited(maxTracesPerSecond);
+  }
+
+  /**
+   * Returns whether the trace the {@code spans} belong to should be exported.
+   *
+   * @param spans the ended spans of the trace buffered by this process, never empty.
+   * @return {@code true} if the trace should be exported.
+   */
+  boolean shouldSample(List<SpanData> spans);
+}
@@ -0,0 +1,575 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrowableUtil;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SpanProcessor} that buffers ended spans per trace and only exports the traces chosen by
+ * its {@link TailSamplingPolicy policies}.
+ *
+ * <p>A trace is decided when its local root span ends, or when {@code decisionWait} has passed
+ * since its first span ended, whichever happens first. It is exported if any of the policies
+ * samples it. The decisions of the most recent {@code maxBufferedTraces} traces are remembered, so
+ * spans that end after their trace has been decided are exported or dropped along with it.
+ *
+ * <p>The buffer holds at most {@code maxBufferedTraces} traces and {@code maxBufferedSpans} spans.
+ * When either limit is reached, the oldest traces are dropped without being decided.
+ *
+ * <p>Only spans that are sampled by the head {@link io.opentelemetry.sdk.trace.samplers.Sampler}
+ * are buffered, so this processor is usually combined with {@link
+ * io.opentelemetry.sdk.trace.samplers.Sampler#alwaysOn()}.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+
+  private static final String WORKER_THREAD_NAME =
+      TailSamplingSpanProcessor.class.getSimpleName() + "_WorkerThread";
+  private static final AttributeKey<String> SPAN_PROCESSOR_TYPE_LABEL =
+      AttributeKey.stringKey("spanProcessorType");
+  private static final AttributeKey<Boolean> SPAN_PROCESSOR_SAMPLED_LABEL =
+      AttributeKey.booleanKey("sampled");
+  private static final String SPAN_PROCESSOR_TYPE_VALUE =
+      TailSamplingSpanProcessor.class.getSimpleName();
+  private static final int MAX_EXPORT_BATCH_SIZE = 512;
+
+  private final Worker worker;
+  private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+  /**
+   * Returns a new Builder for {@link TailSamplingSpanProcessor}.
+   *
+   * @param spanExporter the {@link SpanExporter} to which the sampled traces are pushed.
+   * @return a new {@link TailSamplingSpanProcessorBuilder}.
+   * @throws NullPointerException if the {@code spanExporter} is {@code null}.
+   */
+  public static TailSamplingSpanProcessorBuilder builder(SpanExporter spanExporter) {
+    return new TailSamplingSpanProcessorBuilder(spanExporter);
+  }
+
+  TailSamplingSpanProcessor(
+      SpanExporter spanExporter,
+      List<TailSamplingPolicy> policies,
+      MeterProvider meterProvider,
+      long decisionWaitNanos,
+      int maxBufferedTraces,
+      int maxBufferedSpans,
+      long exporterTimeoutNanos) {
+    this.worker =
+        new Worker(
+            spanExporter,
+            policies,
+            meterProvider,
+            decisionWaitNanos,
+            maxBufferedTraces,
+            maxBufferedSpans,
+            exporterTimeoutNanos);
+    Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
+    workerThread.start();
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    if (span == null || !span.getSpanContext().isSampled()) {
+      return;
+    }
+    worker.addSpan(span);
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  /**
+   * Decides all buffered traces, exports the sampled ones and shuts down the {@link SpanExporter}.
+   */
+  @Override
+  public CompletableResultCode shutdown() {
+    if (isShutdown.getAndSet(true)) {
+      return CompletableResultCode.ofSuccess();
+    }
+    return worker.shutdown();
+  }
+
+  /**
+   * Decides all buffered traces without waiting for their local root or decision wait, and exports
+   * the sampled ones.
+   */
+  @Override
+  public CompletableResultCode forceFlush() {
+    return worker.forceFlush();
+  }
+
+  // Visible for testing
+  int getBufferedTraces() {
+    return worker.bufferedTraces.get();
+  }
+
+  // Visible for testing
+  int getBufferedSpans() {
+    return worker.bufferedSpans.get();
+  }
+
+  // Visible for testing
+  int getQueuedTraces() {
+    return worker.traceOrder.size();
+  }
+
+  @Override
+  public String toString() {
+    return "TailSamplingSpanProcessor{"
+        + "spanExporter="
+        + worker.spanExporter
+        + ", policies="
+        + worker.policies
+        + ", decisionWaitNanos="
+        + worker.decisionWaitNanos
+        + ", maxBufferedTraces="
+        + worker.maxBufferedTraces
+        + ", maxBufferedSpans="
+        + worker.maxBufferedSpans
+        + ", exporterTimeoutNanos="
+        + worker.exporterTimeoutNanos
+        + '}';
+  }
+
+  private static boolean isLocalRoot(ReadableSpan span) {
+    SpanContext parentSpanContext = span.getParentSpanContext();
+    return !parentSpanContext.isValid() || parentSpanContext.isRemote();
+  }
+
+  // The spans of one trace that have ended so far.
+  private static final class TraceBuffer {
+    private final String traceId;
+    private final long deadlineNanos;
+    // Null once the trace has been decided or evicted.
+    @Nullable private List<SpanData> spans = new ArrayList<>();
+
+    private TraceBuffer(String traceId, long deadlineNanos) {
+      this.traceId = traceId;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    private synchronized boolean add(SpanData span, AtomicInteger bufferedSpans) {
+      List<SpanData> spans = this.spans;
+      if (spans == null) {
+        return false;
+      }
+      spans.add(span);
+      bufferedSpans.incrementAndGet();
+      return true;
+    }
+
+    @Nullable
+    private synchronized List<SpanData> take() {
+      List<SpanData> spans = this.spans;
+      this.spans = null;
+      return spans;
+    }
+
+    private synchronized boolean isTaken() {
+      return spans == null;
+    }
+  }
+
+  // The sampling decisions of the most recently decided traces, oldest first.
+  private static final class RecentDecisions {
+    private final int maxSize;
+    private final Map<String, Boolean> decisions = new LinkedHashMap<>();
+
+    private RecentDecisions(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    @Nullable
+    private synchronized Boolean get(String traceId) {
+      return decisions.get(traceId);
+    }
+
+    private synchronized void put(String traceId, boolean sampled) {
+      decisions.put(traceId, sampled);
+      if (decisions.size() > maxSize) {
+        Iterator<String> oldest = decisions.keySet().iterator();
+        oldest.next();
+        oldest.remove();
+      }
+    }
+  }
+
+  // Worker is a thread that decides buffered traces and calls the registered SpanExporter to export
+  // the sampled ones.
+  private static final class Worker implements Runnable {
+
+    private static final Logger logger = Logger.getLogger(Worker.class.getName());
+
+    private final LongCounter decidedTracesCounter;
+    private final LongCounter evictedTracesCounter;
+    private final Attributes sampledAttrs;
+    private final Attributes notSampledAttrs;
+    private final Attributes typeAttrs;
+
+    private final SpanExporter spanExporter;
+    private final List<TailSamplingPolicy> policies;
+    private final long decisionWaitNanos;
+    private final int maxBufferedTraces;
+    private final int maxBufferedSpans;
+    private final long exporterTimeoutNanos;
+
+    private final ConcurrentHashMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    // Buffered traces in the order they were created, which is also the order of their deadlines.
+    // Traces decided by their local root are swept out once there are more than maxBufferedTraces
+    // of them, so this holds at most twice as many traces as the buffer.
+    private final ConcurrentLinkedQueue<TraceBuffer> traceOrder = new ConcurrentLinkedQueue<>();
+    private int decidedInOrder;
+    private final RecentDecisions recentDecisions;
+    // Spans of sampled traces that ended after their trace was decided.
+    private final BlockingQueue<SpanData> lateSpans;
+    // Traces whose local root span has ended.
+    private final ConcurrentLinkedQueue<TraceBuffer> completedTraces =
+        new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedTraces = new AtomicInteger();
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+
+    private final BlockingQueue<Boolean> signal = new ArrayBlockingQueue<>(1);
+    private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
+    private volatile boolean continueWork = true;
+    private final ArrayList<SpanData> batch = new ArrayList<>();
+
+    private Worker(
+        SpanExporter spanExporter,
+        List<TailSamplingPolicy> policies,
+        MeterProvider meterProvider,
+        long decisionWaitNanos,
+        int maxBufferedTraces,
+        int maxBufferedSpans,
+        long exporterTimeoutNanos) {
+      this.spanExporter = spanExporter;
+      this.policies = policies;
+      this.decisionWaitNanos = decisionWaitNanos;
+      this.maxBufferedTraces = maxBufferedTraces;
+      this.maxBufferedSpans = maxBufferedSpans;
+      this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.recentDecisions = new RecentDecisions(maxBufferedTraces);
+      this.lateSpans = new LinkedBlockingQueue<>(maxBufferedSpans);
+
+      typeAttrs = Attributes.of(SPAN_PROCESSOR_TYPE_LABEL, SPAN_PROCESSOR_TYPE_VALUE);
+      sampledAttrs =
+          Attributes.of(
+              SPAN_PROCESSOR_TYPE_LABEL,
+              SPAN_PROCESSOR_TYPE_VALUE,
+              SPAN_PROCESSOR_SAMPLED_LABEL,
+              true);
+      notSampledAttrs =
+          Attributes.of(
+              SPAN_PROCESSOR_TYPE_LABEL,
+              SPAN_PROCESSOR_TYPE_VALUE,
+              SPAN_PROCESSOR_SAMPLED_LABEL,
+              false);
+
+      Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.trace").build();
+      meter
+          .gaugeBuilder("bufferedTraces")
+          .ofLongs()
+          .setDescription("The number of traces waiting for a sampling decision")
+          .setUnit("1")
+          .buildWithCallback(result -> result.record(bufferedTraces.get(), typeAttrs));
+      meter
+          .gaugeBuilder("bufferedSpans")
+          .ofLongs()
+          .setDescription("The number of spans waiting for a sampling decision")
+          .setUnit("1")
+          .buildWithCallback(result -> result.record(bufferedSpans.get(), typeAttrs));
+      decidedTracesCounter =
+          meter
+              .counterBuilder("decidedTraces")
+              .setUnit("1")
+              .setDescription(
+                  "The number of traces decided by the TailSamplingSpanProcessor. "
+                      + "[sampled=true if they were exported]")
+              .build();
+      evictedTracesCounter =
+          meter
+              .counterBuilder("evictedTraces")
+              .setUnit("1")
+              .setDescription(
+                  "The number of traces dropped without a decision because the "
+                      + "TailSamplingSpanProcessor buffer was full")
+              .build();
+    }
+
+    private void addSpan(ReadableSpan span) {
+      String traceId = span.getSpanContext().getTraceId();
+      SpanData spanData = span.toSpanData();
+      TraceBuffer buffer;
+      do {
+        buffer = traces.get(traceId);
+        if (buffer == null) {
+          Boolean sampled = recentDecisions.get(traceId);
+          if (sampled != null) {
+            if (sampled && lateSpans.offer(spanData)) {
+              signal.offer(true);
+            }
+            return;
+          }
+          evictWhileAbove(bufferedTraces, maxBufferedTraces - 1);
+          TraceBuffer created = new TraceBuffer(traceId, System.nanoTime() + decisionWaitNanos);
+          buffer = traces.putIfAbsent(traceId, created);
+          if (buffer == null) {
+            buffer = created;
+            bufferedTraces.incrementAndGet();
+            boolean wasEmpty = traceOrder.isEmpty();
+            traceOrder.offer(created);
+            if (wasEmpty) {
+              // The worker waits without a deadline while there are no traces.
+              signal.offer(true);
+            }
+          }
+        }
+        // Adding fails if the trace was decided since we looked it up, in which case the span
+        // follows the recorded decision.
+      } while (!buffer.add(spanData, bufferedSpans));
+
+      evictWhileAbove(bufferedSpans, maxBufferedSpans);
+
+      if (isLocalRoot(span)) {
+        completedTraces.offer(buffer);
+        signal.offer(true);
+      }
+    }
+
+    private void evictWhileAbove(AtomicInteger count, int limit) {
+      while (count.get() > limit) {
+        if (!evictOldest()) {
+          return;
+        }
+      }
+    }
+
+    private boolean evictOldest() {
+      TraceBuffer oldest;
+      while ((oldest = traceOrder.poll()) != null) {
+        List<SpanData> spans = oldest.take();
+        if (spans != null) {
+          remove(oldest, spans);
+          evictedTracesCounter.add(1, typeAttrs);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void remove(TraceBuffer buffer, List<SpanData> spans) {
+      traces.remove(buffer.traceId, buffer);
+      bufferedTraces.decrementAndGet();
+      bufferedSpans.addAndGet(-spans.size());
+    }
+
+    @Override
+    public void run() {
+      while (continueWork) {
+        if (flushRequested.get() != null) {
+          flush();
+        }
+        TraceBuffer completed;
+        while ((completed = completedTraces.poll()) != null) {
+          decide(completed);
+          decidedInOrder++;
+        }
+        if (decidedInOrder > maxBufferedTraces) {
+          sweepDecided();
+        }
+        long nextDeadline = decideExpired();
+        lateSpans.drainTo(batch);
+        exportCurrentBatch();
+        if (completedTraces.isEmpty()) {
+          try {
+            if (traceOrder.isEmpty()) {
+              signal.take();
+            } else {
+              long pollWaitTime = nextDeadline - System.nanoTime();
+              if (pollWaitTime > 0) {
+                signal.poll(pollWaitTime, TimeUnit.NANOSECONDS);
+              }
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+      }
+    }
+
+    private void sweepDecided() {
+      for (Iterator<TraceBuffer> it = traceOrder.iterator(); it.hasNext(); ) {
+        if (it.next().isTaken()) {
+          it.remove();
+        }
+      }
+      decidedInOrder = 0;
+    }
+
+    // Decides the traces whose deadline has passed and returns the next deadline.
+    private long decideExpired() {
+      long now = System.nanoTime();
+      for (Iterator<TraceBuffer> it = traceOrder.iterator(); it.hasNext(); ) {
+        TraceBuffer buffer = it.next();
+        if (buffer.deadlineNanos - now > 0) {
+          return buffer.deadlineNanos;
+        }
+        it.remove();
+        decide(buffer);
+      }
+      return now + decisionWaitNanos;
+    }
+
+    private void decide(TraceBuffer buffer) {
+      List<SpanData> spans = buffer.take();
+      if (spans == null) {
+        return;
+      }
+      if (spans.isEmpty()) {
+        remove(buffer, spans);
+        return;
+      }
+      boolean sampled = shouldSample(spans);
+      // Record the decision before the buffer is removed so that spans ending concurrently see it.
+      recentDecisions.put(buffer.traceId, sampled);
+      remove(buffer, spans);
+      decidedTracesCounter.add(1, sampled ? sampledAttrs : notSampledAttrs);
+      if (sampled) {
+        batch.addAll(spans);
+        if (batch.size() >= MAX_EXPORT_BATCH_SIZE) {
+          exportCurrentBatch();
+        }
+      }
+    }
+
+    private boolean shouldSample(List<SpanData> spans) {
+      List<SpanData> unmodifiableSpans = Collections.unmodifiableList(spans);
+      for (TailSamplingPolicy policy : policies) {
+        try {
+          if (policy.shouldSample(unmodifiableSpans)) {
+            return true;
+          }
+        } catch (Throwable t) {
+          ThrowableUtil.propagateIfFatal(t);
+          logger.log(Level.WARNING, "Tail sampling policy threw an Exception", t);
+        }
+      }
+      return false;
+    }
+
+    private void flush() {
+      TraceBuffer buffer;
+      while ((buffer = traceOrder.poll()) != null) {
+        decide(buffer);
+      }
+      completedTraces.clear();
+      decidedInOrder = 0;
+      lateSpans.drainTo(batch);
+      exportCurrentBatch();
+      CompletableResultCode flushResult = flushRequested.get();
+      if (flushResult != null) {
+        flushResult.succeed();
+        flushRequested.set(null);
+      }
+    }
+
+    private CompletableResultCode shutdown() {
+      CompletableResultCode result = new CompletableResultCode();
+
+      CompletableResultCode flushResult = forceFlush();
+      flushResult.whenComplete(
+          () -> {
+            continueWork = false;
+            signal.offer(true);
+            CompletableResultCode shutdownResult = spanExporter.shutdown();
+            shutdownResult.whenComplete(
+                () -> {
+                  if (!flushResult.isSuccess() || !shutdownResult.isSuccess()) {
+                    result.fail();
+                  } else {
+                    result.succeed();
+                  }
+                });
+          });
+
+      return result;
+    }
+
+    private CompletableResultCode forceFlush() {
+      CompletableResultCode flushResult = new CompletableResultCode();
+      // we set the atomic here to trigger the worker loop to do a flush of all buffered traces.
+      if (flushRequested.compareAndSet(null, flushResult)) {
+        signal.offer(true);
+      }
+      CompletableResultCode possibleResult = flushRequested.get();
+      // there's a race here where the flush happening in the worker loop could complete before we
+      // get what's in the atomic. In that case, just return success, since we know it succeeded in
+      // the interim.
+      return possibleResult == null ? CompletableResultCode.ofSuccess() : possibleResult;
+    }
+
+    private void exportCurrentBatch() {
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      try {
+        CompletableResultCode result = spanExporter.export(Collections.unmodifiableList(batch));
+        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
+        if (!result.isSuccess()) {
+          logger.log(Level.FINE, "Exporter failed");
+        }
+      } catch (Throwable t) {
+        ThrowableUtil.propagateIfFatal(t);
+        logger.log(Level.WARNING, "Exporter threw an Exception", t);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link TailSamplingSpanProcessor}. */
+public final class TailSamplingSpanProcessorBuilder {
+
+  // Visible for testing
+  static final long DEFAULT_DECISION_WAIT_MILLIS = 30_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_BUFFERED_TRACES = 10_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_BUFFERED_SPANS = 100_000;
+  // Visible for testing
+  static final int DEFAULT_EXPORT_TIMEOUT_MILLIS = 30_000;
+
+  private final SpanExporter spanExporter;
+  private final List<TailSamplingPolicy> policies = new ArrayList<>();
+  private long decisionWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECISION_WAIT_MILLIS);
+  private int maxBufferedTraces = DEFAULT_MAX_BUFFERED_TRACES;
+  private int maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+  private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
+  private MeterProvider meterProvider = MeterProvider.noop();
+
+  TailSamplingSpanProcessorBuilder(SpanExporter spanExporter) {
+    this.spanExporter = requireNonNull(spanExporter, "spanExporter");
+  }
+
+  /**
+   * Adds a {@link TailSamplingPolicy}. A trace is exported if any of the added policies samples
+   * it. If no policies are added, no traces are exported.
+   */
+  public TailSamplingSpanProcessorBuilder addPolicy(TailSamplingPolicy policy) {
+    requireNonNull(policy, "policy");
+    policies.add(policy);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time to wait for the local root span of a trace to end before deciding the
+   * trace with the spans ended so far. If unset, defaults to {@value
+   * DEFAULT_DECISION_WAIT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(long decisionWait, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(decisionWait > 0, "decisionWait must be positive");
+    decisionWaitNanos = unit.toNanos(decisionWait);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time to wait for the local root span of a trace to end before deciding the
+   * trace with the spans ended so far. If unset, defaults to {@value
+   * DEFAULT_DECISION_WAIT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(Duration decisionWait) {
+    requireNonNull(decisionWait, "decisionWait");
+    return setDecisionWait(decisionWait.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  long getDecisionWaitNanos() {
+    return decisionWaitNanos;
+  }
+
+  /**
+   * Sets the maximum number of traces waiting for a decision. When a new trace would exceed it,
+   * the oldest trace is dropped. If unset, defaults to {@value DEFAULT_MAX_BUFFERED_TRACES}.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxBufferedTraces(int maxBufferedTraces) {
+    checkArgument(maxBufferedTraces > 0, "maxBufferedTraces must be positive.");
+    this.maxBufferedTraces = maxBufferedTraces;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxBufferedTraces() {
+    return maxBufferedTraces;
+  }
+
+  /**
+   * Sets the maximum number of spans waiting for a decision, across all traces. When a new span
+   * would exceed it, the oldest traces are dropped. If unset, defaults to {@value
+   * DEFAULT_MAX_BUFFERED_SPANS}.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxBufferedSpans(int maxBufferedSpans) {
+    checkArgument(maxBufferedSpans > 0, "maxBufferedSpans must be positive.");
+    this.maxBufferedSpans = maxBufferedSpans;
+    return this;
+  }
+
+  // Visible for testing
+  int getMaxBufferedSpans() {
+    return maxBufferedSpans;
+  }
+
+  /**
+   * Sets the maximum time an export will be allowed to run before being cancelled. If unset,
+   * defaults to {@value DEFAULT_EXPORT_TIMEOUT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setExporterTimeout(long timeout, TimeUnit unit) {
+    requireNonNull(unit, "unit");
+    checkArgument(timeout >= 0, "timeout must be non-negative");
+    exporterTimeoutNanos = unit.toNanos(timeout);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time an export will be allowed to run before being cancelled. If unset,
+   * defaults to {@value DEFAULT_EXPORT_TIMEOUT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setExporterTimeout(Duration timeout) {
+    requireNonNull(timeout, "timeout");
+    return setExporterTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the {@link MeterProvider} to use to collect metrics related to buffering and sampling
+   * decisions. If not set, metrics will not be collected.
+   */
+  public TailSamplingSpanProcessorBuilder setMeterProvider(MeterProvider meterProvider) {
+    requireNonNull(meterProvider, "meterProvider");
+    this.meterProvider = meterProvider;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessor} that buffers spans per trace and forwards the
+   * sampled traces to the given {@code spanExporter}.
+   *
+   * @return a new {@link TailSamplingSpanProcessor}.
+   */
+  public TailSamplingSpanProcessor build() {
+    return new TailSamplingSpanProcessor(
+        spanExporter,
+        Collections.unmodifiableList(new ArrayList<>(policies)),
+        meterProvider,
+        decisionWaitNanos,
+        maxBufferedTraces,
+        maxBufferedSpans,
+        exporterTimeoutNanos);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TailSamplingPolicyTest {
+
+  private static final AttributeKey<String> KEY = AttributeKey.stringKey("key");
+
+  @Test
+  void errorPresent() {
+    TailSamplingPolicy policy = TailSamplingPolicy.errorPresent();
+
+    assertThat(policy.shouldSample(Arrays.asList(span(0, 10), span(0, 10)))).isFalse();
+    assertThat(
+            policy.shouldSample(
+                Arrays.asList(
+                    span(0, 10),
+                    spanBuilder(0, 10).setStatus(StatusData.create(StatusCode.ERROR, "")).build())))
+        .isTrue();
+  }
+
+  @Test
+  void latencyAbove() {
+    TailSamplingPolicy policy = TailSamplingPolicy.latencyAbove(Duration.ofNanos(100));
+
+    assertThat(policy.shouldSample(Arrays.asList(span(0, 60), span(40, 100)))).isFalse();
+    // Neither span is over the threshold, but together they cover more than it.
+    assertThat(policy.shouldSample(Arrays.asList(span(0, 60), span(50, 101)))).isTrue();
+  }
+
+  @Test
+  void attributeEquals() {
+    TailSamplingPolicy policy = TailSamplingPolicy.attributeEquals(KEY, "value");
+
+    assertThat(policy.shouldSample(Collections.singletonList(span(0, 10)))).isFalse();
+    assertThat(
+            policy.shouldSample(
+                Collections.singletonList(
+                    spanBuilder(0, 10).setAttributes(Attributes.of(KEY, "other")).build())))
+        .isFalse();
+    assertThat(
+            policy.shouldSample(
+                Arrays.asList(
+                    span(0, 10),
+                    spanBuilder(0, 10).setAttributes(Attributes.of(KEY, "value")).build())))
+        .isTrue();
+  }
+
+  @Test
+  void rateLimited() {
+    TailSamplingPolicy policy = TailSamplingPolicy.rateLimited(1);
+    List<SpanData> spans = Collections.singletonList(span(0, 10));
+
+    assertThat(policy.shouldSample(spans)).isTrue();
+    assertThat(policy.shouldSample(spans)).isFalse();
+  }
+
+  @Test
+  void rateLimited_invalid() {
+    assertThatThrownBy(() -> TailSamplingPolicy.rateLimited(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxTracesPerSecond must be positive");
+  }
+
+  private static SpanData span(long startEpochNanos, long endEpochNanos) {
+    return spanBuilder(startEpochNanos, endEpochNanos).build();
+  }
+
+  private static TestSpanData.Builder spanBuilder(long startEpochNanos, long endEpochNanos) {
+    return TestSpanData.builder()
+        .setHasEnded(true)
+        .setName("span")
+        .setKind(SpanKind.INTERNAL)
+        .setStatus(StatusData.unset())
+        .setStartEpochNanos(startEpochNanos)
+        .setEndEpochNanos(endEpochNanos);
+  }
+}
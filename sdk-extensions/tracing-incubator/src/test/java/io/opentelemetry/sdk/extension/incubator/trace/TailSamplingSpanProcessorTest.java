@@ -0,0 +1,275 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TailSamplingSpanProcessorTest {
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+  private SdkTracerProvider tracerProvider;
+
+  @AfterEach
+  void tearDown() {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void builderDefaults() {
+    TailSamplingSpanProcessorBuilder builder = TailSamplingSpanProcessor.builder(exporter);
+    assertThat(builder.getDecisionWaitNanos())
+        .isEqualTo(
+            TimeUnit.MILLISECONDS.toNanos(
+                TailSamplingSpanProcessorBuilder.DEFAULT_DECISION_WAIT_MILLIS));
+    assertThat(builder.getMaxBufferedTraces())
+        .isEqualTo(TailSamplingSpanProcessorBuilder.DEFAULT_MAX_BUFFERED_TRACES);
+    assertThat(builder.getMaxBufferedSpans())
+        .isEqualTo(TailSamplingSpanProcessorBuilder.DEFAULT_MAX_BUFFERED_SPANS);
+  }
+
+  @Test
+  void builderInvalidConfig() {
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(exporter).setMaxBufferedTraces(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBufferedTraces must be positive.");
+    assertThatThrownBy(() -> TailSamplingSpanProcessor.builder(exporter).setMaxBufferedSpans(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBufferedSpans must be positive.");
+    assertThatThrownBy(
+            () -> TailSamplingSpanProcessor.builder(exporter).setDecisionWait(-1, TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("decisionWait must be positive");
+    assertThatThrownBy(
+            () -> TailSamplingSpanProcessor.builder(exporter).setDecisionWait(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("decisionWait must be positive");
+  }
+
+  @Test
+  void exportsTraceWhenLocalRootEnds() {
+    Tracer tracer =
+        tracer(
+            TailSamplingSpanProcessor.builder(exporter)
+                .addPolicy(TailSamplingPolicy.errorPresent())
+                .build());
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    Span child = tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan();
+    child.setStatus(StatusCode.ERROR);
+    child.end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    root.end();
+
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(exporter.getFinishedSpanItems())
+                    .extracting(SpanData::getName)
+                    .containsExactlyInAnyOrder("root", "child"));
+  }
+
+  @Test
+  void dropsTraceNotSampledByPolicies() {
+    TailSamplingSpanProcessor processor =
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(TailSamplingPolicy.errorPresent())
+            .build();
+    Tracer tracer = tracer(processor);
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan().end();
+    root.end();
+
+    await().untilAsserted(() -> assertThat(processor.getBufferedTraces()).isZero());
+    processor.forceFlush().join(10, TimeUnit.SECONDS);
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    assertThat(processor.getBufferedSpans()).isZero();
+  }
+
+  @Test
+  void decidesTraceAfterDecisionWait() {
+    Tracer tracer =
+        tracer(
+            TailSamplingSpanProcessor.builder(exporter)
+                .addPolicy(TailSamplingPolicy.errorPresent())
+                .setDecisionWait(Duration.ofMillis(100))
+                .build());
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    Span child = tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan();
+    child.setStatus(StatusCode.ERROR);
+    child.end();
+
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(exporter.getFinishedSpanItems())
+                    .extracting(SpanData::getName)
+                    .containsExactly("child"));
+  }
+
+  @Test
+  void evictsOldestTraceWhenFull() {
+    TailSamplingSpanProcessor processor =
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(spans -> true)
+            .setMaxBufferedTraces(1)
+            .build();
+    Tracer tracer = tracer(processor);
+
+    Span root1 = tracer.spanBuilder("root1").startSpan();
+    tracer.spanBuilder("child1").setParent(Context.current().with(root1)).startSpan().end();
+    Span root2 = tracer.spanBuilder("root2").startSpan();
+    tracer.spanBuilder("child2").setParent(Context.current().with(root2)).startSpan().end();
+
+    assertThat(processor.getBufferedTraces()).isEqualTo(1);
+    assertThat(processor.getBufferedSpans()).isEqualTo(1);
+
+    processor.forceFlush().join(10, TimeUnit.SECONDS);
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("child2");
+  }
+
+  @Test
+  void evictsOldestTraceWhenSpanLimitReached() {
+    TailSamplingSpanProcessor processor =
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(spans -> true)
+            .setMaxBufferedSpans(2)
+            .build();
+    Tracer tracer = tracer(processor);
+
+    Span root1 = tracer.spanBuilder("root1").startSpan();
+    tracer.spanBuilder("child1").setParent(Context.current().with(root1)).startSpan().end();
+    tracer.spanBuilder("child2").setParent(Context.current().with(root1)).startSpan().end();
+    Span root2 = tracer.spanBuilder("root2").startSpan();
+    tracer.spanBuilder("child3").setParent(Context.current().with(root2)).startSpan().end();
+
+    assertThat(processor.getBufferedTraces()).isEqualTo(1);
+    assertThat(processor.getBufferedSpans()).isEqualTo(1);
+  }
+
+  @Test
+  void lateSpanFollowsDecision() {
+    TailSamplingSpanProcessor processor =
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(spans -> spans.stream().anyMatch(span -> span.getName().startsWith("kept")))
+            .build();
+    Tracer tracer = tracer(processor);
+
+    Span kept = tracer.spanBuilder("kept").startSpan();
+    Span keptChild =
+        tracer.spanBuilder("child1").setParent(Context.current().with(kept)).startSpan();
+    Span dropped = tracer.spanBuilder("dropped").startSpan();
+    Span droppedChild =
+        tracer.spanBuilder("child2").setParent(Context.current().with(dropped)).startSpan();
+    kept.end();
+    dropped.end();
+    await().untilAsserted(() -> assertThat(processor.getBufferedTraces()).isZero());
+
+    keptChild.end();
+    droppedChild.end();
+
+    assertThat(processor.getBufferedTraces()).isZero();
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(exporter.getFinishedSpanItems())
+                    .extracting(SpanData::getName)
+                    .containsExactlyInAnyOrder("kept", "child1"));
+  }
+
+  @Test
+  void decidedTracesDoNotAccumulate() {
+    TailSamplingSpanProcessor processor =
+        TailSamplingSpanProcessor.builder(exporter)
+            .addPolicy(spans -> false)
+            .setMaxBufferedTraces(10)
+            .build();
+    Tracer tracer = tracer(processor);
+
+    for (int i = 0; i < 100; i++) {
+      tracer.spanBuilder("root").startSpan().end();
+    }
+
+    await()
+        .untilAsserted(() -> assertThat(processor.getQueuedTraces()).isLessThanOrEqualTo(10));
+  }
+
+  @Test
+  void workerIdleWithoutTraces() {
+    Set<Thread> threadsBefore = Thread.getAllStackTraces().keySet();
+    Tracer tracer =
+        tracer(
+            TailSamplingSpanProcessor.builder(exporter)
+                .addPolicy(spans -> true)
+                .setDecisionWait(Duration.ofNanos(1))
+                .build());
+    Thread worker =
+        Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> !threadsBefore.contains(thread))
+            .filter(thread -> thread.getName().startsWith("TailSamplingSpanProcessor_WorkerThread"))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan().end();
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(exporter.getFinishedSpanItems())
+                    .extracting(SpanData::getName)
+                    .containsExactly("child"));
+
+    // Without buffered traces, the worker waits for a span to end instead of polling.
+    await().untilAsserted(() -> assertThat(worker.getState()).isEqualTo(Thread.State.WAITING));
+  }
+
+  @Test
+  void policyThrows() {
+    Tracer tracer =
+        tracer(
+            TailSamplingSpanProcessor.builder(exporter)
+                .addPolicy(
+                    spans -> {
+                      throw new IllegalStateException("policy failed");
+                    })
+                .addPolicy(spans -> true)
+                .build());
+
+    tracer.spanBuilder("root").startSpan().end();
+
+    await()
+        .untilAsserted(
+            () ->
+                assertThat(exporter.getFinishedSpanItems())
+                    .extracting(SpanData::getName)
+                    .containsExactly("root"));
+  }
+
+  private Tracer tracer(TailSamplingSpanProcessor processor) {
+    tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+    return tracerProvider.get("test");
+  }
+}
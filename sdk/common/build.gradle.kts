@@ -3,6 +3,7 @@ plugins {
   id("otel.publish-conventions")
 
   id("otel.animalsniffer-conventions")
+  id("otel.jmh-conventions")
 }
 
 description = "OpenTelemetry SDK Common"
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ClockBenchmark {
+
+  @Param({"system", "coarse"})
+  private String clockType;
+
+  private Clock clock;
+
+  @Setup
+  public void setup() {
+    clock =
+        clockType.equals("coarse") ? CoarseClock.create(Duration.ofMillis(1)) : Clock.getDefault();
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (clock instanceof CoarseClock) {
+      ((CoarseClock) clock).close();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long now_1Thread() {
+    return clock.now();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long now_4Threads() {
+    return clock.now();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public long nanoTime_1Thread() {
+    return clock.nanoTime();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common;
+
+import io.opentelemetry.api.internal.Utils;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link Clock} that returns timestamps cached by a background thread, which refreshes them from
+ * the {@linkplain Clock#getDefault() system clock} at a fixed precision.
+ *
+ * <p>Reading the time then only reads a volatile field, which helps applications that record many
+ * spans, logs or measurements on hosts where reading the system time is expensive, for example some
+ * virtualized environments. In exchange, both {@link #now()} and {@link #nanoTime()} only advance
+ * once per precision interval, so timestamps and durations shorter than the precision are not
+ * measured accurately.
+ *
+ * <p>A {@link CoarseClock} can be configured with {@code SdkTracerProviderBuilder#setClock}, {@code
+ * SdkMeterProviderBuilder#setClock} or {@code SdkLogEmitterProviderBuilder#setClock}. It should be
+ * {@linkplain #close() closed} once it is not used anymore to stop its background thread.
+ */
+@ThreadSafe
+public final class CoarseClock implements Clock, Closeable {
+
+  private static final Duration MIN_PRECISION = Duration.ofMillis(1);
+
+  private final Clock delegate;
+  private final long precisionNanos;
+  private final ScheduledExecutorService executor;
+
+  private volatile long now;
+  private volatile long nanoTime;
+
+  /**
+   * Returns a new {@link CoarseClock} that refreshes its time every {@code precision}.
+   *
+   * @param precision the interval between refreshes of the time. Must be at least 1 millisecond,
+   *     as refreshing more often would keep the background thread busy.
+   * @return a new {@link CoarseClock}.
+   * @throws IllegalArgumentException if {@code precision} is less than 1 millisecond.
+   */
+  public static CoarseClock create(Duration precision) {
+    Utils.checkArgument(
+        precision.compareTo(MIN_PRECISION) >= 0, "precision must be at least 1 millisecond");
+    return new CoarseClock(Clock.getDefault(), precision.toNanos());
+  }
+
+  // Visible for testing
+  CoarseClock(Clock delegate, long precisionNanos) {
+    this.delegate = delegate;
+    this.precisionNanos = precisionNanos;
+    update();
+    executor =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("otel-coarse-clock"));
+    executor.scheduleAtFixedRate(
+        this::update, precisionNanos, precisionNanos, TimeUnit.NANOSECONDS);
+  }
+
+  // Visible for testing
+  void update() {
+    nanoTime = delegate.nanoTime();
+    now = delegate.now();
+  }
+
+  @Override
+  public long now() {
+    return now;
+  }
+
+  @Override
+  public long nanoTime() {
+    return nanoTime;
+  }
+
+  /** Stops the background thread refreshing the time. The time does not advance afterwards. */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  @Override
+  public String toString() {
+    return "CoarseClock{precisionNanos=" + precisionNanos + "}";
+  }
+}
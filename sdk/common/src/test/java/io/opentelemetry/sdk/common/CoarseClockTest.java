@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+  @Test
+  void invalidPrecision() {
+    assertThatThrownBy(() -> CoarseClock.create(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("precision must be at least 1 millisecond");
+    assertThatThrownBy(() -> CoarseClock.create(Duration.ofMillis(-1)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CoarseClock.create(Duration.ofNanos(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("precision must be at least 1 millisecond");
+    assertThatThrownBy(() -> CoarseClock.create(Duration.ofNanos(999_999)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void cachesTimeUntilUpdated() {
+    TestClock testClock = TestClock.create();
+    try (CoarseClock clock = new CoarseClock(testClock, TimeUnit.HOURS.toNanos(1))) {
+      long now = testClock.now();
+      long nanoTime = testClock.nanoTime();
+      assertThat(clock.now()).isEqualTo(now);
+      assertThat(clock.nanoTime()).isEqualTo(nanoTime);
+
+      testClock.advance(Duration.ofMillis(5));
+      assertThat(clock.now()).isEqualTo(now);
+      assertThat(clock.nanoTime()).isEqualTo(nanoTime);
+
+      clock.update();
+      assertThat(clock.now()).isEqualTo(now + TimeUnit.MILLISECONDS.toNanos(5));
+      assertThat(clock.nanoTime()).isEqualTo(nanoTime + TimeUnit.MILLISECONDS.toNanos(5));
+    }
+  }
+
+  @Test
+  void refreshesInBackground() {
+    try (CoarseClock clock = CoarseClock.create(Duration.ofMillis(1))) {
+      long start = clock.nanoTime();
+      await().untilAsserted(() -> assertThat(clock.nanoTime()).isGreaterThan(start));
+    }
+  }
+
+  @Test
+  void stringRepresentation() {
+    try (CoarseClock clock = CoarseClock.create(Duration.ofMillis(1))) {
+      assertThat(clock.toString()).isEqualTo("CoarseClock{precisionNanos=1000000}");
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.logs.LogProcessor;
 import io.opentelemetry.sdk.logs.data.LogData;
 import java.util.ArrayList;
@@ -23,8 +24,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link LogProcessor} that batches logs exported by the SDK then pushes them
@@ -65,6 +68,8 @@ public final class BatchLogProcessor implements LogProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
+      long maxExportBatchSizeBytes,
+      @Nullable ToLongFunction<LogData> logSizer,
       long exporterTimeoutNanos) {
     this.worker =
         new Worker(
@@ -72,6 +77,8 @@ public final class BatchLogProcessor implements LogProcessor {
             meterProvider,
             scheduleDelayNanos,
             maxExportBatchSize,
+            maxExportBatchSizeBytes,
+            logSizer,
             exporterTimeoutNanos,
             new ArrayBlockingQueue<>(maxQueueSize)); // TODO: use JcTools.newFixedSizeQueue(..)
     Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
@@ -109,6 +116,7 @@ public final class BatchLogProcessor implements LogProcessor {
   private static final class Worker implements Runnable {
 
     private static final Logger logger = Logger.getLogger(Worker.class.getName());
+    private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
 
     private final LongCounter processedLogsCounter;
     private final Attributes droppedAttrs;
@@ -117,6 +125,8 @@ public final class BatchLogProcessor implements LogProcessor {
     private final LogExporter logExporter;
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
+    private final long maxExportBatchSizeBytes;
+    @Nullable private final ToLongFunction<LogData> logSizer;
     private final long exporterTimeoutNanos;
 
     private long nextExportTime;
@@ -133,17 +143,23 @@ public final class BatchLogProcessor implements LogProcessor {
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
     private final ArrayList<LogData> batch;
+    // The size in bytes of the logs of the batch, only tracked with a logSizer.
+    private long batchSizeBytes;
 
     private Worker(
         LogExporter logExporter,
         MeterProvider meterProvider,
         long scheduleDelayNanos,
         int maxExportBatchSize,
+        long maxExportBatchSizeBytes,
+        @Nullable ToLongFunction<LogData> logSizer,
         long exporterTimeoutNanos,
         Queue<LogData> queue) {
       this.logExporter = logExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
+      this.maxExportBatchSizeBytes = maxExportBatchSizeBytes;
+      this.logSizer = logSizer;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
       this.queue = queue;
       this.signal = new ArrayBlockingQueue<>(1);
@@ -200,10 +216,10 @@ public final class BatchLogProcessor implements LogProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        while (!queue.isEmpty() && batch.size() < maxExportBatchSize) {
-          batch.add(queue.poll());
+        while (!queue.isEmpty() && !isBatchFull()) {
+          addToBatch(queue.poll());
         }
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        if (isBatchFull() || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
           updateNextExportTime();
         }
@@ -228,9 +244,9 @@ public final class BatchLogProcessor implements LogProcessor {
       while (logsToFlush > 0) {
         LogData logData = queue.poll();
         assert logData != null;
-        batch.add(logData);
+        addToBatch(logData);
         logsToFlush--;
-        if (batch.size() >= maxExportBatchSize) {
+        if (isBatchFull()) {
           exportCurrentBatch();
         }
       }
@@ -242,6 +258,22 @@ public final class BatchLogProcessor implements LogProcessor {
       }
     }
 
+    private void addToBatch(LogData logData) {
+      batch.add(logData);
+      if (logSizer != null) {
+        try {
+          batchSizeBytes += logSizer.applyAsLong(logData);
+        } catch (RuntimeException e) {
+          // Counts the log as empty rather than stopping the worker.
+          throttlingLogger.log(Level.WARNING, "Log sizer threw an Exception", e);
+        }
+      }
+    }
+
+    private boolean isBatchFull() {
+      return batch.size() >= maxExportBatchSize || batchSizeBytes >= maxExportBatchSizeBytes;
+    }
+
     private void updateNextExportTime() {
       nextExportTime = System.nanoTime() + scheduleDelayNanos;
     }
@@ -297,6 +329,7 @@ public final class BatchLogProcessor implements LogProcessor {
         logger.log(Level.WARNING, "Exporter threw an Exception", e);
       } finally {
         batch.clear();
+        batchSizeBytes = 0;
       }
     }
   }
@@ -9,8 +9,11 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.logs.data.LogData;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
 
 /** Builder class for {@link BatchLogProcessor}. */
 public final class BatchLogProcessorBuilder {
@@ -28,6 +31,8 @@ public final class BatchLogProcessorBuilder {
   private long scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SCHEDULE_DELAY_MILLIS);
   private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
+  private long maxExportBatchSizeBytes = Long.MAX_VALUE;
+  @Nullable private ToLongFunction<LogData> logSizer;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
   private MeterProvider meterProvider = MeterProvider.noop();
 
@@ -122,6 +127,28 @@ public final class BatchLogProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum size in bytes of the logs of every export, as returned by {@code logSizer}. A
+   * batch is exported as soon as the size of its logs reaches {@code maxExportBatchSizeBytes},
+   * even if it has fewer than {@code maxExportBatchSize} logs, so that batches of large logs stay
+   * bounded in size. The size of logs is usually their size in the requests of the exporter, the
+   * OTLP exporters provide a function returning it.
+   *
+   * <p>By default, batches are only limited in number of logs.
+   *
+   * @param maxExportBatchSizeBytes the maximum size in bytes of the logs of every export.
+   * @param logSizer returns the size in bytes of a log.
+   * @return this.
+   */
+  public BatchLogProcessorBuilder setMaxExportBatchSizeBytes(
+      long maxExportBatchSizeBytes, ToLongFunction<LogData> logSizer) {
+    requireNonNull(logSizer, "logSizer");
+    checkArgument(maxExportBatchSizeBytes > 0, "maxExportBatchSizeBytes must be positive.");
+    this.maxExportBatchSizeBytes = maxExportBatchSizeBytes;
+    this.logSizer = logSizer;
+    return this;
+  }
+
   /**
    * Sets the {@link MeterProvider} to use to collect metrics related to batch export. If not set,
    * metrics will not be collected.
@@ -150,6 +177,8 @@ public final class BatchLogProcessorBuilder {
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
+        maxExportBatchSizeBytes,
+        logSizer,
         exporterTimeoutNanos);
   }
 }
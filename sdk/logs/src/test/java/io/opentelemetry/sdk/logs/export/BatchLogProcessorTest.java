@@ -9,6 +9,7 @@ import static io.opentelemetry.sdk.testing.assertj.LogAssertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
@@ -24,6 +25,7 @@ import io.opentelemetry.sdk.testing.assertj.LogAssertions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -104,6 +106,16 @@ class BatchLogProcessorTest {
     assertThatThrownBy(() -> BatchLogProcessor.builder(mockLogExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(
+            () ->
+                BatchLogProcessor.builder(mockLogExporter)
+                    .setMaxExportBatchSizeBytes(0, log -> 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxExportBatchSizeBytes must be positive.");
+    assertThatThrownBy(
+            () -> BatchLogProcessor.builder(mockLogExporter).setMaxExportBatchSizeBytes(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("logSizer");
   }
 
   @Test
@@ -193,6 +205,64 @@ class BatchLogProcessorTest {
     assertThat(exported.size()).isEqualTo(2);
   }
 
+  @Test
+  void emitBatchesLimitedInBytes() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    when(mockLogExporter.export(any()))
+        .thenAnswer(
+            invocation -> {
+              Collection<LogData> logs = invocation.getArgument(0);
+              batchSizes.add(logs.size());
+              return CompletableResultCode.ofSuccess();
+            });
+    BatchLogProcessor batchLogProcessor =
+        BatchLogProcessor.builder(mockLogExporter)
+            .setMaxExportBatchSize(100)
+            .setMaxExportBatchSizeBytes(300, log -> 100)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+
+    SdkLogEmitterProvider sdkLogEmitterProvider =
+        SdkLogEmitterProvider.builder().addLogProcessor(batchLogProcessor).build();
+    for (int i = 0; i < 10; i++) {
+      emitLog(sdkLogEmitterProvider, LOG_MESSAGE_1);
+    }
+    batchLogProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(batchSizes).containsExactly(3, 3, 3, 1);
+  }
+
+  @Test
+  void exportBatchesWhenLogSizerThrows() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    when(mockLogExporter.export(any()))
+        .thenAnswer(
+            invocation -> {
+              Collection<LogData> logs = invocation.getArgument(0);
+              batchSizes.add(logs.size());
+              return CompletableResultCode.ofSuccess();
+            });
+    BatchLogProcessor batchLogProcessor =
+        BatchLogProcessor.builder(mockLogExporter)
+            .setMaxExportBatchSize(100)
+            .setMaxExportBatchSizeBytes(
+                300,
+                log -> {
+                  throw new IllegalStateException("sizer");
+                })
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+
+    SdkLogEmitterProvider sdkLogEmitterProvider =
+        SdkLogEmitterProvider.builder().addLogProcessor(batchLogProcessor).build();
+    for (int i = 0; i < 10; i++) {
+      emitLog(sdkLogEmitterProvider, LOG_MESSAGE_1);
+    }
+    batchLogProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(batchSizes).containsExactly(10);
+  }
+
   @Test
   void emitLogsToMultipleExporters() {
     WaitingLogExporter waitingLogExporter1 =
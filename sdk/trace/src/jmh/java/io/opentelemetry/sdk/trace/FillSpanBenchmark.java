@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -39,4 +40,17 @@ public class FillSpanBenchmark {
         .setAttribute(KEY3, "value3")
         .setAttribute(KEY4, "value4");
   }
+
+  @Benchmark
+  public void setFourAttributesIfRecording() {
+    // Instrumentation commonly checks isRecording() before computing attributes.
+    Span span = spanBuilder.startSpan();
+    if (span.isRecording()) {
+      span.setAttribute(KEY1, "value1")
+          .setAttribute(KEY2, "value2")
+          .setAttribute(KEY3, "value3")
+          .setAttribute(KEY4, "value4");
+    }
+    span.end();
+  }
 }
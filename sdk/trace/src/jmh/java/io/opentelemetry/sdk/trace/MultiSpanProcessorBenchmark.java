@@ -0,0 +1,112 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures starting and ending a span with a varying number of span processors. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Threads(value = 1)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MultiSpanProcessorBenchmark {
+
+  @Param({"1", "2", "3", "5"})
+  private int processorCount;
+
+  private Tracer tracer;
+
+  @Setup(Level.Trial)
+  public final void setup() {
+    SdkTracerProviderBuilder builder = SdkTracerProvider.builder().setSampler(Sampler.alwaysOn());
+    for (int i = 0; i < processorCount; i++) {
+      // Alternate between processor types so the processors are not all the same class.
+      builder.addSpanProcessor(i % 2 == 0 ? new StartEndProcessor() : new EndOnlyProcessor());
+    }
+    tracer = builder.build().get("benchmarkTracer");
+  }
+
+  @Benchmark
+  public void startAndEnd() {
+    tracer.spanBuilder("span").startSpan().end();
+  }
+
+  private static final class StartEndProcessor implements SpanProcessor {
+    private long started;
+    private long ended;
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+      started++;
+    }
+
+    @Override
+    public boolean isStartRequired() {
+      return true;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+      ended++;
+    }
+
+    @Override
+    public boolean isEndRequired() {
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return "StartEndProcessor{started=" + started + ", ended=" + ended + '}';
+    }
+  }
+
+  private static final class EndOnlyProcessor implements SpanProcessor {
+    private long ended;
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+      return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+      ended++;
+    }
+
+    @Override
+    public boolean isEndRequired() {
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return "EndOnlyProcessor{ended=" + ended + '}';
+    }
+  }
+}
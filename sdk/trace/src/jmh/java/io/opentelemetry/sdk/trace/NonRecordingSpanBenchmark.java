@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures starting spans with builder attributes that the sampler drops. */
+@State(Scope.Benchmark)
+@Threads(value = 1)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NonRecordingSpanBenchmark {
+
+  private static final AttributeKey<String> KEY1 = AttributeKey.stringKey("key1");
+  private static final AttributeKey<String> KEY2 = AttributeKey.stringKey("key2");
+  private static final AttributeKey<String> KEY3 = AttributeKey.stringKey("key3");
+  private static final AttributeKey<String> KEY4 = AttributeKey.stringKey("key4");
+
+  private Tracer tracer;
+
+  @Setup(Level.Trial)
+  public final void setup() {
+    tracer =
+        SdkTracerProvider.builder()
+            .setSampler(Sampler.traceIdRatioBased(0.0))
+            .build()
+            .get("benchmarkTracer");
+  }
+
+  @Benchmark
+  public void startDroppedSpanWithFourAttributes() {
+    Span span =
+        tracer
+            .spanBuilder("benchmark")
+            .setAttribute(KEY1, "value1")
+            .setAttribute(KEY2, "value2")
+            .setAttribute(KEY3, "value3")
+            .setAttribute(KEY4, "value4")
+            .startSpan();
+    span.end();
+  }
+}
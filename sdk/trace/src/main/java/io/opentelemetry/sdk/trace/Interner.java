@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Deduplicates equal immutable values, such as the {@link io.opentelemetry.api.common.Attributes}
+ * of span links, so that spans recording the same values share a single instance of them instead of
+ * each retaining its own copy.
+ *
+ * <p>The number of interned values is bounded, the interner is cleared when it is full. Values must
+ * be immutable and implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ */
+@ThreadSafe
+final class Interner {
+
+  static final int DEFAULT_MAX_SIZE = 1024;
+
+  private final ConcurrentMap<Object, Object> values = new ConcurrentHashMap<>();
+  private final int maxSize;
+
+  Interner() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  // Visible for testing
+  Interner(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the interned instance equal to {@code value}, interning {@code value} if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  <T> T intern(T value) {
+    Object interned = values.get(value);
+    if (interned != null) {
+      return (T) interned;
+    }
+    if (values.size() >= maxSize) {
+      // Rather than tracking usage to evict the least useful values, start over. Values that are
+      // recorded frequently are interned again right away.
+      values.clear();
+    }
+    interned = values.putIfAbsent(value, value);
+    return interned == null ? value : (T) interned;
+  }
+
+  // Visible for testing
+  int size() {
+    return values.size();
+  }
+}
@@ -15,11 +15,17 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * Implementation of the {@code SpanProcessor} that simply forwards all received events to a list of
  * {@code SpanProcessor}s.
+ *
+ * <p>Events are forwarded through listeners specialized for the common numbers of processors, so
+ * each processor is called from its own call site instead of from one loop shared by all of them.
+ * This keeps the call sites monomorphic and lets the JIT inline the processors.
  */
 final class MultiSpanProcessor implements SpanProcessor {
   private final List<SpanProcessor> spanProcessorsStart;
   private final List<SpanProcessor> spanProcessorsEnd;
   private final List<SpanProcessor> spanProcessorsAll;
+  private final SpanStartListener startListener;
+  private final SpanEndListener endListener;
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
 
   /**
@@ -36,9 +42,7 @@ final class MultiSpanProcessor implements SpanProcessor {
 
   @Override
   public void onStart(Context parentContext, ReadWriteSpan readableSpan) {
-    for (SpanProcessor spanProcessor : spanProcessorsStart) {
-      spanProcessor.onStart(parentContext, readableSpan);
-    }
+    startListener.onStart(parentContext, readableSpan);
   }
 
   @Override
@@ -48,9 +52,7 @@ final class MultiSpanProcessor implements SpanProcessor {
 
   @Override
   public void onEnd(ReadableSpan readableSpan) {
-    for (SpanProcessor spanProcessor : spanProcessorsEnd) {
-      spanProcessor.onEnd(readableSpan);
-    }
+    endListener.onEnd(readableSpan);
   }
 
   @Override
@@ -91,6 +93,94 @@ final class MultiSpanProcessor implements SpanProcessor {
         spanProcessorsEnd.add(spanProcessor);
       }
     }
+    this.startListener = startListener(spanProcessorsStart);
+    this.endListener = endListener(spanProcessorsEnd);
+  }
+
+  private static SpanStartListener startListener(List<SpanProcessor> spanProcessors) {
+    switch (spanProcessors.size()) {
+      case 0:
+        return (parentContext, span) -> {};
+      case 1:
+        return spanProcessors.get(0)::onStart;
+      case 2:
+        {
+          SpanProcessor first = spanProcessors.get(0);
+          SpanProcessor second = spanProcessors.get(1);
+          return (parentContext, span) -> {
+            first.onStart(parentContext, span);
+            second.onStart(parentContext, span);
+          };
+        }
+      case 3:
+        {
+          SpanProcessor first = spanProcessors.get(0);
+          SpanProcessor second = spanProcessors.get(1);
+          SpanProcessor third = spanProcessors.get(2);
+          return (parentContext, span) -> {
+            first.onStart(parentContext, span);
+            second.onStart(parentContext, span);
+            third.onStart(parentContext, span);
+          };
+        }
+      default:
+        {
+          SpanProcessor[] array = spanProcessors.toArray(new SpanProcessor[0]);
+          return (parentContext, span) -> {
+            for (SpanProcessor spanProcessor : array) {
+              spanProcessor.onStart(parentContext, span);
+            }
+          };
+        }
+    }
+  }
+
+  private static SpanEndListener endListener(List<SpanProcessor> spanProcessors) {
+    switch (spanProcessors.size()) {
+      case 0:
+        return span -> {};
+      case 1:
+        return spanProcessors.get(0)::onEnd;
+      case 2:
+        {
+          SpanProcessor first = spanProcessors.get(0);
+          SpanProcessor second = spanProcessors.get(1);
+          return span -> {
+            first.onEnd(span);
+            second.onEnd(span);
+          };
+        }
+      case 3:
+        {
+          SpanProcessor first = spanProcessors.get(0);
+          SpanProcessor second = spanProcessors.get(1);
+          SpanProcessor third = spanProcessors.get(2);
+          return span -> {
+            first.onEnd(span);
+            second.onEnd(span);
+            third.onEnd(span);
+          };
+        }
+      default:
+        {
+          SpanProcessor[] array = spanProcessors.toArray(new SpanProcessor[0]);
+          return span -> {
+            for (SpanProcessor spanProcessor : array) {
+              spanProcessor.onEnd(span);
+            }
+          };
+        }
+    }
+  }
+
+  @FunctionalInterface
+  private interface SpanStartListener {
+    void onStart(Context parentContext, ReadWriteSpan span);
+  }
+
+  @FunctionalInterface
+  private interface SpanEndListener {
+    void onEnd(ReadableSpan span);
   }
 
   @Override
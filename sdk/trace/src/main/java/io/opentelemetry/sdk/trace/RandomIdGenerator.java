@@ -19,23 +19,36 @@ enum RandomIdGenerator implements IdGenerator {
 
   @Override
   public String generateSpanId() {
-    long id;
-    Random random = randomSupplier.get();
-    do {
-      id = random.nextLong();
-    } while (id == INVALID_ID);
-    return SpanId.fromLong(id);
+    return SpanId.fromLong(generateSpanIdLong());
   }
 
   @Override
   public String generateTraceId() {
+    return TraceId.fromLongs(generateTraceIdHigh(), generateTraceIdLow());
+  }
+
+  // The methods below generate IDs in binary form, allowing the SDK to defer hex encoding until an
+  // ID is actually needed.
+
+  long generateSpanIdLong() {
+    return nextValidLong();
+  }
+
+  long generateTraceIdHigh() {
+    return randomSupplier.get().nextLong();
+  }
+
+  long generateTraceIdLow() {
+    return nextValidLong();
+  }
+
+  private static long nextValidLong() {
+    long id;
     Random random = randomSupplier.get();
-    long idHi = random.nextLong();
-    long idLo;
     do {
-      idLo = random.nextLong();
-    } while (idLo == INVALID_ID);
-    return TraceId.fromLongs(idHi, idLo);
+      id = random.nextLong();
+    } while (id == INVALID_ID);
+    return id;
   }
 
   @Override
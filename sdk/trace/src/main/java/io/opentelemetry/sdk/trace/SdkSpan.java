@@ -70,9 +70,14 @@ final class SdkSpan implements ReadWriteSpan {
   @GuardedBy("lock")
   @Nullable
   private AttributesMap attributes;
-  // List of recorded events.
+  // List of recorded events. Allocated on the first event, most spans never record one.
   @GuardedBy("lock")
-  private final List<EventData> events;
+  @Nullable
+  private List<EventData> events;
+  // Index of the oldest event once the events are full and the latest ones are kept, the events
+  // then form a ring buffer that overwrites the oldest event.
+  @GuardedBy("lock")
+  private int eventsStart = 0;
   // Number of events recorded.
   @GuardedBy("lock")
   private int totalRecordedEvents = 0;
@@ -82,9 +87,9 @@ final class SdkSpan implements ReadWriteSpan {
   // The end time of the span.
   @GuardedBy("lock")
   private long endEpochNanos;
-  // True if the span is ended.
-  @GuardedBy("lock")
-  private boolean hasEnded;
+  // True if the span is ended. Only written while holding lock, but volatile so that the frequent
+  // isRecording() and hasEnded() checks do not need to acquire it.
+  private volatile boolean hasEnded;
 
   private SdkSpan(
       SpanContext context,
@@ -113,7 +118,6 @@ final class SdkSpan implements ReadWriteSpan {
     this.clock = clock;
     this.startEpochNanos = startEpochNanos;
     this.attributes = attributes;
-    this.events = new ArrayList<>();
     this.spanLimits = spanLimits;
   }
 
@@ -219,9 +223,7 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public boolean hasEnded() {
-    synchronized (lock) {
-      return hasEnded;
-    }
+    return hasEnded;
   }
 
   @Override
@@ -362,8 +364,15 @@ final class SdkSpan implements ReadWriteSpan {
         logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
         return;
       }
-      if (events.size() < spanLimits.getMaxNumberOfEvents()) {
+      if (events == null) {
+        events = new ArrayList<>();
+      }
+      int maxNumberOfEvents = spanLimits.getMaxNumberOfEvents();
+      if (events.size() < maxNumberOfEvents) {
         events.add(timedEvent);
+      } else if (spanLimits.isKeepLatestEvents()) {
+        events.set(eventsStart, timedEvent);
+        eventsStart = eventsStart + 1 == maxNumberOfEvents ? 0 : eventsStart + 1;
       }
       totalRecordedEvents++;
     }
@@ -446,9 +455,7 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public boolean isRecording() {
-    synchronized (lock) {
-      return !hasEnded;
-    }
+    return !hasEnded;
   }
 
   Resource getResource() {
@@ -470,17 +477,25 @@ final class SdkSpan implements ReadWriteSpan {
 
   @GuardedBy("lock")
   private List<EventData> getImmutableTimedEvents() {
-    if (events.isEmpty()) {
+    if (events == null || events.isEmpty()) {
       return Collections.emptyList();
     }
 
     // if the span has ended, then the events are unmodifiable
     // so we can return them directly and save copying all the data.
     if (hasEnded) {
+      if (eventsStart != 0) {
+        // Put the ring buffer back in recording order once, later calls return it as is.
+        Collections.rotate(events, -eventsStart);
+        eventsStart = 0;
+      }
       return Collections.unmodifiableList(events);
     }
 
-    return Collections.unmodifiableList(new ArrayList<>(events));
+    List<EventData> copy = new ArrayList<>(events.size());
+    copy.addAll(events.subList(eventsStart, events.size()));
+    copy.addAll(events.subList(0, eventsStart));
+    return Collections.unmodifiableList(copy);
   }
 
   @GuardedBy("lock")
@@ -12,12 +12,14 @@ import static io.opentelemetry.api.common.AttributeKey.stringKey;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.internal.ImmutableSpanContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -26,9 +28,12 @@ import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
 
 /** {@link SdkSpanBuilder} is SDK implementation of {@link SpanBuilder}. */
@@ -38,10 +43,11 @@ final class SdkSpanBuilder implements SpanBuilder {
   private final InstrumentationScopeInfo instrumentationScopeInfo;
   private final TracerSharedState tracerSharedState;
   private final SpanLimits spanLimits;
+  private final Interner interner;
 
   @Nullable private Context parent; // null means: Use current context.
   private SpanKind spanKind = SpanKind.INTERNAL;
-  @Nullable private AttributesMap attributes;
+  @Nullable private DeferredAttributes attributes;
   @Nullable private List<LinkData> links;
   private int totalNumberOfLinksAdded = 0;
   private long startEpochNanos = 0;
@@ -50,11 +56,13 @@ final class SdkSpanBuilder implements SpanBuilder {
       String spanName,
       InstrumentationScopeInfo instrumentationScopeInfo,
       TracerSharedState tracerSharedState,
-      SpanLimits spanLimits) {
+      SpanLimits spanLimits,
+      Interner interner) {
     this.spanName = spanName;
     this.instrumentationScopeInfo = instrumentationScopeInfo;
     this.tracerSharedState = tracerSharedState;
     this.spanLimits = spanLimits;
+    this.interner = interner;
   }
 
   @Override
@@ -102,10 +110,11 @@ final class SdkSpanBuilder implements SpanBuilder {
     addLink(
         LinkData.create(
             spanContext,
-            AttributeUtil.applyAttributesLimit(
-                attributes,
-                spanLimits.getMaxNumberOfAttributesPerLink(),
-                spanLimits.getMaxAttributeValueLength()),
+            interner.intern(
+                AttributeUtil.applyAttributesLimit(
+                    attributes,
+                    spanLimits.getMaxNumberOfAttributesPerLink(),
+                    spanLimits.getMaxAttributeValueLength())),
             totalAttributeCount));
     return this;
   }
@@ -170,10 +179,19 @@ final class SdkSpanBuilder implements SpanBuilder {
     SpanContext parentSpanContext = parentSpan.getSpanContext();
     String traceId;
     IdGenerator idGenerator = tracerSharedState.getIdGenerator();
-    String spanId = idGenerator.generateSpanId();
+    RandomIdGenerator randomIdGenerator =
+        idGenerator instanceof RandomIdGenerator ? (RandomIdGenerator) idGenerator : null;
+    long traceIdHigh = 0;
+    long traceIdLow = 0;
     if (!parentSpanContext.isValid()) {
       // New root span.
-      traceId = idGenerator.generateTraceId();
+      if (randomIdGenerator != null) {
+        traceIdHigh = randomIdGenerator.generateTraceIdHigh();
+        traceIdLow = randomIdGenerator.generateTraceIdLow();
+        traceId = TraceId.fromLongs(traceIdHigh, traceIdLow);
+      } else {
+        traceId = idGenerator.generateTraceId();
+      }
     } else {
       // New child span.
       traceId = parentSpanContext.getTraceId();
@@ -193,14 +211,38 @@ final class SdkSpanBuilder implements SpanBuilder {
 
     TraceState samplingResultTraceState =
         samplingResult.getUpdatedTraceState(parentSpanContext.getTraceState());
-    SpanContext spanContext =
-        ImmutableSpanContext.create(
-            traceId,
-            spanId,
-            isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault(),
-            samplingResultTraceState,
-            /* remote= */ false,
-            tracerSharedState.isIdGeneratorSafeToSkipIdValidation());
+    TraceFlags traceFlags =
+        isSampled(samplingDecision) ? TraceFlags.getSampled() : TraceFlags.getDefault();
+    SpanContext spanContext;
+    if (randomIdGenerator == null) {
+      spanContext =
+          ImmutableSpanContext.create(
+              traceId,
+              idGenerator.generateSpanId(),
+              traceFlags,
+              samplingResultTraceState,
+              /* remote= */ false,
+              /* skipIdValidation= */ false);
+    } else if (!parentSpanContext.isValid()) {
+      // Keep the IDs binary, they are only encoded to hex if something asks for them.
+      spanContext =
+          ImmutableSpanContext.create(
+              traceId,
+              traceIdHigh,
+              traceIdLow,
+              randomIdGenerator.generateSpanIdLong(),
+              traceFlags,
+              samplingResultTraceState,
+              /* remote= */ false);
+    } else {
+      spanContext =
+          ImmutableSpanContext.createChild(
+              parentSpanContext,
+              randomIdGenerator.generateSpanIdLong(),
+              traceFlags,
+              samplingResultTraceState,
+              /* remote= */ false);
+    }
 
     if (!isRecording(samplingDecision)) {
       return Span.wrap(spanContext);
@@ -212,7 +254,7 @@ final class SdkSpanBuilder implements SpanBuilder {
 
     // Avoid any possibility to modify the attributes by adding attributes to the Builder after the
     // startSpan is called. If that happens all the attributes will be added in a new map.
-    AttributesMap recordedAttributes = attributes;
+    AttributesMap recordedAttributes = attributes == null ? null : attributes.toAttributesMap();
     attributes = null;
 
     return SdkSpan.startSpan(
@@ -232,12 +274,10 @@ final class SdkSpanBuilder implements SpanBuilder {
         startEpochNanos);
   }
 
-  private AttributesMap attributes() {
-    AttributesMap attributes = this.attributes;
+  private DeferredAttributes attributes() {
+    DeferredAttributes attributes = this.attributes;
     if (attributes == null) {
-      this.attributes =
-          new AttributesMap(
-              spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+      this.attributes = new DeferredAttributes(spanLimits);
       attributes = this.attributes;
     }
     return attributes;
@@ -253,4 +293,112 @@ final class SdkSpanBuilder implements SpanBuilder {
   static boolean isSampled(SamplingDecision decision) {
     return SamplingDecision.RECORD_AND_SAMPLE.equals(decision);
   }
+
+  /**
+   * Attributes set on the builder, kept as a flat array of keys and values until they are first
+   * read. Spans that are dropped by a sampler which does not look at attributes never pay for
+   * building the {@link AttributesMap}. Once materialized, the map has exactly the contents it
+   * would have had if every attribute had been put into it directly. The array holds at most as
+   * many attributes as the span limit allows; the map is materialized when it is full.
+   */
+  private static final class DeferredAttributes implements Attributes {
+
+    private final SpanLimits spanLimits;
+    // Alternating keys and values, in the order they were set.
+    private Object[] keyValues = new Object[8];
+    private int keyValuesSize = 0;
+    @Nullable private AttributesMap map;
+
+    private DeferredAttributes(SpanLimits spanLimits) {
+      this.spanLimits = spanLimits;
+    }
+
+    <T> void put(AttributeKey<T> key, T value) {
+      if (map != null) {
+        map.put(key, value);
+        return;
+      }
+      if (keyValuesSize / 2 >= spanLimits.getMaxNumberOfAttributes()) {
+        toAttributesMap().put(key, value);
+        return;
+      }
+      Object[] keyValues = this.keyValues;
+      if (keyValuesSize == keyValues.length) {
+        keyValues = Arrays.copyOf(keyValues, keyValues.length * 2);
+        this.keyValues = keyValues;
+      }
+      keyValues[keyValuesSize++] = key;
+      keyValues[keyValuesSize++] = value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    AttributesMap toAttributesMap() {
+      AttributesMap map = this.map;
+      if (map == null) {
+        map =
+            new AttributesMap(
+                spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+        Object[] keyValues = this.keyValues;
+        for (int i = 0; i < keyValuesSize; i += 2) {
+          map.put((AttributeKey) keyValues[i], keyValues[i + 1]);
+        }
+        this.map = map;
+      }
+      return map;
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(AttributeKey<T> key) {
+      return toAttributesMap().get(key);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> consumer) {
+      toAttributesMap().forEach(consumer);
+    }
+
+    @Override
+    public int size() {
+      return toAttributesMap().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return toAttributesMap().isEmpty();
+    }
+
+    @Override
+    public Map<AttributeKey<?>, Object> asMap() {
+      return toAttributesMap().asMap();
+    }
+
+    @Override
+    public AttributesBuilder toBuilder() {
+      return toAttributesMap().toBuilder();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      // Only equal to other DeferredAttributes, as AttributesMap is only equal to other maps, so
+      // that equality is symmetric.
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof DeferredAttributes)) {
+        return false;
+      }
+      return toAttributesMap().equals(((DeferredAttributes) o).toAttributesMap());
+    }
+
+    @Override
+    public int hashCode() {
+      return toAttributesMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return toAttributesMap().toString();
+    }
+  }
 }
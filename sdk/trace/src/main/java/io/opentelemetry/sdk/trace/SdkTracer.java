@@ -16,6 +16,8 @@ final class SdkTracer implements Tracer {
 
   private final TracerSharedState sharedState;
   private final InstrumentationScopeInfo instrumentationScopeInfo;
+  // Spans of a tracer tend to record the same link attributes, share them across spans.
+  private final Interner interner = new Interner();
 
   SdkTracer(TracerSharedState sharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
     this.sharedState = sharedState;
@@ -32,7 +34,7 @@ final class SdkTracer implements Tracer {
       return tracer.spanBuilder(spanName);
     }
     return new SdkSpanBuilder(
-        spanName, instrumentationScopeInfo, sharedState, sharedState.getSpanLimits());
+        spanName, instrumentationScopeInfo, sharedState, sharedState.getSpanLimits(), interner);
   }
 
   // Visible for testing
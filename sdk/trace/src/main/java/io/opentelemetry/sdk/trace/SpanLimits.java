@@ -39,14 +39,16 @@ public abstract class SpanLimits {
       int maxNumLinks,
       int maxNumAttributesPerEvent,
       int maxNumAttributesPerLink,
-      int maxAttributeLength) {
+      int maxAttributeLength,
+      boolean keepLatestEvents) {
     return new AutoValue_SpanLimits_SpanLimitsValue(
         maxNumAttributes,
         maxNumEvents,
         maxNumLinks,
         maxNumAttributesPerEvent,
         maxNumAttributesPerLink,
-        maxAttributeLength);
+        maxAttributeLength,
+        keepLatestEvents);
   }
 
   /**
@@ -102,6 +104,17 @@ public abstract class SpanLimits {
     return DEFAULT_SPAN_MAX_ATTRIBUTE_LENGTH;
   }
 
+  /**
+   * Returns whether a {@link Span} that recorded more than {@link #getMaxNumberOfEvents()} events
+   * keeps the latest events, overwriting the oldest ones. Otherwise, the first events are kept and
+   * later ones are dropped.
+   *
+   * @return {@code true} if the latest events are kept.
+   */
+  public boolean isKeepLatestEvents() {
+    return false;
+  }
+
   /**
    * Returns a {@link SpanLimitsBuilder} initialized to the same property values as the current
    * instance.
@@ -116,7 +129,8 @@ public abstract class SpanLimits {
         .setMaxNumberOfLinks(getMaxNumberOfLinks())
         .setMaxNumberOfAttributesPerEvent(getMaxNumberOfAttributesPerEvent())
         .setMaxNumberOfAttributesPerLink(getMaxNumberOfAttributesPerLink())
-        .setMaxAttributeValueLength(getMaxAttributeValueLength());
+        .setMaxAttributeValueLength(getMaxAttributeValueLength())
+        .setKeepLatestEvents(isKeepLatestEvents());
   }
 
   @AutoValue
@@ -129,5 +143,12 @@ public abstract class SpanLimits {
      */
     @Override
     public abstract int getMaxAttributeValueLength();
+
+    /**
+     * Override {@link SpanLimits#isKeepLatestEvents()} to be abstract so autovalue can implement
+     * it.
+     */
+    @Override
+    public abstract boolean isKeepLatestEvents();
   }
 }
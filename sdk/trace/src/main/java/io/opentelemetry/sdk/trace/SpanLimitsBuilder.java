@@ -23,6 +23,7 @@ public final class SpanLimitsBuilder {
   private int maxNumAttributesPerEvent = DEFAULT_SPAN_MAX_NUM_ATTRIBUTES_PER_EVENT;
   private int maxNumAttributesPerLink = DEFAULT_SPAN_MAX_NUM_ATTRIBUTES_PER_LINK;
   private int maxAttributeValueLength = SpanLimits.DEFAULT_SPAN_MAX_ATTRIBUTE_LENGTH;
+  private boolean keepLatestEvents = false;
 
   SpanLimitsBuilder() {}
 
@@ -109,6 +110,21 @@ public final class SpanLimitsBuilder {
     return this;
   }
 
+  /**
+   * Sets whether a {@link Span} that recorded more than the max number of events keeps the latest
+   * events instead of the first ones. Events are then stored in a ring buffer that overwrites the
+   * oldest event, which is useful for spans that record a long stream of events where the last
+   * ones, such as the error that ended an operation, are the most relevant. Defaults to {@code
+   * false}.
+   *
+   * @param keepLatestEvents {@code true} to keep the latest events.
+   * @return this.
+   */
+  public SpanLimitsBuilder setKeepLatestEvents(boolean keepLatestEvents) {
+    this.keepLatestEvents = keepLatestEvents;
+    return this;
+  }
+
   /** Builds and returns a {@link SpanLimits} with the values of this builder. */
   public SpanLimits build() {
     return SpanLimits.create(
@@ -117,6 +133,7 @@ public final class SpanLimitsBuilder {
         maxNumLinks,
         maxNumAttributesPerEvent,
         maxNumAttributesPerLink,
-        maxAttributeValueLength);
+        maxAttributeValueLength,
+        keepLatestEvents);
   }
 }
@@ -18,8 +18,6 @@ final class TracerSharedState {
   private final Object lock = new Object();
   private final Clock clock;
   private final IdGenerator idGenerator;
-  // tracks whether it is safe to skip id validation on ids from the above generator
-  private final boolean idGeneratorSafeToSkipIdValidation;
   private final Resource resource;
 
   private final Supplier<SpanLimits> spanLimitsSupplier;
@@ -37,7 +35,6 @@ final class TracerSharedState {
       List<SpanProcessor> spanProcessors) {
     this.clock = clock;
     this.idGenerator = idGenerator;
-    this.idGeneratorSafeToSkipIdValidation = idGenerator instanceof RandomIdGenerator;
     this.resource = resource;
     this.spanLimitsSupplier = spanLimitsSupplier;
     this.sampler = sampler;
@@ -52,10 +49,6 @@ final class TracerSharedState {
     return idGenerator;
   }
 
-  boolean isIdGeneratorSafeToSkipIdValidation() {
-    return idGeneratorSafeToSkipIdValidation;
-  }
-
   Resource getResource() {
     return resource;
   }
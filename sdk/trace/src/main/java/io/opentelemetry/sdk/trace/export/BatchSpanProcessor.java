@@ -13,14 +13,14 @@ import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.internal.ThrowableUtil;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.internal.JcTools;
-import java.util.ArrayList;
-import java.util.Collections;
+import io.opentelemetry.sdk.trace.internal.SpanDataBatch;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -28,8 +28,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@link SpanProcessor} that batches spans exported by the SDK then pushes
@@ -70,6 +72,8 @@ public final class BatchSpanProcessor implements SpanProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
+      long maxExportBatchSizeBytes,
+      @Nullable ToLongFunction<SpanData> spanSizer,
       long exporterTimeoutNanos) {
     this.worker =
         new Worker(
@@ -77,6 +81,8 @@ public final class BatchSpanProcessor implements SpanProcessor {
             meterProvider,
             scheduleDelayNanos,
             maxExportBatchSize,
+            maxExportBatchSizeBytes,
+            spanSizer,
             exporterTimeoutNanos,
             JcTools.newFixedSizeQueue(maxQueueSize));
     Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
@@ -118,7 +124,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
   }
 
   // Visible for testing
-  ArrayList<SpanData> getBatch() {
+  SpanDataBatch getBatch() {
     return worker.batch;
   }
 
@@ -146,6 +152,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
   private static final class Worker implements Runnable {
 
     private static final Logger logger = Logger.getLogger(Worker.class.getName());
+    private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
 
     private final LongCounter processedSpansCounter;
     private final Attributes droppedAttrs;
@@ -154,6 +161,8 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final SpanExporter spanExporter;
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
+    private final long maxExportBatchSizeBytes;
+    @Nullable private final ToLongFunction<SpanData> spanSizer;
     private final long exporterTimeoutNanos;
 
     private long nextExportTime;
@@ -169,18 +178,24 @@ public final class BatchSpanProcessor implements SpanProcessor {
     private final BlockingQueue<Boolean> signal;
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
-    private final ArrayList<SpanData> batch;
+    private final SpanDataBatch batch;
+    // The size in bytes of the spans of the batch, only tracked with a spanSizer.
+    private long batchSizeBytes;
 
     private Worker(
         SpanExporter spanExporter,
         MeterProvider meterProvider,
         long scheduleDelayNanos,
         int maxExportBatchSize,
+        long maxExportBatchSizeBytes,
+        @Nullable ToLongFunction<SpanData> spanSizer,
         long exporterTimeoutNanos,
         Queue<ReadableSpan> queue) {
       this.spanExporter = spanExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
+      this.maxExportBatchSizeBytes = maxExportBatchSizeBytes;
+      this.spanSizer = spanSizer;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
       this.queue = queue;
       this.signal = new ArrayBlockingQueue<>(1);
@@ -216,7 +231,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
               SPAN_PROCESSOR_DROPPED_LABEL,
               false);
 
-      this.batch = new ArrayList<>(this.maxExportBatchSize);
+      this.batch = new SpanDataBatch(this.maxExportBatchSize);
     }
 
     private void addSpan(ReadableSpan span) {
@@ -237,10 +252,10 @@ public final class BatchSpanProcessor implements SpanProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        while (!queue.isEmpty() && batch.size() < maxExportBatchSize) {
-          batch.add(queue.poll().toSpanData());
+        while (!queue.isEmpty() && !isBatchFull()) {
+          addToBatch(queue.poll().toSpanData());
         }
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        if (isBatchFull() || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
           updateNextExportTime();
         }
@@ -265,9 +280,9 @@ public final class BatchSpanProcessor implements SpanProcessor {
       while (spansToFlush > 0) {
         ReadableSpan span = queue.poll();
         assert span != null;
-        batch.add(span.toSpanData());
+        addToBatch(span.toSpanData());
         spansToFlush--;
-        if (batch.size() >= maxExportBatchSize) {
+        if (isBatchFull()) {
           exportCurrentBatch();
         }
       }
@@ -279,6 +294,22 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
+    private void addToBatch(SpanData span) {
+      batch.addSpan(span);
+      if (spanSizer != null) {
+        try {
+          batchSizeBytes += spanSizer.applyAsLong(span);
+        } catch (RuntimeException e) {
+          // Counts the span as empty rather than stopping the worker.
+          throttlingLogger.log(Level.WARNING, "Span sizer threw an Exception", e);
+        }
+      }
+    }
+
+    private boolean isBatchFull() {
+      return batch.size() >= maxExportBatchSize || batchSizeBytes >= maxExportBatchSizeBytes;
+    }
+
     private void updateNextExportTime() {
       nextExportTime = System.nanoTime() + scheduleDelayNanos;
     }
@@ -323,7 +354,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
 
       try {
-        CompletableResultCode result = spanExporter.export(Collections.unmodifiableList(batch));
+        CompletableResultCode result = spanExporter.export(batch);
         result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
         if (result.isSuccess()) {
           processedSpansCounter.add(batch.size(), exportedAttrs);
@@ -334,7 +365,8 @@ public final class BatchSpanProcessor implements SpanProcessor {
         ThrowableUtil.propagateIfFatal(t);
         logger.log(Level.WARNING, "Exporter threw an Exception", t);
       } finally {
-        batch.clear();
+        batch.reset();
+        batchSizeBytes = 0;
       }
     }
   }
@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * A batch of {@link SpanData} that groups the spans by {@link Resource} and {@link
+ * InstrumentationScopeInfo} as they are added, so that exporters which need the spans grouped, like
+ * OTLP, do not have to regroup the batch on every export.
+ *
+ * <p>As a {@link List}, the batch has the spans in the order they were added and can't be
+ * modified.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpanDataBatch extends AbstractList<SpanData> {
+
+  private final List<SpanData> spans;
+  // Resources and scopes are compared by identity, the SDK uses one instance per provider and
+  // tracer.
+  private final Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> groups =
+      new IdentityHashMap<>(8);
+  // Spans usually arrive in runs from the same tracer, skip the lookups for those.
+  @Nullable private Resource lastResource;
+  @Nullable private InstrumentationScopeInfo lastScope;
+  @Nullable private List<SpanData> lastGroup;
+
+  public SpanDataBatch(int expectedSize) {
+    spans = new ArrayList<>(expectedSize);
+  }
+
+  /** Adds the {@link SpanData} to the batch. */
+  @SuppressWarnings("ReferenceEquality")
+  public void addSpan(SpanData span) {
+    spans.add(span);
+    Resource resource = span.getResource();
+    InstrumentationScopeInfo scope = span.getInstrumentationScopeInfo();
+    List<SpanData> group = lastGroup;
+    if (group == null || resource != lastResource || scope != lastScope) {
+      group =
+          groups
+              .computeIfAbsent(resource, unused -> new IdentityHashMap<>(8))
+              .computeIfAbsent(scope, unused -> new ArrayList<>());
+      lastResource = resource;
+      lastScope = scope;
+      lastGroup = group;
+    }
+    group.add(span);
+  }
+
+  /** Removes all the spans of the batch. */
+  public void reset() {
+    spans.clear();
+    groups.clear();
+    lastResource = null;
+    lastScope = null;
+    lastGroup = null;
+  }
+
+  /**
+   * Returns the spans of the batch grouped by {@link Resource} and {@link
+   * InstrumentationScopeInfo}. The returned map must not be modified and is only valid until the
+   * batch is reset.
+   */
+  public Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> getGroups() {
+    return groups;
+  }
+
+  @Override
+  public SpanData get(int index) {
+    return spans.get(index);
+  }
+
+  @Override
+  public int size() {
+    return spans.size();
+  }
+}
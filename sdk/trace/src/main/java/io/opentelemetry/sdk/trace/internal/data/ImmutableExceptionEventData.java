@@ -13,7 +13,7 @@ import io.opentelemetry.sdk.internal.AttributeUtil;
 import io.opentelemetry.sdk.trace.SpanLimits;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.Writer;
 import javax.annotation.concurrent.Immutable;
 
 /** An effectively immutable implementation of {@link ExceptionEventData}. */
@@ -63,14 +63,12 @@ abstract class ImmutableExceptionEventData implements ExceptionEventData {
       attributesBuilder.put(SemanticAttributes.EXCEPTION_MESSAGE, message);
     }
 
-    StringWriter stringWriter = new StringWriter();
-    try (PrintWriter printWriter = new PrintWriter(stringWriter)) {
-      exception.printStackTrace(printWriter);
-    }
-    attributesBuilder.put(SemanticAttributes.EXCEPTION_STACKTRACE, stringWriter.toString());
+    SpanLimits spanLimits = getSpanLimits();
+    attributesBuilder.put(
+        SemanticAttributes.EXCEPTION_STACKTRACE,
+        renderStackTrace(exception, spanLimits.getMaxAttributeValueLength()));
     attributesBuilder.putAll(additionalAttributes);
 
-    SpanLimits spanLimits = getSpanLimits();
     return AttributeUtil.applyAttributesLimit(
         attributesBuilder.build(),
         spanLimits.getMaxNumberOfAttributesPerEvent(),
@@ -81,4 +79,52 @@ abstract class ImmutableExceptionEventData implements ExceptionEventData {
   public final int getTotalAttributeCount() {
     return getAttributes().size();
   }
+
+  // The stack trace is rendered only when the attributes are first read, which most exception
+  // events of unsampled or dropped spans never are, and only up to the attribute length limit.
+  private static String renderStackTrace(Throwable exception, int maxLength) {
+    TruncatingWriter writer = new TruncatingWriter(maxLength);
+    try (PrintWriter printWriter = new PrintWriter(writer)) {
+      exception.printStackTrace(printWriter);
+    }
+    return writer.toString();
+  }
+
+  /** A {@link Writer} that keeps the first {@code maxLength} characters written to it. */
+  private static final class TruncatingWriter extends Writer {
+    private final StringBuilder builder;
+    private final int maxLength;
+
+    private TruncatingWriter(int maxLength) {
+      this.builder = new StringBuilder(Math.min(maxLength, 1024));
+      this.maxLength = maxLength;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+      int remaining = maxLength - builder.length();
+      if (remaining > 0) {
+        builder.append(cbuf, off, Math.min(len, remaining));
+      }
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      int remaining = maxLength - builder.length();
+      if (remaining > 0) {
+        builder.append(str, off, off + Math.min(len, remaining));
+      }
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public String toString() {
+      return builder.toString();
+    }
+  }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.samplers;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RateLimiter;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Samples with a probability that is recomputed every second from the observed number of spans, so
+ * that the number of sampled spans approaches a target rate.
+ *
+ * <p>Probabilities are powers of two, {@code 2^-p}, and a trace is sampled if its r-value is at
+ * least {@code p}. The r-value is read from the {@code r} sub-key of the {@code ot} trace state
+ * entry when the parent propagated one, and is otherwise the number of leading zeros of the random
+ * lower 64 bits of the trace ID. This makes decisions consistent across all services using this
+ * sampler at the same or lower {@code p}, and {@code p} is recorded in the {@code ot} trace state
+ * entry of sampled spans so downstream consumers can extrapolate counts.
+ *
+ * <p>Spans with a sampled parent are always sampled, and keep the {@code p} of their parent, so
+ * that a trace is never broken up when the probability changes while it is in progress. Bursts
+ * before the probability is recomputed are capped by a rate limiter, which only applies to the
+ * decisions this sampler makes itself and never to spans with a sampled parent.
+ */
+@ThreadSafe
+final class AdaptiveRateLimitingSampler implements Sampler {
+
+  private static final long ADJUSTMENT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  // The largest p-value allowed by the consistent probability sampling specification.
+  static final int MAX_P_VALUE = 62;
+  static final String OTEL_TRACE_STATE_KEY = "ot";
+  private static final SamplingResult[] SAMPLED_RESULTS = new SamplingResult[MAX_P_VALUE + 1];
+
+  static {
+    for (int i = 0; i <= MAX_P_VALUE; i++) {
+      SAMPLED_RESULTS[i] = new ConsistentSamplingResult(i);
+    }
+  }
+
+  private final double targetSpansPerSecond;
+  private final Clock clock;
+  private final RateLimiter rateLimiter;
+  private final AtomicLong spansSinceAdjustment = new AtomicLong();
+  private final AtomicLong lastAdjustmentNanos;
+  private volatile int pValue;
+
+  static AdaptiveRateLimitingSampler create(double targetSpansPerSecond) {
+    return new AdaptiveRateLimitingSampler(targetSpansPerSecond, Clock.getDefault());
+  }
+
+  // Visible for testing
+  AdaptiveRateLimitingSampler(double targetSpansPerSecond, Clock clock) {
+    if (!(targetSpansPerSecond > 0.0)) {
+      throw new IllegalArgumentException("targetSpansPerSecond must be positive");
+    }
+    this.targetSpansPerSecond = targetSpansPerSecond;
+    this.clock = clock;
+    this.rateLimiter =
+        new RateLimiter(targetSpansPerSecond, Math.max(targetSpansPerSecond, 1.0), clock);
+    this.lastAdjustmentNanos = new AtomicLong(clock.nanoTime());
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    spansSinceAdjustment.incrementAndGet();
+    long now = clock.nanoTime();
+    long last = lastAdjustmentNanos.get();
+    if (now - last >= ADJUSTMENT_INTERVAL_NANOS && lastAdjustmentNanos.compareAndSet(last, now)) {
+      adjust(now - last);
+    }
+
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    if (parentSpanContext.isSampled()) {
+      // Keeps the trace state, and so the p-value, of the parent.
+      return SamplingResult.recordAndSample();
+    }
+
+    int p = pValue;
+    if (getRValue(parentSpanContext.getTraceState(), traceId) < p || !rateLimiter.trySpend(1.0)) {
+      return SamplingResult.drop();
+    }
+    return SAMPLED_RESULTS[p];
+  }
+
+  private void adjust(long elapsedNanos) {
+    double spansPerSecond =
+        spansSinceAdjustment.getAndSet(0) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    if (spansPerSecond <= targetSpansPerSecond) {
+      pValue = 0;
+      return;
+    }
+    // Round the probability down to a power of two so the sampled rate does not exceed the target.
+    int p = (int) Math.ceil(Math.log(spansPerSecond / targetSpansPerSecond) / Math.log(2));
+    pValue = Math.min(p, MAX_P_VALUE);
+  }
+
+  // Visible for testing
+  int getPValue() {
+    return pValue;
+  }
+
+  @Override
+  public String getDescription() {
+    return String.format("AdaptiveRateLimitingSampler{%.2f}", targetSpansPerSecond);
+  }
+
+  @Override
+  public String toString() {
+    return getDescription();
+  }
+
+  private static int getRValue(TraceState traceState, String traceId) {
+    String otValue = traceState.get(OTEL_TRACE_STATE_KEY);
+    if (otValue != null) {
+      for (String entry : otValue.split(";", -1)) {
+        if (entry.startsWith("r:")) {
+          int r = parseRValue(entry);
+          if (r >= 0) {
+            return r;
+          }
+        }
+      }
+    }
+    return Long.numberOfLeadingZeros(OtelEncodingUtils.longFromBase16String(traceId, 16));
+  }
+
+  // Returns the value of an r sub-key, or -1 if it is invalid.
+  private static int parseRValue(String entry) {
+    int length = entry.length();
+    if (length < 3 || length > 4) {
+      return -1;
+    }
+    int r = 0;
+    for (int i = 2; i < length; i++) {
+      char c = entry.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      r = r * 10 + (c - '0');
+    }
+    return r <= MAX_P_VALUE ? r : -1;
+  }
+
+  private static final class ConsistentSamplingResult implements SamplingResult {
+    private final String pEntry;
+
+    private ConsistentSamplingResult(int pValue) {
+      this.pEntry = "p:" + pValue;
+    }
+
+    @Override
+    public SamplingDecision getDecision() {
+      return SamplingDecision.RECORD_AND_SAMPLE;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return Attributes.empty();
+    }
+
+    @Override
+    public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+      return parentTraceState.toBuilder()
+          .put(OTEL_TRACE_STATE_KEY, withPValue(parentTraceState.get(OTEL_TRACE_STATE_KEY)))
+          .build();
+    }
+
+    // Replaces the p sub-key of an ot trace state value, keeping any other sub-keys.
+    private String withPValue(@Nullable String otValue) {
+      if (otValue == null || otValue.isEmpty()) {
+        return pEntry;
+      }
+      StringBuilder result = new StringBuilder(pEntry);
+      for (String entry : otValue.split(";", -1)) {
+        if (!entry.isEmpty() && !entry.startsWith("p:")) {
+          result.append(';').append(entry);
+        }
+      }
+      return result.toString();
+    }
+  }
+}
@@ -89,6 +89,26 @@ public interface Sampler {
     return TraceIdRatioBasedSampler.create(ratio);
   }
 
+  /**
+   * Returns a new {@link Sampler} that adjusts its sampling probability every second from the
+   * number of spans it observed, so that about {@code targetSpansPerSecond} spans are sampled.
+   *
+   * <p>Sampling probabilities are powers of two, and the decision is derived from the {@code r}
+   * sub-key of the {@code ot} trace state entry if the parent has one, or else from the random part
+   * of the trace ID, so it is consistent for all spans of a trace. Spans with a sampled parent are
+   * always sampled. The exponent is recorded in the {@code ot} entry of the trace state of sampled
+   * spans, as {@code p:<exponent>}, so that counts can be extrapolated from the sampled spans.
+   * Bursts above the target before the probability is adjusted are rate limited, except for spans
+   * with a sampled parent.
+   *
+   * @param targetSpansPerSecond the number of spans to sample per second. Must be positive.
+   * @return a new adaptive rate limiting {@link Sampler}.
+   * @throws IllegalArgumentException if {@code targetSpansPerSecond} is not positive
+   */
+  static Sampler adaptiveRateLimited(double targetSpansPerSecond) {
+    return AdaptiveRateLimitingSampler.create(targetSpansPerSecond);
+  }
+
   /**
    * Called during {@link Span} creation to make a sampling samplingResult.
    *
@@ -0,0 +1,42 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import org.junit.jupiter.api.Test;
+
+class InternerTest {
+
+  @Test
+  void returnsFirstEqualInstance() {
+    Interner interner = new Interner();
+    Attributes first = Attributes.of(stringKey("key"), "value");
+    Attributes second = Attributes.of(stringKey("key"), "value");
+
+    assertThat(interner.intern(first)).isSameAs(first);
+    assertThat(interner.intern(second)).isSameAs(first);
+    assertThat(interner.intern(Attributes.of(stringKey("key"), "other"))).isNotSameAs(first);
+    assertThat(interner.size()).isEqualTo(2);
+  }
+
+  @Test
+  void clearedWhenFull() {
+    Interner interner = new Interner(2);
+    Attributes first = Attributes.of(stringKey("key"), "1");
+    interner.intern(first);
+    interner.intern(Attributes.of(stringKey("key"), "2"));
+    assertThat(interner.size()).isEqualTo(2);
+
+    Attributes third = Attributes.of(stringKey("key"), "3");
+    assertThat(interner.intern(third)).isSameAs(third);
+    assertThat(interner.size()).isEqualTo(1);
+    Attributes firstCopy = Attributes.of(stringKey("key"), "1");
+    assertThat(interner.intern(firstCopy)).isSameAs(firstCopy);
+  }
+}
@@ -8,17 +8,24 @@ package io.opentelemetry.sdk.trace;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -107,6 +114,30 @@ class MultiSpanProcessorTest {
     verify(spanProcessor2).shutdown();
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {3, 4, 10})
+  void manySpanProcessors_calledInOrder(int count) {
+    List<SpanProcessor> spanProcessors = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      SpanProcessor spanProcessor = mock(SpanProcessor.class);
+      when(spanProcessor.isStartRequired()).thenReturn(true);
+      when(spanProcessor.isEndRequired()).thenReturn(true);
+      spanProcessors.add(spanProcessor);
+    }
+    SpanProcessor multiSpanProcessor = SpanProcessor.composite(spanProcessors);
+
+    multiSpanProcessor.onStart(Context.root(), readWriteSpan);
+    multiSpanProcessor.onEnd(readableSpan);
+
+    InOrder inOrder = inOrder(spanProcessors.toArray());
+    for (SpanProcessor spanProcessor : spanProcessors) {
+      inOrder.verify(spanProcessor).onStart(same(Context.root()), same(readWriteSpan));
+    }
+    for (SpanProcessor spanProcessor : spanProcessors) {
+      inOrder.verify(spanProcessor).onEnd(same(readableSpan));
+    }
+  }
+
   @Test
   void stringRepresentation() {
     when(spanProcessor1.toString()).thenReturn("spanProcessor1");
@@ -24,6 +24,8 @@ class RandomIdGeneratorTest {
 
       String spanId = generator.generateSpanId();
       assertThat(spanId).isNotEqualTo(SpanId.getInvalid());
+
+      assertThat(RandomIdGenerator.INSTANCE.generateSpanIdLong()).isNotZero();
     }
   }
 }
@@ -37,9 +37,11 @@ import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -220,6 +222,33 @@ class SdkSpanBuilderTest {
     }
   }
 
+  @Test
+  void addLink_attributesSharedAcrossSpans() {
+    Attributes linkAttributes = Attributes.of(stringKey("messaging.system"), "kafka");
+    SdkSpan span1 =
+        (SdkSpan)
+            sdkTracer
+                .spanBuilder(SPAN_NAME)
+                .addLink(sampledSpanContext, linkAttributes.toBuilder().build())
+                .startSpan();
+    SdkSpan span2 =
+        (SdkSpan)
+            sdkTracer
+                .spanBuilder(SPAN_NAME)
+                .addLink(sampledSpanContext, linkAttributes.toBuilder().build())
+                .startSpan();
+    try {
+      List<LinkData> links1 = span1.toSpanData().getLinks();
+      List<LinkData> links2 = span2.toSpanData().getLinks();
+      assertThat(links1).containsExactly(LinkData.create(sampledSpanContext, linkAttributes));
+      assertThat(links2).containsExactly(LinkData.create(sampledSpanContext, linkAttributes));
+      assertThat(links2.get(0).getAttributes()).isSameAs(links1.get(0).getAttributes());
+    } finally {
+      span1.end();
+      span2.end();
+    }
+  }
+
   @Test
   void addLinkSpanContext_null() {
     assertThatCode(() -> sdkTracer.spanBuilder(SPAN_NAME).addLink(null)).doesNotThrowAnyException();
@@ -418,6 +447,89 @@ class SdkSpanBuilderTest {
     }
   }
 
+  @Test
+  void droppingAttributes_visibleToSampler() {
+    int maxNumberOfAttrs = 8;
+    SpanLimits spanLimits = SpanLimits.builder().setMaxNumberOfAttributes(maxNumberOfAttrs).build();
+    AtomicReference<Attributes> samplerAttributes = new AtomicReference<>();
+    Sampler sampler =
+        new Sampler() {
+          @Override
+          public SamplingResult shouldSample(
+              Context parentContext,
+              String traceId,
+              String name,
+              SpanKind spanKind,
+              Attributes attributes,
+              List<LinkData> parentLinks) {
+            samplerAttributes.set(Attributes.builder().putAll(attributes).build());
+            return SamplingResult.drop();
+          }
+
+          @Override
+          public String getDescription() {
+            return "test";
+          }
+        };
+    TracerProvider tracerProvider =
+        SdkTracerProvider.builder().setSpanLimits(spanLimits).setSampler(sampler).build();
+    SpanBuilder spanBuilder = tracerProvider.get("test").spanBuilder(SPAN_NAME);
+    for (int i = 0; i < 2 * maxNumberOfAttrs; i++) {
+      spanBuilder.setAttribute("key" + i, i);
+    }
+    spanBuilder.setAttribute("key0", 100);
+    Span span = spanBuilder.startSpan();
+    assertThat(span.isRecording()).isFalse();
+
+    Attributes attrs = samplerAttributes.get();
+    assertThat(attrs.size()).isEqualTo(maxNumberOfAttrs);
+    assertThat(attrs.get(longKey("key0"))).isEqualTo(100);
+    for (int i = 1; i < maxNumberOfAttrs; i++) {
+      assertThat(attrs.get(longKey("key" + i))).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void samplerAttributesEquality() {
+    List<Attributes> samplerAttributes = new ArrayList<>();
+    Sampler sampler =
+        new Sampler() {
+          @Override
+          public SamplingResult shouldSample(
+              Context parentContext,
+              String traceId,
+              String name,
+              SpanKind spanKind,
+              Attributes attributes,
+              List<LinkData> parentLinks) {
+            samplerAttributes.add(attributes);
+            return SamplingResult.drop();
+          }
+
+          @Override
+          public String getDescription() {
+            return "test";
+          }
+        };
+    TracerProvider tracerProvider = SdkTracerProvider.builder().setSampler(sampler).build();
+    for (int i = 0; i < 2; i++) {
+      tracerProvider.get("test").spanBuilder(SPAN_NAME).setAttribute("key", "value").startSpan();
+    }
+
+    assertThat(samplerAttributes).hasSize(2);
+    Attributes first = samplerAttributes.get(0);
+    Attributes second = samplerAttributes.get(1);
+    assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    assertThat(second).isEqualTo(first);
+
+    // Equality is symmetric with other implementations.
+    AttributesMap map = new AttributesMap(128, Integer.MAX_VALUE);
+    map.put(AttributeKey.stringKey("key"), "value");
+    Attributes attributes = Attributes.of(AttributeKey.stringKey("key"), "value");
+    assertThat(first.equals(map)).isEqualTo(map.equals(first));
+    assertThat(first.equals(attributes)).isEqualTo(attributes.equals(first));
+  }
+
   @Test
   void addAttributes_OnlyViaSampler() {
 
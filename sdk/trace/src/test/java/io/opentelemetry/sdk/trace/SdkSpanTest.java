@@ -42,11 +42,13 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -895,6 +897,45 @@ class SdkSpanTest {
     }
   }
 
+  @Test
+  void droppingEvents_keepLatest() {
+    int maxNumberOfEvents = 8;
+    SpanLimits spanLimits =
+        SpanLimits.builder()
+            .setMaxNumberOfEvents(maxNumberOfEvents)
+            .setKeepLatestEvents(true)
+            .build();
+    SdkSpan span = createTestSpan(spanLimits);
+    try {
+      for (int i = 0; i < 2 * maxNumberOfEvents + 3; i++) {
+        span.addEvent("event" + i, Attributes.empty());
+        testClock.advance(Duration.ofSeconds(1));
+      }
+      SpanData spanData = span.toSpanData();
+
+      assertThat(spanData.getTotalRecordedEvents()).isEqualTo(2 * maxNumberOfEvents + 3);
+      assertThat(spanData.getEvents()).hasSize(maxNumberOfEvents);
+      assertThat(spanData.getEvents().get(0).getName()).isEqualTo("event11");
+      assertThat(spanData.getEvents().get(maxNumberOfEvents - 1).getName()).isEqualTo("event18");
+    } finally {
+      span.end();
+    }
+    SpanData spanData = span.toSpanData();
+    assertThat(spanData.getEvents()).hasSize(maxNumberOfEvents);
+    for (int i = 0; i < maxNumberOfEvents; i++) {
+      int eventIndex = maxNumberOfEvents + 3 + i;
+      EventData expectedEvent =
+          EventData.create(
+              START_EPOCH_NANOS + eventIndex * NANOS_PER_SECOND,
+              "event" + eventIndex,
+              Attributes.empty(),
+              0);
+      assertThat(spanData.getEvents().get(i)).isEqualTo(expectedEvent);
+    }
+    // The events are only reordered once.
+    assertThat(span.toSpanData().getEvents()).isEqualTo(spanData.getEvents());
+  }
+
   @Test
   void recordException() {
     IllegalStateException exception = new IllegalStateException("there was an exception");
@@ -1242,4 +1283,54 @@ class SdkSpanTest {
     }
     modifierFuture.get();
   }
+
+  @Test
+  void concurrentMutationAndEnd() throws Exception {
+    SdkSpan span =
+        createTestSpan(
+            SpanLimits.builder()
+                .setMaxNumberOfAttributes(Integer.MAX_VALUE)
+                .setMaxNumberOfEvents(Integer.MAX_VALUE)
+                .build());
+    int numThreads = 4;
+    CountDownLatch startLatch = new CountDownLatch(1);
+    ExecutorService es = Executors.newFixedThreadPool(numThreads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < numThreads; t++) {
+        int thread = t;
+        futures.add(
+            es.submit(
+                () -> {
+                  startLatch.await();
+                  for (int i = 0; i < 1000; i++) {
+                    span.setAttribute("thread" + thread + "-" + i, i);
+                    span.addEvent("event");
+                    span.setStatus(StatusCode.OK);
+                    span.updateName("name" + thread);
+                  }
+                  return null;
+                }));
+      }
+      startLatch.countDown();
+      span.end();
+      assertThat(span.isRecording()).isFalse();
+      SpanData endedData = span.toSpanData();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+
+      // Nothing recorded after end() may be visible, and every recorded mutation must be counted.
+      SpanData finalData = span.toSpanData();
+      assertThat(finalData.getAttributes()).isEqualTo(endedData.getAttributes());
+      assertThat(finalData.getEvents()).isEqualTo(endedData.getEvents());
+      assertThat(finalData.getName()).isEqualTo(endedData.getName());
+      assertThat(finalData.getStatus()).isEqualTo(endedData.getStatus());
+      assertThat(finalData.getTotalAttributeCount())
+          .isEqualTo(finalData.getAttributes().size());
+      assertThat(finalData.getTotalRecordedEvents()).isEqualTo(finalData.getEvents().size());
+    } finally {
+      es.shutdownNow();
+    }
+  }
 }
@@ -29,6 +29,7 @@ import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -121,6 +122,16 @@ class BatchSpanProcessorTest {
     assertThatThrownBy(() -> BatchSpanProcessor.builder(mockSpanExporter).setExporterTimeout(null))
         .isInstanceOf(NullPointerException.class)
         .hasMessage("timeout");
+    assertThatThrownBy(
+            () ->
+                BatchSpanProcessor.builder(mockSpanExporter)
+                    .setMaxExportBatchSizeBytes(0, span -> 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxExportBatchSizeBytes must be positive.");
+    assertThatThrownBy(
+            () -> BatchSpanProcessor.builder(mockSpanExporter).setMaxExportBatchSizeBytes(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("spanSizer");
   }
 
   @Test
@@ -220,6 +231,62 @@ class BatchSpanProcessorTest {
     assertThat(exported.size()).isEqualTo(2);
   }
 
+  @Test
+  void exportBatchesLimitedInBytes() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    when(mockSpanExporter.export(any()))
+        .thenAnswer(
+            invocation -> {
+              Collection<SpanData> spans = invocation.getArgument(0);
+              batchSizes.add(spans.size());
+              return CompletableResultCode.ofSuccess();
+            });
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setMaxExportBatchSize(100)
+            .setMaxExportBatchSizeBytes(300, span -> 100)
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+    for (int i = 0; i < 10; i++) {
+      createEndedSpan(SPAN_NAME_1);
+    }
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(batchSizes).containsExactly(3, 3, 3, 1);
+  }
+
+  @Test
+  void exportBatchesWhenSpanSizerThrows() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    when(mockSpanExporter.export(any()))
+        .thenAnswer(
+            invocation -> {
+              Collection<SpanData> spans = invocation.getArgument(0);
+              batchSizes.add(spans.size());
+              return CompletableResultCode.ofSuccess();
+            });
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(mockSpanExporter)
+            .setMaxExportBatchSize(100)
+            .setMaxExportBatchSizeBytes(
+                300,
+                span -> {
+                  throw new IllegalStateException("sizer");
+                })
+            .setScheduleDelay(10, TimeUnit.SECONDS)
+            .build();
+
+    sdkTracerProvider = SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor).build();
+    for (int i = 0; i < 10; i++) {
+      createEndedSpan(SPAN_NAME_1);
+    }
+    batchSpanProcessor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    assertThat(batchSizes).containsExactly(10);
+  }
+
   @Test
   void exportSpansToMultipleExporters() {
     WaitingSpanExporter waitingSpanExporter =
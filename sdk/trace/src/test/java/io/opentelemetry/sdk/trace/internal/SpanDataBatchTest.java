@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import org.junit.jupiter.api.Test;
+
+class SpanDataBatchTest {
+
+  private static final Resource RESOURCE_1 = Resource.builder().put("one", 1).build();
+  private static final Resource RESOURCE_2 = Resource.builder().put("two", 2).build();
+  private static final InstrumentationScopeInfo SCOPE_1 = InstrumentationScopeInfo.create("1");
+  private static final InstrumentationScopeInfo SCOPE_2 = InstrumentationScopeInfo.create("2");
+
+  @Test
+  void groupsByResourceAndScope() {
+    SpanData span1 = spanData("span1", RESOURCE_1, SCOPE_1);
+    SpanData span2 = spanData("span2", RESOURCE_1, SCOPE_2);
+    SpanData span3 = spanData("span3", RESOURCE_2, SCOPE_1);
+    SpanData span4 = spanData("span4", RESOURCE_1, SCOPE_1);
+    SpanDataBatch batch = new SpanDataBatch(4);
+    batch.addSpan(span1);
+    batch.addSpan(span2);
+    batch.addSpan(span3);
+    batch.addSpan(span4);
+
+    assertThat(batch).containsExactly(span1, span2, span3, span4);
+    assertThat(batch.getGroups()).hasSize(2);
+    assertThat(batch.getGroups().get(RESOURCE_1)).hasSize(2);
+    assertThat(batch.getGroups().get(RESOURCE_1).get(SCOPE_1)).containsExactly(span1, span4);
+    assertThat(batch.getGroups().get(RESOURCE_1).get(SCOPE_2)).containsExactly(span2);
+    assertThat(batch.getGroups().get(RESOURCE_2)).hasSize(1);
+    assertThat(batch.getGroups().get(RESOURCE_2).get(SCOPE_1)).containsExactly(span3);
+  }
+
+  @Test
+  void reset() {
+    SpanDataBatch batch = new SpanDataBatch(1);
+    batch.addSpan(spanData("span1", RESOURCE_1, SCOPE_1));
+    batch.reset();
+    assertThat(batch).isEmpty();
+    assertThat(batch.getGroups()).isEmpty();
+
+    SpanData span2 = spanData("span2", RESOURCE_1, SCOPE_1);
+    batch.addSpan(span2);
+    assertThat(batch.getGroups().get(RESOURCE_1).get(SCOPE_1)).containsExactly(span2);
+  }
+
+  @Test
+  void unmodifiable() {
+    SpanDataBatch batch = new SpanDataBatch(1);
+    SpanData span = spanData("span", RESOURCE_1, SCOPE_1);
+    batch.addSpan(span);
+    assertThatThrownBy(() -> batch.add(span)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(batch::clear).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  private static SpanData spanData(
+      String name, Resource resource, InstrumentationScopeInfo scope) {
+    return TestSpanData.builder()
+        .setHasEnded(true)
+        .setSpanContext(SpanContext.getInvalid())
+        .setName(name)
+        .setKind(SpanKind.INTERNAL)
+        .setStartEpochNanos(1)
+        .setEndEpochNanos(2)
+        .setStatus(StatusData.unset())
+        .setInstrumentationScopeInfo(scope)
+        .setResource(resource)
+        .build();
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.samplers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimitingSamplerTest {
+  private static final String SPAN_NAME = "MySpanName";
+  private static final SpanKind SPAN_KIND = SpanKind.INTERNAL;
+  // Random part has 63 leading zeros, sampled at any p-value.
+  private static final String LOW_R_TRACE_ID = "00000000000000000000000000000001";
+  // Random part has no leading zeros, only sampled at p-value 0.
+  private static final String HIGH_R_TRACE_ID = "0000000000000000ffffffffffffffff";
+  private static final String PARENT_SPAN_ID = "0000000000000001";
+
+  private final TestClock clock = TestClock.create();
+
+  @Test
+  void invalidTarget() {
+    assertThatThrownBy(() -> Sampler.adaptiveRateLimited(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("targetSpansPerSecond must be positive");
+    assertThatThrownBy(() -> Sampler.adaptiveRateLimited(Double.NaN))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void getDescription() {
+    assertThat(Sampler.adaptiveRateLimited(10).getDescription())
+        .isEqualTo("AdaptiveRateLimitingSampler{10.00}");
+  }
+
+  @Test
+  void samplesEverythingBelowTarget() {
+    AdaptiveRateLimitingSampler sampler = new AdaptiveRateLimitingSampler(10, clock);
+
+    for (int i = 0; i < 10; i++) {
+      SamplingResult result = shouldSample(sampler, HIGH_R_TRACE_ID);
+      assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+      assertThat(result.getUpdatedTraceState(TraceState.getDefault()).get("ot"))
+          .isEqualTo("p:0");
+    }
+    assertThat(sampler.getPValue()).isZero();
+  }
+
+  @Test
+  void rateLimitsBurstBeforeAdjustment() {
+    AdaptiveRateLimitingSampler sampler = new AdaptiveRateLimitingSampler(10, clock);
+
+    int sampled = 0;
+    for (int i = 0; i < 100; i++) {
+      if (shouldSample(sampler, HIGH_R_TRACE_ID).getDecision()
+          == SamplingDecision.RECORD_AND_SAMPLE) {
+        sampled++;
+      }
+    }
+    assertThat(sampled).isEqualTo(10);
+    clock.advance(Duration.ofSeconds(1));
+    assertThat(shouldSample(sampler, HIGH_R_TRACE_ID).getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+    assertThat(sampler.getPValue()).isEqualTo(4);
+  }
+
+  @Test
+  void rateLimiterDoesNotApplyToSampledParent() {
+    AdaptiveRateLimitingSampler sampler = new AdaptiveRateLimitingSampler(10, clock);
+    for (int i = 0; i < 10; i++) {
+      shouldSample(sampler, HIGH_R_TRACE_ID);
+    }
+    assertThat(shouldSample(sampler, HIGH_R_TRACE_ID).getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+
+    Context parentContext = parentContext(TraceFlags.getSampled(), TraceState.getDefault());
+    for (int i = 0; i < 100; i++) {
+      assertThat(shouldSample(sampler, parentContext, HIGH_R_TRACE_ID).getDecision())
+          .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    }
+  }
+
+  @Test
+  void adjustsProbabilityToObservedRate() {
+    AdaptiveRateLimitingSampler sampler = new AdaptiveRateLimitingSampler(100, clock);
+
+    for (int i = 0; i < 999; i++) {
+      shouldSample(sampler, LOW_R_TRACE_ID);
+    }
+    clock.advance(Duration.ofSeconds(1));
+    // 1000 spans per second against a target of 100 rounds down to a probability of 1/16.
+    SamplingResult result = shouldSample(sampler, LOW_R_TRACE_ID);
+    assertThat(sampler.getPValue()).isEqualTo(4);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(result.getUpdatedTraceState(TraceState.getDefault()).get("ot")).isEqualTo("p:4");
+    assertThat(shouldSample(sampler, HIGH_R_TRACE_ID).getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+
+    // Traffic drops below the target.
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, HIGH_R_TRACE_ID);
+    assertThat(sampler.getPValue()).isZero();
+  }
+
+  @Test
+  void updatedTraceStateKeepsOtherOtSubKeys() {
+    AdaptiveRateLimitingSampler sampler = new AdaptiveRateLimitingSampler(10, clock);
+    TraceState parentTraceState =
+        TraceState.builder().put("ot", "r:5;p:1").put("vendor", "value").build();
+
+    TraceState traceState =
+        shouldSample(sampler, LOW_R_TRACE_ID).getUpdatedTraceState(parentTraceState);
+
+    assertThat(traceState.get("ot")).isEqualTo("p:0;r:5");
+    assertThat(traceState.get("vendor")).isEqualTo("value");
+  }
+
+  @Test
+  void keepsSampledParent() {
+    AdaptiveRateLimitingSampler sampler = increasedPValue();
+    TraceState parentTraceState = TraceState.builder().put("ot", "p:1").build();
+    Context parentContext = parentContext(TraceFlags.getSampled(), parentTraceState);
+
+    // Not sampled on its own at the current p-value, but the parent was.
+    SamplingResult result = shouldSample(sampler, parentContext, HIGH_R_TRACE_ID);
+
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(result.getUpdatedTraceState(parentTraceState)).isSameAs(parentTraceState);
+  }
+
+  @Test
+  void readsRValueFromTraceState() {
+    AdaptiveRateLimitingSampler sampler = increasedPValue();
+
+    TraceState highRTraceState = TraceState.builder().put("ot", "r:10").build();
+    SamplingResult result =
+        shouldSample(
+            sampler, parentContext(TraceFlags.getDefault(), highRTraceState), HIGH_R_TRACE_ID);
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(result.getUpdatedTraceState(highRTraceState).get("ot")).isEqualTo("p:4;r:10");
+
+    Context lowR =
+        parentContext(TraceFlags.getDefault(), TraceState.builder().put("ot", "r:1").build());
+    assertThat(shouldSample(sampler, lowR, LOW_R_TRACE_ID).getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+
+    // Invalid r-values fall back to the trace ID.
+    Context invalidR =
+        parentContext(TraceFlags.getDefault(), TraceState.builder().put("ot", "r:x").build());
+    assertThat(shouldSample(sampler, invalidR, LOW_R_TRACE_ID).getDecision())
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  // Returns a sampler which has observed 1000 spans per second against a target of 100.
+  private AdaptiveRateLimitingSampler increasedPValue() {
+    AdaptiveRateLimitingSampler sampler = new AdaptiveRateLimitingSampler(100, clock);
+    for (int i = 0; i < 1000; i++) {
+      shouldSample(sampler, LOW_R_TRACE_ID);
+    }
+    clock.advance(Duration.ofSeconds(1));
+    shouldSample(sampler, LOW_R_TRACE_ID);
+    assertThat(sampler.getPValue()).isEqualTo(4);
+    return sampler;
+  }
+
+  private static Context parentContext(TraceFlags traceFlags, TraceState traceState) {
+    return Context.root()
+        .with(
+            Span.wrap(
+                SpanContext.createFromRemoteParent(
+                    HIGH_R_TRACE_ID, PARENT_SPAN_ID, traceFlags, traceState)));
+  }
+
+  private static SamplingResult shouldSample(Sampler sampler, String traceId) {
+    return shouldSample(sampler, Context.root(), traceId);
+  }
+
+  private static SamplingResult shouldSample(
+      Sampler sampler, Context parentContext, String traceId) {
+    return sampler.shouldSample(
+        parentContext,
+        traceId,
+        SPAN_NAME,
+        SPAN_KIND,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+}